@@ -6,3 +6,33 @@ if (!db.getCollectionNames().includes('agenda-cycle')) {
 } else {
   print('Collection "agenda-cycle" already exists in database "voting-solution"');
 }
+
+if (!db.getCollectionNames().includes('votes')) {
+  db.createCollection('votes');
+  print('Collection "votes" created successfully in database "voting-solution"');
+} else {
+  print('Collection "votes" already exists in database "voting-solution"');
+}
+// Índices das consultas do agregado (ver MongoIndexBootstrap): agendaId, sessão (multikey), sessões abertas,
+// paginação por keyset e sessões pendentes de reconciliação de contadores
+db.agenda_cycle.createIndex({ agenda_id: 1 }, { unique: true, name: 'agenda_id' });
+db.agenda_cycle.createIndex({ 'sessions.session_id': 1 }, { name: 'sessions_session_id_idx' });
+db.agenda_cycle.createIndex({ 'sessions.status': 1, 'sessions.end_time': 1 }, { name: 'sessions_status_end_time_idx' });
+db.agenda_cycle.createIndex({ created_at: -1, _id: -1 }, { name: 'created_at_id_idx' });
+db.agenda_cycle.createIndex({ 'sessions.counters_reconciled': 1 }, { name: 'sessions_counters_reconciled_idx' });
+
+db.votes.createIndex({ session_id: 1, cpf: 1 }, { unique: true, name: 'session_cpf_unique_idx' });
+
+if (!db.getCollectionNames().includes('vote_buckets')) {
+  db.createCollection('vote_buckets');
+  print('Collection "vote_buckets" created successfully in database "voting-solution"');
+}
+db.vote_buckets.createIndex({ session_id: 1, bucket_seq: 1 }, { unique: true, name: 'session_bucket_seq_unique_idx' });
+db.vote_buckets.createIndex({ session_id: 1, 'votes.cpf': 1 }, { unique: true, name: 'session_cpf_bucket_unique_idx' });
+
+if (!db.getCollectionNames().includes('session_tally_shards')) {
+  db.createCollection('session_tally_shards');
+  print('Collection "session_tally_shards" created successfully in database "voting-solution"');
+}
+db.session_tally_shards.createIndex({ session_id: 1, shard: 1 }, { unique: true, name: 'session_shard_unique_idx' });
+db.session_tally_shards.createIndex({ agenda_id: 1, status: 1 }, { name: 'agenda_status_idx' });
@@ -0,0 +1,39 @@
+package br.com.naysinger.common.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da validação local de CPF. Rodar com ./gradlew jmh; com -prof gc confirma zero alocação em isValid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CpfBenchmark {
+
+    @Param({"52998224725", "529.982.247-25", "52998224726", "11111111111"})
+    public String cpf;
+
+    @Benchmark
+    public boolean isValid() {
+        return Cpf.isValid(cpf);
+    }
+
+    @Benchmark
+    public boolean regexShapeOnly() {
+        return cpf.matches("^\\d{11}$");
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consulta ao rol de eleitores importado com 1 milhão de CPFs. Rodar com ./gradlew jmh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VoterRollLookupBenchmark {
+
+    private static final int ROLL_SIZE = 1_000_000;
+
+    private Path tempDir;
+    private VoterRollCpfValidationClient client;
+    private String member;
+    private String nonMember;
+
+    @Setup(Level.Trial)
+    public void importRoll() throws IOException {
+        tempDir = Files.createTempDirectory("voter-roll-bench");
+        client = new VoterRollCpfValidationClient(tempDir.resolve("roll.bin"));
+        client.importCsv(Flux.range(100_000_000, ROLL_SIZE).map(VoterRollLookupBenchmark::withCheckDigits))
+            .block(Duration.ofMinutes(1));
+        if (client.size() != ROLL_SIZE) {
+            throw new IllegalStateException("Rol importado com " + client.size() + " CPFs");
+        }
+        member = withCheckDigits(100_500_000);
+        nonMember = withCheckDigits(200_000_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteRoll() throws IOException {
+        try (var files = Files.walk(tempDir)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public boolean containsMember() {
+        return client.contains(member);
+    }
+
+    @Benchmark
+    public boolean containsNonMember() {
+        return client.contains(nonMember);
+    }
+
+    /**
+     * CPF válido a partir de nove dígitos base seguidos dos dois dígitos verificadores.
+     */
+    private static String withCheckDigits(int base) {
+        String digits = String.valueOf(base);
+        int sum1 = 0;
+        int sum2 = 0;
+        for (int i = 0; i < 9; i++) {
+            int d = digits.charAt(i) - '0';
+            sum1 += d * (10 - i);
+            sum2 += d * (11 - i);
+        }
+        int dv1 = sum1 % 11 < 2 ? 0 : 11 - sum1 % 11;
+        sum2 += dv1 * 2;
+        int dv2 = sum2 % 11 < 2 ? 0 : 11 - sum2 % 11;
+        return digits + dv1 + dv2;
+    }
+}
@@ -2,36 +2,51 @@ package br.com.naysinger.api.controller.v1;
 
 import br.com.naysinger.api.dto.AgendaRequestDTO;
 import br.com.naysinger.api.dto.AgendaResponseDTO;
+import br.com.naysinger.api.dto.vote.LiveResultResponse;
 import br.com.naysinger.api.dto.vote.VoteResultResponse;
 import br.com.naysinger.api.dto.session.SessionRequestDTO;
 import br.com.naysinger.api.dto.vote.VoteRequestDTO;
+import br.com.naysinger.api.dto.vote.VoteSubmissionResult;
 import br.com.naysinger.api.mapper.AgendaMapper;
+import br.com.naysinger.common.pagination.PagedMapper;
+import br.com.naysinger.common.pagination.PagedResult;
+import br.com.naysinger.common.pagination.PaginationRequest;
+import br.com.naysinger.domain.model.Agenda;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import br.com.naysinger.common.enums.AgendaField;
+import br.com.naysinger.common.enums.ResponseView;
 import br.com.naysinger.common.enums.SessionStatus;
 import br.com.naysinger.common.exception.BusinessException;
-import br.com.naysinger.domain.model.Session;
-import br.com.naysinger.domain.model.VoteResult;
 import br.com.naysinger.service.AgendaService;
+import br.com.naysinger.service.EligibilityTokenService;
+import br.com.naysinger.service.LiveResultService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 @RestController
 @RequestMapping("/api/v1/agenda")
@@ -39,12 +54,29 @@ import java.util.Objects;
 public class AgendaController {
 	private static final Logger LOGGER = LoggerFactory.getLogger(AgendaController.class);
 
+	static final String ELIGIBILITY_TOKEN_HEADER = "X-Eligibility-Token";
+	private static final String VIEW_DESCRIPTION = " view=summary traz as sessões só com status, janela e total de votos (sem ler votos do banco); "
+			+ "view=full inclui os votos. fields=agendaId,title,... limita os campos lidos e retornados "
+			+ "(id, agendaId, title, description, status, createdAt, createdBy, sessions)";
+
 	private final AgendaService agendaService;
 	private final AgendaMapper agendaMapper;
+	private final EligibilityTokenService eligibilityTokenService;
+	private final PagedMapper pagedMapper;
+	private final LiveResultService liveResultService;
+	private final VoteSubmissionHandler voteSubmissionHandler;
+	private final int bulkVotesMaxInFlight;
 
-	public AgendaController(AgendaService agendaService, AgendaMapper agendaMapper) {
+	public AgendaController(AgendaService agendaService, AgendaMapper agendaMapper, EligibilityTokenService eligibilityTokenService,
+							PagedMapper pagedMapper, LiveResultService liveResultService, VoteSubmissionHandler voteSubmissionHandler,
+							@Value("${voting-solution.votes.bulk.max-in-flight:32}") int bulkVotesMaxInFlight) {
 		this.agendaService = agendaService;
 		this.agendaMapper = agendaMapper;
+		this.eligibilityTokenService = eligibilityTokenService;
+		this.pagedMapper = pagedMapper;
+		this.liveResultService = liveResultService;
+		this.voteSubmissionHandler = voteSubmissionHandler;
+		this.bulkVotesMaxInFlight = bulkVotesMaxInFlight;
 	}
 
 	@PostMapping
@@ -67,84 +99,115 @@ public class AgendaController {
 
 	@GetMapping("/{agendaId}")
 	@Operation(summary = "Buscar pauta por agendaId",
-			description = "Retorna os detalhes completos de uma pauta com suas sessões e votos")
+			description = "Retorna os detalhes de uma pauta com suas sessões (padrão view=full)." + VIEW_DESCRIPTION)
 	@ApiResponse(responseCode = "200", description = "Agenda encontrada com sucesso",
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = AgendaResponseDTO.class)))
 	@ApiResponse(responseCode = "404", description = "Agenda não encontrada",
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
 	@ApiResponse(responseCode = "500", description = "Erro interno do servidor",
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
-	public Mono<ResponseEntity<AgendaResponseDTO>> getAgendaByAgendaId(@PathVariable String agendaId) {
-		LOGGER.info("[getAgendaByAgendaId] Buscando agenda por agendaId={}", agendaId);
-		return agendaService.findByAgendaId(agendaId)
-				.map(agenda -> ResponseEntity.ok(agendaMapper.toResponse(agenda)))
+	public Mono<ResponseEntity<AgendaResponseDTO>> getAgendaByAgendaId(
+			@PathVariable String agendaId,
+			@RequestParam(required = false) String view,
+			@RequestParam(required = false) String fields) {
+		LOGGER.info("[getAgendaByAgendaId] Buscando agenda por agendaId={}, view={}, fields={}", agendaId, view, fields);
+		ResponseView responseView = ResponseView.parse(view, ResponseView.FULL);
+		Set<AgendaField> selected = AgendaField.parse(fields);
+		return agendaService.findByAgendaId(agendaId, selected)
+				.flatMap(agenda -> toResponse(agenda, responseView, selected))
+				.map(ResponseEntity::ok)
 				.onErrorReturn(BusinessException.class, ResponseEntity.notFound().build())
 				.doOnError(e -> LOGGER.error("[getAgendaByAgendaId] Erro ao buscar agenda. agendaId={}", agendaId, e));
 	}
 
 	@GetMapping("/session/{sessionId}")
 	@Operation(summary = "Buscar pauta por sessionId",
-			description = "Retorna os detalhes completos de uma pauta através do ID da sessão")
+			description = "Retorna os detalhes de uma pauta através do ID da sessão (padrão view=full)." + VIEW_DESCRIPTION)
 	@ApiResponse(responseCode = "200", description = "Agenda encontrada com sucesso",
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = AgendaResponseDTO.class)))
 	@ApiResponse(responseCode = "404", description = "Sessão não encontrada",
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
 	@ApiResponse(responseCode = "500", description = "Erro interno do servidor",
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
-	public Mono<ResponseEntity<AgendaResponseDTO>> getAgendaBySessionId(@PathVariable String sessionId) {
-		LOGGER.info("[getAgendaBySessionId] Buscando agenda por sessionId={}", sessionId);
-		return agendaService.findBySessionId(sessionId)
+	public Mono<ResponseEntity<AgendaResponseDTO>> getAgendaBySessionId(
+			@PathVariable String sessionId,
+			@RequestParam(required = false) String view,
+			@RequestParam(required = false) String fields) {
+		LOGGER.info("[getAgendaBySessionId] Buscando agenda por sessionId={}, view={}, fields={}", sessionId, view, fields);
+		ResponseView responseView = ResponseView.parse(view, ResponseView.FULL);
+		Set<AgendaField> selected = AgendaField.parse(fields);
+		return agendaService.findBySessionId(sessionId, selected)
 				.doOnError(e -> LOGGER.error("[getAgendaBySessionId] Erro ao buscar por sessionId. sessionId={}", sessionId, e))
-				.map(agendaMapper::toResponse)
+				.flatMap(agenda -> toResponse(agenda, responseView, selected))
 				.map(ResponseEntity::ok);
 	}
 
-	@GetMapping
+	@GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
 	@Operation(summary = "Listar todas as pautas",
-			description = "Retorna todas as pautas do sistema")
+			description = "Retorna todas as pautas do sistema, transmitidas do cursor do MongoDB conforme o cliente consome: "
+					+ "array JSON gerado incrementalmente, ou uma pauta por linha com Accept: application/x-ndjson (text/event-stream para SSE). "
+					+ "Padrão view=summary." + VIEW_DESCRIPTION)
 	@ApiResponse(responseCode = "200", description = "Agendas listadas com sucesso",
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = AgendaResponseDTO.class)))
 	@ApiResponse(responseCode = "500", description = "Erro interno do servidor",
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
-	public Mono<ResponseEntity<Flux<AgendaResponseDTO>>> getAllAgendas() {
-		LOGGER.info("[getAllAgendas] Listando agendas");
-		return agendaService.findAll()
-				.collectList()
-				.doOnError(e -> LOGGER.error("[getAllAgendas] Erro ao listar agendas", e))
-				.flatMap(agendas -> {
-					if (agendas.isEmpty()) {
-						LOGGER.info("[getAllAgendas] Nenhuma agenda encontrada");
-						return Mono.just(ResponseEntity.ok(Flux.empty()));
-					}
-					Flux<AgendaResponseDTO> responseFlux = Flux.fromIterable(agendas)
-							.map(agendaMapper::toResponse)
-							.filter(Objects::nonNull);
-					return Mono.just(ResponseEntity.ok(responseFlux));
-				});
+	public Flux<AgendaResponseDTO> getAllAgendas(
+			@RequestParam(required = false) String view,
+			@RequestParam(required = false) String fields) {
+		LOGGER.info("[getAllAgendas] Listando agendas. view={}, fields={}", view, fields);
+		ResponseView responseView = ResponseView.parse(view, ResponseView.SUMMARY);
+		Set<AgendaField> selected = AgendaField.parse(fields);
+		return agendaService.findAll(selected)
+				.concatMap(agenda -> toResponse(agenda, responseView, selected))
+				.filter(Objects::nonNull)
+				.doOnError(e -> LOGGER.error("[getAllAgendas] Erro ao listar agendas", e));
+	}
+
+	@GetMapping("/page")
+	@Operation(summary = "Listar pautas paginadas",
+			description = "Retorna uma página de pautas ordenadas por data de criação (sortDirection=asc|desc). "
+					+ "Para a próxima página, envie o next_cursor recebido em cursor: a latência é a mesma em qualquer página. "
+					+ "Sem cursor, page é aceito apenas para as primeiras páginas; includeTotal=true calcula total_elements. "
+					+ "Padrão view=summary." + VIEW_DESCRIPTION)
+	@ApiResponse(responseCode = "200", description = "Página de agendas obtida com sucesso",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResult.class)))
+	@ApiResponse(responseCode = "400", description = "Parâmetros de paginação ou cursor inválidos",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
+	@ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
+	public Mono<ResponseEntity<PagedResult<AgendaResponseDTO>>> getAgendaPage(
+			PaginationRequest pagination,
+			@RequestParam(required = false) String view,
+			@RequestParam(required = false) String fields) {
+		LOGGER.info("[getAgendaPage] Listando agendas paginadas. page={}, size={}, cursor={}, view={}, fields={}", pagination.getPage(), pagination.getSize(), pagination.getCursor() != null, view, fields);
+		ResponseView responseView = ResponseView.parse(view, ResponseView.SUMMARY);
+		Set<AgendaField> selected = AgendaField.parse(fields);
+		return agendaService.findPage(pagination, selected)
+				.flatMap(page -> pagedMapper.mapReactive(page, agendas -> Flux.fromIterable(agendas)
+						.concatMap(agenda -> toResponse(agenda, responseView, selected))
+						.collectList()))
+				.doOnError(e -> LOGGER.error("[getAgendaPage] Erro ao listar agendas paginadas", e))
+				.map(ResponseEntity::ok);
 	}
 
-	@GetMapping("/active")
+	@GetMapping(value = "/active", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
 	@Operation(summary = "Listar pautas com sessões ativas",
-			description = "Retorna todas as pautas que possuem sessões de votação ativas")
+			description = "Retorna todas as pautas que possuem sessões de votação ativas, transmitidas como em GET /api/v1/agenda "
+					+ "(array JSON incremental, application/x-ndjson ou text/event-stream). Padrão view=summary." + VIEW_DESCRIPTION)
 	@ApiResponse(responseCode = "200", description = "Agendas com sessões ativas listadas com sucesso",
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = AgendaResponseDTO.class)))
 	@ApiResponse(responseCode = "500", description = "Erro interno do servidor",
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
-	public Mono<ResponseEntity<Flux<AgendaResponseDTO>>> getActiveSessions() {
-		LOGGER.info("[getActiveSessions] Listando agendas com sessões ativas");
-		return agendaService.findActiveSessions()
-				.collectList()
-				.doOnError(e -> LOGGER.error("[getActiveSessions] Erro ao listar sessões ativas", e))
-				.flatMap(agendas -> {
-					if (agendas.isEmpty()) {
-						LOGGER.info("[getActiveSessions] Nenhuma agenda com sessão ativa encontrada");
-						return Mono.just(ResponseEntity.ok(Flux.empty()));
-					}
-					Flux<AgendaResponseDTO> responseFlux = Flux.fromIterable(agendas)
-							.map(agendaMapper::toResponse)
-							.filter(Objects::nonNull);
-					return Mono.just(ResponseEntity.ok(responseFlux));
-				});
+	public Flux<AgendaResponseDTO> getActiveSessions(
+			@RequestParam(required = false) String view,
+			@RequestParam(required = false) String fields) {
+		LOGGER.info("[getActiveSessions] Listando agendas com sessões ativas. view={}, fields={}", view, fields);
+		ResponseView responseView = ResponseView.parse(view, ResponseView.SUMMARY);
+		Set<AgendaField> selected = AgendaField.parse(fields);
+		return agendaService.findActiveSessions(selected)
+				.concatMap(agenda -> toResponse(agenda, responseView, selected))
+				.filter(Objects::nonNull)
+				.doOnError(e -> LOGGER.error("[getActiveSessions] Erro ao listar sessões ativas", e));
 	}
 
 	@PostMapping("/{agendaId}/sessions")
@@ -213,7 +276,8 @@ public class AgendaController {
 
 	@PostMapping("/session/{sessionId}/vote")
 	@Operation(summary = "Registrar voto",
-			description = "Registra um voto em uma sessão ativa")
+			description = "Registra um voto em uma sessão ativa. Com tokens de elegibilidade habilitados, a resposta traz o header "
+					+ ELIGIBILITY_TOKEN_HEADER + ", que reenviado nos próximos votos dispensa a revalidação do CPF até expirar")
 	@ApiResponse(responseCode = "201")
 	@ApiResponse(responseCode = "400", description = "Requisição inválida ou sessão não ativa/expirada",
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
@@ -225,13 +289,49 @@ public class AgendaController {
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
 	public Mono<ResponseEntity<Void>> addVote(
 			@PathVariable String sessionId,
+			@RequestHeader(name = ELIGIBILITY_TOKEN_HEADER, required = false) String eligibilityToken,
 			@Valid @RequestBody VoteRequestDTO request) {
 		String maskedCpf = request.getCpf() != null && request.getCpf().length() >= 4 ? "***********".substring(0, Math.max(0, request.getCpf().length() - 4)) + request.getCpf().substring(request.getCpf().length() - 4) : "***";
 		LOGGER.info("[addVote] Registrando voto. sessionId={}, userId={}, cpfMasked={}, voteType={}", sessionId, request.getUserId(), maskedCpf, request.getVoteType());
-		return agendaService.addVote(sessionId, request.getUserId(), request.getCpf(), request.getVoteType())
-				.doOnSuccess(a -> LOGGER.info("[addVote] Voto computado com sucesso. sessionId={}, userId={}", sessionId, request.getUserId()))
+		return agendaService.addVote(sessionId, request.getUserId(), request.getCpf(), request.getVoteType(), eligibilityToken)
+				.doOnSuccess(outcome -> LOGGER.info("[addVote] Voto computado com sucesso. sessionId={}, userId={}", sessionId, request.getUserId()))
 				.doOnError(e -> LOGGER.warn("[addVote] Falha ao registrar voto. sessionId={}, userId={}", sessionId, request.getUserId(), e))
-				.flatMap(agenda -> Mono.just(ResponseEntity.status(HttpStatus.CREATED).build()));
+				.flatMap(outcome -> {
+					String issued = eligibilityTokenService.issueIfNeeded(eligibilityToken, request.getCpf());
+					ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CREATED);
+					if (issued != null) {
+						response.header(ELIGIBILITY_TOKEN_HEADER, issued);
+					}
+					return Mono.just(response.build());
+				});
+	}
+
+	@PostMapping(value = "/session/{sessionId}/votes", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "Registrar votos em lote (NDJSON)",
+			description = "Recebe um VoteRequestDTO por linha (application/x-ndjson) e devolve, também em NDJSON e na ordem das linhas, "
+					+ "um resultado por linha (requestId = número da linha, status, error, message). As linhas são lidas e processadas "
+					+ "conforme chegam, com no máximo voting-solution.votes.bulk.max-in-flight votos em andamento; o limite de memória "
+					+ "vale por linha, não para o lote. Linhas duplicadas, inválidas ou de CPF não apto não interrompem o lote")
+	@ApiResponse(responseCode = "200", description = "Resultados por linha",
+			content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = VoteSubmissionResult.class)))
+	public Flux<VoteSubmissionResult> addVotes(@PathVariable String sessionId, @RequestBody Flux<String> lines) {
+		LOGGER.info("[addVotes] Recebendo lote de votos. sessionId={}, maxInFlight={}", sessionId, bulkVotesMaxInFlight);
+		AtomicLong received = new AtomicLong();
+		AtomicLong accepted = new AtomicLong();
+		return lines
+				.index()
+				.filter(line -> !line.getT2().isBlank())
+				.flatMapSequential(line -> {
+					received.incrementAndGet();
+					return voteSubmissionHandler.submitLine(String.valueOf(line.getT1() + 1), sessionId, line.getT2());
+				}, bulkVotesMaxInFlight)
+				.doOnNext(result -> {
+					if (result.error() == null) {
+						accepted.incrementAndGet();
+					}
+				})
+				.doFinally(signal -> LOGGER.info("[addVotes] Lote de votos encerrado. sessionId={}, signal={}, received={}, accepted={}",
+						sessionId, signal, received.get(), accepted.get()));
 	}
 
 	@GetMapping("/session/{sessionId}/result")
@@ -247,22 +347,56 @@ public class AgendaController {
 			content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
 	public Mono<ResponseEntity<Object>> getVoteResult(@PathVariable String sessionId) {
 		LOGGER.info("[getVoteResult] Solicitando resultado da votação. sessionId={}", sessionId);
-		return agendaService.findBySessionId(sessionId)
+		return agendaService.findSessionWindow(sessionId)
 				.doOnError(e -> LOGGER.error("[getVoteResult] Erro ao obter sessão para resultado. sessionId={}", sessionId, e))
-				.flatMap(agenda -> {
-					Session session = agenda.getSessionById(sessionId);
-					if (session == null || session.getStatus() != SessionStatus.CLOSED) {
-						LOGGER.warn("[getVoteResult] Sessão não fechada ou inexistente. sessionId={}", sessionId);
-						return Mono.just(ResponseEntity.badRequest().body("Sessão ainda não foi fechada"));
+				.flatMap(window -> {
+					if (window.status() != SessionStatus.CLOSED) {
+						LOGGER.warn("[getVoteResult] Sessão não fechada. sessionId={}", sessionId);
+						return Mono.just(ResponseEntity.badRequest().<Object>body("Sessão ainda não foi fechada"));
 					}
-					VoteResult result = session.getVoteResult();
-					LOGGER.info("[getVoteResult] Resultado consolidado. sessionId={}, totalVotes={}", sessionId, result.totalVotes());
-					return Mono.just(ResponseEntity.ok(new VoteResultResponse(
-							result.simVotes(),
-							result.naoVotes(),
-							result.totalVotes(),
-							result.getWinner()
-					)));
+					return agendaService.findVoteResult(sessionId)
+							.<ResponseEntity<Object>>map(result -> {
+								LOGGER.info("[getVoteResult] Resultado consolidado. sessionId={}, totalVotes={}", sessionId, result.totalVotes());
+								return ResponseEntity.ok(new VoteResultResponse(
+										result.simVotes(),
+										result.naoVotes(),
+										result.totalVotes(),
+										result.getWinner()
+								));
+							});
 				});
 	}
+
+	@GetMapping(value = "/session/{sessionId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "Acompanhar a votação ao vivo",
+			description = "Server-Sent Events com a parcial SIM/NÃO/total da sessão (evento \"tally\"): a parcial atual na conexão "
+					+ "e uma nova a cada voto computado, alimentadas por um único change stream do MongoDB por sessão. "
+					+ "Clientes lentos recebem só a parcial mais recente. O fluxo termina quando a sessão é fechada ou a janela acaba")
+	@ApiResponse(responseCode = "200", description = "Fluxo de parciais iniciado",
+			content = @Content(mediaType = "text/event-stream", schema = @Schema(implementation = LiveResultResponse.class)))
+	@ApiResponse(responseCode = "400", description = "Sessão não encontrada",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
+	public Flux<ServerSentEvent<LiveResultResponse>> getLiveResult(@PathVariable String sessionId) {
+		LOGGER.info("[getLiveResult] Cliente acompanhando parcial ao vivo. sessionId={}", sessionId);
+		return liveResultService.watch(sessionId)
+				.map(tally -> ServerSentEvent.builder(new LiveResultResponse(
+								tally.sessionId(),
+								tally.status(),
+								tally.result().simVotes(),
+								tally.result().naoVotes(),
+								tally.result().totalVotes()))
+						.event("tally")
+						.build())
+				.doOnError(e -> LOGGER.error("[getLiveResult] Erro na parcial ao vivo. sessionId={}", sessionId, e));
+	}
+
+	/**
+	 * Os votos só são lidos (coleção "votes" e legados embutidos) na visão FULL com as sessões selecionadas.
+	 */
+	private Mono<AgendaResponseDTO> toResponse(Agenda agenda, ResponseView view, Set<AgendaField> fields) {
+		Mono<Agenda> source = view == ResponseView.FULL && fields.contains(AgendaField.SESSIONS)
+				? agenda.withLoadedVotes()
+				: Mono.just(agenda);
+		return source.map(loaded -> agendaMapper.toResponse(loaded, view, fields));
+	}
 }
@@ -0,0 +1,51 @@
+package br.com.naysinger.api.controller.v1;
+
+import br.com.naysinger.api.dto.vote.VoteCommandDTO;
+import br.com.naysinger.api.dto.vote.VoteSubmissionResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ingestão de votos por RSocket (TCP e WebSocket em /rsocket) para gateways de alto volume: uma conexão, um
+ * request-channel e nenhum cabeçalho HTTP por voto. O gateway envia VoteCommandDTO e recebe um resultado por voto,
+ * correlacionado pelo requestId. No máximo max-in-flight votos por canal ficam em processamento: o servidor só
+ * pede (REQUEST_N) novos votos conforme os anteriores terminam e o gateway consome os resultados.
+ */
+@Controller
+public class VoteRSocketController {
+	private static final Logger LOGGER = LoggerFactory.getLogger(VoteRSocketController.class);
+
+	private final VoteSubmissionHandler voteSubmissionHandler;
+	private final int maxInFlight;
+
+	public VoteRSocketController(VoteSubmissionHandler voteSubmissionHandler,
+								 @Value("${voting-solution.rsocket.votes.max-in-flight:64}") int maxInFlight) {
+		this.voteSubmissionHandler = voteSubmissionHandler;
+		this.maxInFlight = maxInFlight;
+	}
+
+	@MessageMapping("votes.channel")
+	public Flux<VoteSubmissionResult> voteChannel(Flux<VoteCommandDTO> commands) {
+		AtomicLong received = new AtomicLong();
+		AtomicLong accepted = new AtomicLong();
+		return commands
+				.doOnSubscribe(s -> LOGGER.info("[voteChannel] Canal de votos aberto. maxInFlight={}", maxInFlight))
+				.flatMap(command -> {
+					received.incrementAndGet();
+					return voteSubmissionHandler.submit(command.getRequestId(), command.getSessionId(), command, command.getEligibilityToken());
+				}, maxInFlight)
+				.doOnNext(result -> {
+					if (result.error() == null) {
+						accepted.incrementAndGet();
+					}
+				})
+				.doFinally(signal -> LOGGER.info("[voteChannel] Canal de votos encerrado. signal={}, received={}, accepted={}",
+						signal, received.get(), accepted.get()));
+	}
+}
@@ -0,0 +1,118 @@
+package br.com.naysinger.api.controller.v1;
+
+import br.com.naysinger.api.dto.vote.VoteRequestDTO;
+import br.com.naysinger.api.dto.vote.VoteSubmissionResult;
+import br.com.naysinger.common.exception.BusinessException;
+import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.common.exception.CpfValidationRejectedException;
+import br.com.naysinger.common.exception.CpfValidationUnavailableException;
+import br.com.naysinger.common.exception.DuplicateCpfException;
+import br.com.naysinger.common.exception.VoteIngestionOverloadedException;
+import br.com.naysinger.service.AgendaService;
+import br.com.naysinger.service.EligibilityTokenService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.stream.Collectors;
+
+/**
+ * Registra um voto recebido fora do POST /vote individual (canal RSocket, lote NDJSON) com a mesma validação e a
+ * mesma admissão do AgendaService. Falhas viram um resultado com o status e o erro que o GlobalExceptionHandler
+ * devolveria, sem interromper os demais votos do fluxo.
+ */
+@Component
+class VoteSubmissionHandler {
+	private static final Logger LOGGER = LoggerFactory.getLogger(VoteSubmissionHandler.class);
+
+	static final String ACCEPTED_MESSAGE = "Voto computado com sucesso, obrigado.";
+
+	private final AgendaService agendaService;
+	private final EligibilityTokenService eligibilityTokenService;
+	private final ObjectMapper objectMapper;
+	// Validator do contexto: as mesmas anotações de VoteRequestDTO que o @Valid aplica no POST /vote
+	private final Validator validator;
+
+	VoteSubmissionHandler(AgendaService agendaService, EligibilityTokenService eligibilityTokenService, ObjectMapper objectMapper,
+						  Validator validator) {
+		this.agendaService = agendaService;
+		this.eligibilityTokenService = eligibilityTokenService;
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+	}
+
+	/**
+	 * Registra um voto recebido como uma linha JSON (lote NDJSON); linha que não é um VoteRequestDTO vira 400.
+	 * O lote não devolve token de elegibilidade por linha, então nenhum token é assinado.
+	 */
+	Mono<VoteSubmissionResult> submitLine(String requestId, String sessionId, String line) {
+		VoteRequestDTO request;
+		try {
+			request = objectMapper.readValue(line, VoteRequestDTO.class);
+		} catch (JsonProcessingException e) {
+			request = null;
+		}
+		if (request == null) {
+			return Mono.just(rejected(requestId, HttpStatus.BAD_REQUEST, "Erro de validação", "Linha não é um JSON de voto válido"));
+		}
+		return submit(requestId, sessionId, request, null, false);
+	}
+
+	/**
+	 * Registra um voto do canal RSocket; o resultado traz um novo token de elegibilidade quando o enviado não serve mais.
+	 */
+	Mono<VoteSubmissionResult> submit(String requestId, String sessionId, VoteRequestDTO request, String eligibilityToken) {
+		return submit(requestId, sessionId, request, eligibilityToken, true);
+	}
+
+	private Mono<VoteSubmissionResult> submit(String requestId, String sessionId, VoteRequestDTO request, String eligibilityToken,
+											  boolean issueToken) {
+		String violations = validator.validate(request).stream()
+				.map(ConstraintViolation::getMessage)
+				.sorted()
+				.collect(Collectors.joining("; "));
+		if (!violations.isEmpty()) {
+			return Mono.just(rejected(requestId, HttpStatus.BAD_REQUEST, "Erro de validação", violations));
+		}
+		return agendaService.addVote(sessionId, request.getUserId(), request.getCpf(), request.getVoteType(), eligibilityToken)
+				.map(outcome -> new VoteSubmissionResult(requestId, HttpStatus.CREATED.value(), null, ACCEPTED_MESSAGE,
+						issueToken ? eligibilityTokenService.issueIfNeeded(eligibilityToken, request.getCpf()) : null))
+				.onErrorResume(e -> Mono.just(toResult(requestId, sessionId, e)));
+	}
+
+	static VoteSubmissionResult rejected(String requestId, HttpStatus status, String error, String message) {
+		return new VoteSubmissionResult(requestId, status.value(), error, message, null);
+	}
+
+	private static VoteSubmissionResult toResult(String requestId, String sessionId, Throwable e) {
+		if (e instanceof DuplicateCpfException) {
+			return rejected(requestId, HttpStatus.CONFLICT, "CPF duplicado", e.getMessage());
+		}
+		if (e instanceof BusinessException) {
+			return rejected(requestId, HttpStatus.BAD_REQUEST, "Erro de negócio", e.getMessage());
+		}
+		if (e instanceof CpfNotFoundException) {
+			return rejected(requestId, HttpStatus.NOT_FOUND, "CPF não apto ou inválido", e.getMessage());
+		}
+		if (e instanceof VoteIngestionOverloadedException) {
+			return rejected(requestId, HttpStatus.TOO_MANY_REQUESTS, "Muitas requisições", e.getMessage());
+		}
+		if (e instanceof CpfValidationUnavailableException) {
+			return rejected(requestId, HttpStatus.SERVICE_UNAVAILABLE, "Serviço indisponível", e.getMessage());
+		}
+		if (e instanceof CpfValidationRejectedException) {
+			return rejected(requestId, HttpStatus.BAD_GATEWAY, "Validação de CPF recusada", e.getMessage());
+		}
+		if (e instanceof IllegalArgumentException) {
+			return rejected(requestId, HttpStatus.BAD_REQUEST, "Argumento inválido", e.getMessage());
+		}
+		LOGGER.error("[submit] Erro inesperado ao registrar voto. sessionId={}, requestId={}", sessionId, requestId, e);
+		return rejected(requestId, HttpStatus.INTERNAL_SERVER_ERROR, "Erro interno do servidor", "Ocorreu um erro inesperado");
+	}
+}
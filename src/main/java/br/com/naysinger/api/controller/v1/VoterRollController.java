@@ -0,0 +1,58 @@
+package br.com.naysinger.api.controller.v1;
+
+import br.com.naysinger.domain.model.VoterRollImport;
+import br.com.naysinger.domain.port.VoterRollPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/voter-roll")
+@ConditionalOnProperty(name = "voting-solution.cpf.validation.client", havingValue = "roll")
+@Tag(name = "Voter Roll", description = "API para importação do rol de eleitores usado na validação de CPF")
+public class VoterRollController {
+	private static final Logger LOGGER = LoggerFactory.getLogger(VoterRollController.class);
+
+	private final VoterRollPort voterRollPort;
+
+	public VoterRollController(VoterRollPort voterRollPort) {
+		this.voterRollPort = voterRollPort;
+	}
+
+	@PostMapping(consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+	@Operation(summary = "Importar rol de eleitores",
+			description = "Recebe um CSV com o CPF na primeira coluna e substitui o rol atual ao final da importação")
+	@ApiResponse(responseCode = "200", description = "Rol importado com sucesso",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = VoterRollImport.class)))
+	@ApiResponse(responseCode = "500", description = "Erro interno do servidor",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
+	public Mono<ResponseEntity<VoterRollImport>> importRoll(@RequestBody Flux<String> lines) {
+		LOGGER.info("[importRoll] Iniciando importação do rol de eleitores");
+		return voterRollPort.importCsv(lines)
+				.doOnError(e -> LOGGER.error("[importRoll] Erro ao importar rol de eleitores", e))
+				.map(ResponseEntity::ok);
+	}
+
+	@GetMapping
+	@Operation(summary = "Consultar rol de eleitores", description = "Retorna a quantidade de CPFs no rol atual")
+	@ApiResponse(responseCode = "200", description = "Rol consultado com sucesso")
+	public Mono<ResponseEntity<Map<String, Long>>> getRoll() {
+		return Mono.just(ResponseEntity.ok(Map.of("voters", voterRollPort.size())));
+	}
+}
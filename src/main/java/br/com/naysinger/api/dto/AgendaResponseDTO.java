@@ -1,14 +1,29 @@
 package br.com.naysinger.api.dto;
 
 import br.com.naysinger.api.dto.session.SessionDTO;
+import br.com.naysinger.common.enums.AgendaField;
 import br.com.naysinger.common.enums.AgendaStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * Pauta na resposta. Só os campos selecionados (fields=) são serializados; um campo selecionado sem valor sai como null.
+ */
+@JsonSerialize(using = AgendaResponseDTO.SelectedFieldsSerializer.class)
 public class AgendaResponseDTO {
     
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    
     // Dados da Agenda
     private String id;
     private String agendaId;
@@ -24,6 +39,10 @@ public class AgendaResponseDTO {
     // Dados das Sessões
     private List<SessionDTO> sessions;
     
+    // Campos selecionados pelo chamador (fields=); não faz parte do JSON
+    @JsonIgnore
+    private Set<AgendaField> selectedFields = AgendaField.ALL;
+    
     // Construtor padrão
     public AgendaResponseDTO() {}
     
@@ -105,4 +124,48 @@ public class AgendaResponseDTO {
     public void setSessions(List<SessionDTO> sessions) {
         this.sessions = sessions;
     }
+    
+    @JsonIgnore
+    public Set<AgendaField> getSelectedFields() {
+        return selectedFields;
+    }
+    
+    @JsonIgnore
+    public void setSelectedFields(Set<AgendaField> selectedFields) {
+        this.selectedFields = selectedFields;
+    }
+    
+    private Object valueOf(AgendaField field) {
+        return switch (field) {
+            case ID -> id;
+            case AGENDA_ID -> agendaId;
+            case TITLE -> title;
+            case DESCRIPTION -> description;
+            case STATUS -> status;
+            case CREATED_AT -> createdAt == null ? null : CREATED_AT_FORMAT.format(createdAt);
+            case CREATED_BY -> createdBy;
+            case SESSIONS -> sessions;
+        };
+    }
+    
+    /**
+     * Escreve os campos selecionados, na ordem de AgendaField, incluindo os nulos; os não selecionados são omitidos.
+     */
+    static final class SelectedFieldsSerializer extends StdSerializer<AgendaResponseDTO> {
+        
+        SelectedFieldsSerializer() {
+            super(AgendaResponseDTO.class);
+        }
+        
+        @Override
+        public void serialize(AgendaResponseDTO dto, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject(dto);
+            for (AgendaField field : AgendaField.values()) {
+                if (dto.selectedFields.contains(field)) {
+                    provider.defaultSerializeField(field.getName(), dto.valueOf(field), generator);
+                }
+            }
+            generator.writeEndObject();
+        }
+    }
 }
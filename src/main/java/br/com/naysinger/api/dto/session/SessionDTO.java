@@ -3,6 +3,7 @@ package br.com.naysinger.api.dto.session;
 import br.com.naysinger.api.dto.vote.VoteDTO;
 import br.com.naysinger.common.enums.SessionStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +20,9 @@ public class SessionDTO {
     
     private SessionStatus status;
     private Integer totalVotes;
+    
+    // Ausente na visão resumida (view=summary)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<VoteDTO> votes;
     
     public SessionDTO() {}
@@ -0,0 +1,7 @@
+package br.com.naysinger.api.dto.vote;
+
+import br.com.naysinger.common.enums.SessionStatus;
+
+public record LiveResultResponse(String sessionId, SessionStatus status, long simVotes, long naoVotes, long totalVotes) {
+
+}
@@ -0,0 +1,48 @@
+package br.com.naysinger.api.dto.vote;
+
+/**
+ * Voto enviado pelo canal RSocket: os dados de VoteRequestDTO mais a sessão, um identificador do gateway
+ * para correlacionar o resultado e o token de elegibilidade opcional.
+ */
+public class VoteCommandDTO extends VoteRequestDTO {
+    
+    private String requestId;
+    private String sessionId;
+    private String eligibilityToken;
+    
+    // Construtor padrão
+    public VoteCommandDTO() {}
+    
+    // Construtor com todos os campos
+    public VoteCommandDTO(String requestId, String sessionId, String userId, String cpf, String voteType, String eligibilityToken) {
+        super(userId, cpf, voteType);
+        this.requestId = requestId;
+        this.sessionId = sessionId;
+        this.eligibilityToken = eligibilityToken;
+    }
+    
+    // Getters e Setters
+    public String getRequestId() {
+        return requestId;
+    }
+    
+    public void setRequestId(String requestId) {
+        this.requestId = requestId;
+    }
+    
+    public String getSessionId() {
+        return sessionId;
+    }
+    
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+    
+    public String getEligibilityToken() {
+        return eligibilityToken;
+    }
+    
+    public void setEligibilityToken(String eligibilityToken) {
+        this.eligibilityToken = eligibilityToken;
+    }
+}
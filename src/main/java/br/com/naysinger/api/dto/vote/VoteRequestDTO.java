@@ -1,5 +1,6 @@
 package br.com.naysinger.api.dto.vote;
 
+import br.com.naysinger.common.validation.ValidCpf;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 
@@ -9,7 +10,7 @@ public class VoteRequestDTO {
     private String userId;
     
     @NotBlank(message = "O CPF é obrigatório")
-    @Pattern(regexp = "^\\d{11}$", message = "CPF deve conter exatamente 11 dígitos")
+    @ValidCpf(message = "CPF inválido: informe 11 dígitos (com ou sem pontos e hífen) e dígitos verificadores válidos")
     private String cpf;
     
     @NotBlank(message = "O tipo de voto é obrigatório")
@@ -0,0 +1,11 @@
+package br.com.naysinger.api.dto.vote;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Resultado de um voto recebido em lote ou por canal: status e erro equivalentes aos do POST /vote individual.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record VoteSubmissionResult(String requestId, int status, String error, String message, String eligibilityToken) {
+
+}
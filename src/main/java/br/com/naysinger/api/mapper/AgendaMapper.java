@@ -3,11 +3,17 @@ package br.com.naysinger.api.mapper;
 import br.com.naysinger.api.dto.AgendaRequestDTO;
 import br.com.naysinger.api.dto.AgendaResponseDTO;
 import br.com.naysinger.api.dto.session.SessionDTO;
+import br.com.naysinger.common.enums.AgendaField;
+import br.com.naysinger.common.enums.ResponseView;
 import br.com.naysinger.domain.model.Agenda;
+import br.com.naysinger.domain.model.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -59,10 +65,38 @@ public class AgendaMapper {
         dto.setCreatedAt(agenda.getCreatedAt());
         dto.setCreatedBy(agenda.getCreatedBy());
         
-        // Converter sessões se existirem usando o SessionMapper
-        if (agenda.getSessions() != null && !agenda.getSessions().isEmpty()) {
-            List<SessionDTO> sessions = agenda.getSessions().stream()
-                .map(sessionMapper::toDTO)
+        // Converter sessões usando o SessionMapper; pauta sem sessões sai com lista vazia
+        List<SessionDTO> sessions = agenda.getSessions() == null ? new ArrayList<>() : agenda.getSessions().stream()
+            .map(sessionMapper::toDTO)
+            .collect(Collectors.toList());
+        dto.setSessions(sessions);
+        
+        return dto;
+    }
+    
+    /**
+     * Converte AgendaCycle (domínio) para AgendaResponseDTO apenas com os campos selecionados;
+     * na visão SUMMARY as sessões saem sem a lista de votos
+     */
+    public AgendaResponseDTO toResponse(Agenda agenda, ResponseView view, Set<AgendaField> fields) {
+        if (agenda == null) {
+            return null;
+        }
+        
+        AgendaResponseDTO dto = new AgendaResponseDTO();
+        dto.setSelectedFields(fields);
+        if (fields.contains(AgendaField.ID)) dto.setId(agenda.getId());
+        if (fields.contains(AgendaField.AGENDA_ID)) dto.setAgendaId(agenda.getAgendaId());
+        if (fields.contains(AgendaField.TITLE)) dto.setTitle(agenda.getTitle());
+        if (fields.contains(AgendaField.DESCRIPTION)) dto.setDescription(agenda.getDescription());
+        if (fields.contains(AgendaField.STATUS)) dto.setStatus(agenda.getStatus());
+        if (fields.contains(AgendaField.CREATED_AT)) dto.setCreatedAt(agenda.getCreatedAt());
+        if (fields.contains(AgendaField.CREATED_BY)) dto.setCreatedBy(agenda.getCreatedBy());
+        
+        if (fields.contains(AgendaField.SESSIONS)) {
+            Function<Session, SessionDTO> toSession = view == ResponseView.FULL ? sessionMapper::toDTO : sessionMapper::toSummaryDTO;
+            List<SessionDTO> sessions = agenda.getSessions() == null ? new ArrayList<>() : agenda.getSessions().stream()
+                .map(toSession)
                 .collect(Collectors.toList());
             dto.setSessions(sessions);
         }
@@ -38,6 +38,24 @@ public class SessionMapper {
         return dto;
     }
     
+    /**
+     * Converte Session (domínio) para SessionDTO resumido: status, janela e total de votos, sem a lista de votos
+     */
+    public SessionDTO toSummaryDTO(Session session) {
+        if (session == null) {
+            return null;
+        }
+        
+        SessionDTO dto = new SessionDTO();
+        dto.setSessionId(session.getSessionId());
+        dto.setStartTime(session.getStartTime());
+        dto.setEndTime(session.getEndTime());
+        dto.setStatus(session.getStatus());
+        dto.setTotalVotes(session.getTotalVotes());
+        
+        return dto;
+    }
+    
     /**
      * Converte Vote (domínio) para VoteDTO
      */
@@ -0,0 +1,54 @@
+package br.com.naysinger.common.enums;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Campos da pauta selecionáveis pelo parâmetro fields, com o nome usado na resposta.
+ */
+public enum AgendaField {
+    ID("id"),
+    AGENDA_ID("agendaId"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    CREATED_AT("createdAt"),
+    CREATED_BY("createdBy"),
+    SESSIONS("sessions");
+
+    public static final Set<AgendaField> ALL = Collections.unmodifiableSet(EnumSet.allOf(AgendaField.class));
+
+    private final String name;
+
+    AgendaField(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Lê a lista separada por vírgula (ex.: fields=agendaId,title,sessions); ausente seleciona todos os campos.
+     */
+    public static Set<AgendaField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<AgendaField> selected = EnumSet.noneOf(AgendaField.class);
+        for (String requested : fields.split(",")) {
+            if (requested.isBlank()) {
+                continue;
+            }
+            selected.add(Arrays.stream(values())
+                .filter(field -> field.name.equals(requested.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Campo inválido em fields: " + requested.trim()
+                    + " (aceitos: " + Arrays.stream(values()).map(AgendaField::getName).collect(Collectors.joining(",")) + ")")));
+        }
+        return selected.isEmpty() ? ALL : Collections.unmodifiableSet(selected);
+    }
+}
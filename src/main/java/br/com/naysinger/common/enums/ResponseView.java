@@ -0,0 +1,26 @@
+package br.com.naysinger.common.enums;
+
+import java.util.Locale;
+
+/**
+ * Nível de detalhe da pauta na resposta: SUMMARY traz as sessões só com status, janela e total de votos;
+ * FULL inclui os votos de cada sessão.
+ */
+public enum ResponseView {
+    SUMMARY,
+    FULL;
+
+    /**
+     * Lê o parâmetro view (sem diferenciar maiúsculas); ausente usa o padrão do endpoint.
+     */
+    public static ResponseView parse(String value, ResponseView defaultView) {
+        if (value == null || value.isBlank()) {
+            return defaultView;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("view inválido: " + value + " (use summary ou full)");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.naysinger.common.enums;
+
+public enum VoteOutcome {
+    ACCEPTED,
+    DUPLICATE,
+    NOT_STARTED,
+    CLOSED,
+    EXPIRED,
+    NOT_FOUND
+}
@@ -0,0 +1,19 @@
+package br.com.naysinger.common.exception;
+
+/**
+ * Resposta 4xx (exceto 404) do serviço de validação de CPF: a requisição foi recusada (credencial, payload),
+ * então repetir não muda o resultado e a falha não indica indisponibilidade da dependência.
+ */
+public class CpfValidationRejectedException extends RuntimeException {
+
+    private final int status;
+
+    public CpfValidationRejectedException(int status) {
+        super("Serviço de validação de CPF recusou a requisição (HTTP " + status + ").");
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.naysinger.common.exception;
+
+public class CpfValidationUnavailableException extends RuntimeException {
+
+    public CpfValidationUnavailableException(Throwable cause) {
+        super("Serviço de validação de CPF indisponível no momento. Tente novamente em instantes.", cause);
+    }
+}
@@ -57,6 +57,36 @@ public class GlobalExceptionHandler {
 		return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(body));
 	}
 	
+	@ExceptionHandler(VoteIngestionOverloadedException.class)
+	public Mono<ResponseEntity<Map<String, Object>>> handleVoteIngestionOverloadedException(VoteIngestionOverloadedException ex) {
+		Map<String, Object> body = new HashMap<>();
+		body.put("timestamp", LocalDateTime.now());
+		body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+		body.put("error", "Muitas requisições");
+		body.put("message", ex.getMessage());
+		return Mono.just(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(body));
+	}
+	
+	@ExceptionHandler(CpfValidationUnavailableException.class)
+	public Mono<ResponseEntity<Map<String, Object>>> handleCpfValidationUnavailableException(CpfValidationUnavailableException ex) {
+		Map<String, Object> body = new HashMap<>();
+		body.put("timestamp", LocalDateTime.now());
+		body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+		body.put("error", "Serviço indisponível");
+		body.put("message", ex.getMessage());
+		return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(body));
+	}
+	
+	@ExceptionHandler(CpfValidationRejectedException.class)
+	public Mono<ResponseEntity<Map<String, Object>>> handleCpfValidationRejectedException(CpfValidationRejectedException ex) {
+		Map<String, Object> body = new HashMap<>();
+		body.put("timestamp", LocalDateTime.now());
+		body.put("status", HttpStatus.BAD_GATEWAY.value());
+		body.put("error", "Validação de CPF recusada");
+		body.put("message", ex.getMessage());
+		return Mono.just(ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(body));
+	}
+	
 	@ExceptionHandler(IllegalArgumentException.class)
 	public Mono<ResponseEntity<Map<String, Object>>> handleIllegalArgumentException(IllegalArgumentException ex) {
 		Map<String, Object> body = new HashMap<>();
@@ -0,0 +1,8 @@
+package br.com.naysinger.common.exception;
+
+public class VoteIngestionOverloadedException extends RuntimeException {
+
+    public VoteIngestionOverloadedException() {
+        super("Fila de ingestão de votos cheia. Tente novamente em instantes.");
+    }
+}
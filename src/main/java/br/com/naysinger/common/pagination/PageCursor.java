@@ -0,0 +1,34 @@
+package br.com.naysinger.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição de continuação da paginação por keyset: chave (createdAt, id) do último item entregue, o número da
+ * próxima página e a direção de ordenação em que a chave foi lida. Trafega como token opaco (base64url); o cliente
+ * só o devolve em {@code cursor}.
+ */
+public record PageCursor(LocalDateTime createdAt, String id, int page, boolean ascending) {
+
+    public String encode() {
+        String raw = createdAt + "|" + id + "|" + page + "|" + (ascending ? "asc" : "desc");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica o token recebido; token inválido gera IllegalArgumentException (400).
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 4 || parts[1].isEmpty() || !(parts[3].equals("asc") || parts[3].equals("desc"))) {
+                throw new IllegalArgumentException("Cursor de paginação inválido");
+            }
+            return new PageCursor(LocalDateTime.parse(parts[0]), parts[1], Integer.parseInt(parts[2]), parts[3].equals("asc"));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido", e);
+        }
+    }
+}
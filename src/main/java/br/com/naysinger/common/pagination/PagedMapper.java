@@ -18,15 +18,7 @@ public class PagedMapper {
         }
 
         return mapper.apply(source.getContent())
-                .map(mappedContent -> new PagedResult<>(
-                        mappedContent,
-                        source.getCurrentPage(),
-                        source.getPageSize(),
-                        source.getTotalElements(),
-                        source.getTotalPages(),
-                        source.getSortBy(),
-                        source.getSortDirection()
-                ));
+                .map(source::withContent);
     }
 
     /**
@@ -41,14 +33,6 @@ public class PagedMapper {
                 .map(mapper)
                 .toList();
 
-        return new PagedResult<>(
-                mappedContent,
-                source.getCurrentPage(),
-                source.getPageSize(),
-                source.getTotalElements(),
-                source.getTotalPages(),
-                source.getSortBy(),
-                source.getSortDirection()
-        );
+        return source.withContent(mappedContent);
     }
 }
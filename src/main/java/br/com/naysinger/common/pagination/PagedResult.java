@@ -1,5 +1,6 @@
 package br.com.naysinger.common.pagination;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.ArrayList;
@@ -15,11 +16,14 @@ public class PagedResult<T> {
     @JsonProperty("page_size")
     private int pageSize;
 
+    // Totais ausentes (nulos) quando a contagem não foi solicitada
     @JsonProperty("total_elements")
-    private long totalElements;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
 
     @JsonProperty("total_pages")
-    private int totalPages;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
 
     @JsonProperty("has_next")
     private boolean hasNext;
@@ -33,6 +37,11 @@ public class PagedResult<T> {
     @JsonProperty("sort_direction")
     private String sortDirection;
 
+    // Cursor opaco da próxima página (paginação por keyset); nulo na última página
+    @JsonProperty("next_cursor")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     public PagedResult(List<T> content, int currentPage, int pageSize, long totalElements,
                        int totalPages, String sortBy, String sortDirection) {
         this.content = content;
@@ -78,6 +87,43 @@ public class PagedResult<T> {
         );
     }
 
+    /**
+     * Página lida por keyset: há próxima página quando existe cursor; os totais são opcionais
+     */
+    public static <T> PagedResult<T> keyset(List<T> content, int page, int size, String nextCursor, Long totalElements,
+                                            String sortBy, String sortDirection) {
+        PagedResult<T> result = new PagedResult<>();
+        result.content = content;
+        result.currentPage = page;
+        result.pageSize = size;
+        result.totalElements = totalElements;
+        result.totalPages = totalElements != null ? (int) Math.ceil((double) totalElements / size) : null;
+        result.hasNext = nextCursor != null;
+        result.hasPrevious = page > 0;
+        result.sortBy = sortBy;
+        result.sortDirection = sortDirection;
+        result.nextCursor = nextCursor;
+        return result;
+    }
+
+    /**
+     * Mesma página com outro conteúdo (mesmo tamanho e ordem), preservando totais e cursor
+     */
+    public <R> PagedResult<R> withContent(List<R> mappedContent) {
+        PagedResult<R> result = new PagedResult<>();
+        result.content = mappedContent;
+        result.currentPage = currentPage;
+        result.pageSize = pageSize;
+        result.totalElements = totalElements;
+        result.totalPages = totalPages;
+        result.hasNext = hasNext;
+        result.hasPrevious = hasPrevious;
+        result.sortBy = sortBy;
+        result.sortDirection = sortDirection;
+        result.nextCursor = nextCursor;
+        return result;
+    }
+
     public static <T> PagedResult<T> of(List<T> content, int page, int size, long totalElements) {
         int totalPages = (int) Math.ceil((double) totalElements / size);
         return new PagedResult<>(content, page, size, totalElements, totalPages);
@@ -113,19 +159,19 @@ public class PagedResult<T> {
         this.pageSize = pageSize;
     }
 
-    public long getTotalElements() {
+    public Long getTotalElements() {
         return totalElements;
     }
 
-    public void setTotalElements(long totalElements) {
+    public void setTotalElements(Long totalElements) {
         this.totalElements = totalElements;
     }
 
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
 
-    public void setTotalPages(int totalPages) {
+    public void setTotalPages(Integer totalPages) {
         this.totalPages = totalPages;
     }
 
@@ -161,6 +207,14 @@ public class PagedResult<T> {
         this.sortDirection = sortDirection;
     }
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
     @Override
     public String toString() {
         return "PagedResult{" +
@@ -173,6 +227,7 @@ public class PagedResult<T> {
                 ", hasPrevious=" + hasPrevious +
                 ", sortBy='" + sortBy + '\'' +
                 ", sortDirection='" + sortDirection + '\'' +
+                ", nextCursor='" + nextCursor + '\'' +
                 '}';
     }
 }
\ No newline at end of file
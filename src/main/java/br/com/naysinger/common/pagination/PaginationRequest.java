@@ -5,6 +5,10 @@ public class PaginationRequest {
     private int size = 10;
     private String sortBy = "createdAt";
     private String sortDirection = "desc";
+    // Cursor opaco devolvido em next_cursor; quando presente, a página é lida por keyset e "page" é ignorado
+    private String cursor;
+    // Calcula total_elements/total_pages (uma contagem extra na coleção)
+    private boolean includeTotal;
 
     public PaginationRequest() {}
 
@@ -47,6 +51,22 @@ public class PaginationRequest {
         this.sortDirection = sortDirection;
     }
 
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public boolean isIncludeTotal() {
+        return includeTotal;
+    }
+
+    public void setIncludeTotal(boolean includeTotal) {
+        this.includeTotal = includeTotal;
+    }
+
     public long getOffset() {
         return (long) page * size;
     }
@@ -58,6 +78,8 @@ public class PaginationRequest {
                 ", size=" + size +
                 ", sortBy='" + sortBy + '\'' +
                 ", sortDirection='" + sortDirection + '\'' +
+                ", cursor='" + cursor + '\'' +
+                ", includeTotal=" + includeTotal +
                 '}';
     }
 }
\ No newline at end of file
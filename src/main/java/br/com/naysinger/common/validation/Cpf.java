@@ -0,0 +1,107 @@
+package br.com.naysinger.common.validation;
+
+/**
+ * Validação local de CPF, sem alocação: aceita só dígitos ou o formato com pontos e hífen
+ * (000.000.000-00), confere os dois dígitos verificadores e rejeita sequências repetidas (111.111.111-11).
+ * Roda antes de qualquer I/O, evitando chamar o serviço de validação para entradas claramente inválidas.
+ */
+public final class Cpf {
+
+    public static final int LENGTH = 11;
+
+    private Cpf() {
+    }
+
+    /**
+     * Indica se a entrada é um CPF bem formado com dígitos verificadores corretos.
+     */
+    public static boolean isValid(CharSequence value) {
+        if (value == null) {
+            return false;
+        }
+        int length = value.length();
+        if (length != LENGTH && length != 14) {
+            return false;
+        }
+        int digits = 0;
+        int first = -1;
+        boolean repeated = true;
+        int sum1 = 0;
+        int sum2 = 0;
+        int dv1 = 0;
+        int dv2 = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                if (length == LENGTH || !isSeparatorAt(c, i)) {
+                    return false;
+                }
+                continue;
+            }
+            int d = c - '0';
+            if (first < 0) {
+                first = d;
+            } else if (d != first) {
+                repeated = false;
+            }
+            if (digits < 9) {
+                sum1 += d * (10 - digits);
+                sum2 += d * (11 - digits);
+            } else if (digits == 9) {
+                dv1 = d;
+            } else {
+                dv2 = d;
+            }
+            digits++;
+        }
+        if (digits != LENGTH || repeated) {
+            return false;
+        }
+        int expected1 = checkDigit(sum1);
+        return dv1 == expected1 && dv2 == checkDigit(sum2 + expected1 * 2);
+    }
+
+    /**
+     * Remove a formatação de um CPF formatado; entradas sem formatação são devolvidas como vieram.
+     */
+    public static String normalize(String value) {
+        if (value == null || value.length() != 14 || !isValid(value)) {
+            return value;
+        }
+        char[] digits = new char[LENGTH];
+        int next = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits[next++] = c;
+            }
+        }
+        return new String(digits);
+    }
+
+    /**
+     * Valor numérico dos 11 dígitos, ignorando a formatação; -1 quando a entrada não é um CPF válido.
+     */
+    public static long toLong(CharSequence value) {
+        if (!isValid(value)) {
+            return -1;
+        }
+        long result = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                result = result * 10 + (c - '0');
+            }
+        }
+        return result;
+    }
+
+    private static boolean isSeparatorAt(char c, int index) {
+        return (index == 3 || index == 7) ? c == '.' : index == 11 && c == '-';
+    }
+
+    private static int checkDigit(int sum) {
+        int rest = sum % 11;
+        return rest < 2 ? 0 : 11 - rest;
+    }
+}
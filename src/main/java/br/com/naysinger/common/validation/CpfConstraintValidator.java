@@ -0,0 +1,12 @@
+package br.com.naysinger.common.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class CpfConstraintValidator implements ConstraintValidator<ValidCpf, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || value.isEmpty() || Cpf.isValid(value);
+    }
+}
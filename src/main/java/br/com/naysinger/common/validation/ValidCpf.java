@@ -0,0 +1,27 @@
+package br.com.naysinger.common.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * CPF com formato e dígitos verificadores válidos (ver {@link Cpf}). Valores nulos são aceitos;
+ * combine com @NotBlank quando o campo for obrigatório.
+ */
+@Documented
+@Constraint(validatedBy = CpfConstraintValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidCpf {
+
+    String message() default "CPF inválido";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
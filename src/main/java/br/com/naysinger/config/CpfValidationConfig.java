@@ -0,0 +1,192 @@
+package br.com.naysinger.config;
+
+import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.common.exception.CpfValidationRejectedException;
+import br.com.naysinger.domain.port.CpfValidationPort;
+import br.com.naysinger.infrastructure.adapter.CachingCpfValidationClient;
+import br.com.naysinger.infrastructure.adapter.CpfValidationFakeClient;
+import br.com.naysinger.infrastructure.adapter.CpfValidationHttpClient;
+import br.com.naysinger.infrastructure.adapter.ResilientCpfValidationClient;
+import br.com.naysinger.infrastructure.adapter.VoterRollCpfValidationClient;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Monta a cadeia de validação de CPF: cache -> resiliência (retry, circuit breaker, bulkhead, hedging) -> cliente.
+ * O cache fica por fora para que acertos não consumam vagas do bulkhead nem contem no circuit breaker.
+ */
+@Configuration
+public class CpfValidationConfig {
+
+    private static final String CPF_VALIDATION = "cpfValidation";
+
+    @Value("${voting-solution.cpf.validation.timeout:5000}")
+    private int cpfValidationTimeout;
+
+    @Value("${voting-solution.cpf.validation.retry.max-attempts:3}")
+    private int maxRetryAttempts;
+
+    @Value("${voting-solution.cpf.validation.retry.backoff.initial-interval:1000}")
+    private int initialBackoffInterval;
+
+    @Value("${voting-solution.cpf.validation.retry.backoff.multiplier:2.0}")
+    private double backoffMultiplier;
+
+    @Value("${voting-solution.cpf.validation.retry.backoff.max-interval:10000}")
+    private int maxBackoffInterval;
+
+    @Value("${voting-solution.cpf.validation.bulkhead.max-concurrent-calls:50}")
+    private int bulkheadMaxConcurrentCalls;
+
+    @Value("${voting-solution.cpf.validation.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${voting-solution.cpf.validation.circuit-breaker.slow-call-threshold:2000}")
+    private long slowCallThreshold;
+
+    @Value("${voting-solution.cpf.validation.circuit-breaker.sliding-window-size:50}")
+    private int slidingWindowSize;
+
+    @Value("${voting-solution.cpf.validation.circuit-breaker.wait-in-open:10000}")
+    private long waitInOpenState;
+
+    @Value("${voting-solution.cpf.validation.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+
+    @Value("${voting-solution.cpf.validation.hedge.initial-delay:300}")
+    private long hedgeInitialDelay;
+
+    @Value("${voting-solution.cpf.validation.hedge.min-delay:50}")
+    private long hedgeMinDelay;
+
+    @Value("${voting-solution.cpf.validation.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${voting-solution.cpf.validation.cache.max-size:100000}")
+    private long cacheMaxSize;
+
+    @Value("${voting-solution.cpf.validation.cache.ttl-able:600000}")
+    private long cacheAbleTtl;
+
+    @Value("${voting-solution.cpf.validation.cache.ttl-unable:60000}")
+    private long cacheUnableTtl;
+
+    /**
+     * Cliente fake (padrão), com latência e respostas aleatórias.
+     */
+    @Bean("cpfValidationClient")
+    @ConditionalOnProperty(name = "voting-solution.cpf.validation.client", havingValue = "fake", matchIfMissing = true)
+    public CpfValidationPort cpfValidationFakeClient() {
+        return new CpfValidationFakeClient();
+    }
+
+    /**
+     * Cliente HTTP real sobre o WebClient com pool de conexões; habilitado pelo profile "cpf-http".
+     */
+    @Bean("cpfValidationClient")
+    @ConditionalOnProperty(name = "voting-solution.cpf.validation.client", havingValue = "http")
+    public CpfValidationPort cpfValidationHttpClient(WebClient webClient,
+                                                     @Value("${voting-solution.cpf.validation.url}") String url,
+                                                     @Value("${voting-solution.cpf.validation.batch-url:}") String batchUrl) {
+        return new CpfValidationHttpClient(webClient, url, batchUrl);
+    }
+
+    /**
+     * Rol de eleitores importado, mapeado em memória a partir de arquivo local; habilitado com client=roll.
+     */
+    @Bean("cpfValidationClient")
+    @ConditionalOnProperty(name = "voting-solution.cpf.validation.client", havingValue = "roll")
+    public VoterRollCpfValidationClient cpfValidationVoterRollClient(
+            @Value("${voting-solution.cpf.validation.roll.path:./data/voter-roll.bin}") String rollPath) {
+        return new VoterRollCpfValidationClient(Path.of(rollPath));
+    }
+
+    @Bean
+    public CircuitBreaker cpfValidationCircuitBreaker(MeterRegistry meterRegistry) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallThreshold))
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(Math.min(10, slidingWindowSize))
+                .waitDurationInOpenState(Duration.ofMillis(waitInOpenState))
+                .permittedNumberOfCallsInHalfOpenState(5)
+                // CPF não encontrado/não apto e requisição recusada (4xx) são respostas do serviço, não falha da dependência
+                .ignoreExceptions(CpfNotFoundException.class, CpfValidationRejectedException.class)
+                .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker(CPF_VALIDATION);
+    }
+
+    @Bean
+    public Bulkhead cpfValidationBulkhead(MeterRegistry meterRegistry) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(bulkheadMaxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry.bulkhead(CPF_VALIDATION);
+    }
+
+    @Bean
+    public Retry cpfValidationRetry(MeterRegistry meterRegistry) {
+        RetryConfig config = RetryConfig.custom()
+                .maxAttempts(maxRetryAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialBackoff(
+                        Duration.ofMillis(initialBackoffInterval), backoffMultiplier, Duration.ofMillis(maxBackoffInterval)))
+                .ignoreExceptions(CpfNotFoundException.class, CpfValidationRejectedException.class,
+                        CallNotPermittedException.class, BulkheadFullException.class)
+                .build();
+        RetryRegistry registry = RetryRegistry.of(config);
+        TaggedRetryMetrics.ofRetryRegistry(registry).bindTo(meterRegistry);
+        return registry.retry(CPF_VALIDATION);
+    }
+
+    @Bean
+    @Primary
+    public CpfValidationPort cpfValidationPort(@Qualifier("cpfValidationClient") CpfValidationPort cpfValidationClient,
+                                               CircuitBreaker cpfValidationCircuitBreaker,
+                                               Bulkhead cpfValidationBulkhead,
+                                               Retry cpfValidationRetry,
+                                               MeterRegistry meterRegistry) {
+        if (cpfValidationClient instanceof VoterRollCpfValidationClient) {
+            // Consulta local em memória: cache, timeout e circuit breaker só acrescentariam custo
+            return cpfValidationClient;
+        }
+        CpfValidationPort resilient = new ResilientCpfValidationClient(cpfValidationClient,
+                cpfValidationCircuitBreaker, cpfValidationBulkhead, cpfValidationRetry,
+                Duration.ofMillis(cpfValidationTimeout), hedgeEnabled,
+                Duration.ofMillis(hedgeInitialDelay), Duration.ofMillis(hedgeMinDelay), meterRegistry);
+        if (!cacheEnabled) {
+            return resilient;
+        }
+        return new CachingCpfValidationClient(resilient, cacheMaxSize,
+                Duration.ofMillis(cacheAbleTtl), Duration.ofMillis(cacheUnableTtl), meterRegistry);
+    }
+}
@@ -26,13 +26,13 @@ public class MongoConfig extends AbstractReactiveMongoConfiguration {
     @Value("${spring.data.mongodb.database}")
     private String database;
 
-    @Value("${spring.data.mongodb.username}")
+    @Value("${spring.data.mongodb.username:}")
     private String username;
 
-    @Value("${spring.data.mongodb.password}")
+    @Value("${spring.data.mongodb.password:}")
     private String password;
 
-    @Value("${spring.data.mongodb.authentication-database}")
+    @Value("${spring.data.mongodb.authentication-database:admin}")
     private String authDatabase;
 
     @Value("${spring.data.mongodb.connection-pool.max-size:100}")
@@ -70,8 +70,10 @@ public class MongoConfig extends AbstractReactiveMongoConfiguration {
     @Override
     @Bean
     public MongoClient reactiveMongoClient() {
-        String connectionString = String.format("mongodb://%s:%s@%s:%d/%s?authSource=%s",
-                username, password, host, port, database, authDatabase);
+        // Sem usuário (ex.: replica set dos testes de integração) a conexão é feita sem autenticação
+        String connectionString = username.isBlank()
+                ? String.format("mongodb://%s:%d/%s", host, port, database)
+                : String.format("mongodb://%s:%s@%s:%d/%s?authSource=%s", username, password, host, port, database, authDatabase);
 
         MongoClientSettings settings = MongoClientSettings.builder()
                 .applyConnectionString(new ConnectionString(connectionString))
@@ -0,0 +1,33 @@
+package br.com.naysinger.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.rsocket.context.RSocketServerBootstrap;
+import org.springframework.boot.rsocket.netty.NettyRSocketServerFactory;
+import org.springframework.boot.rsocket.server.RSocketServer;
+import org.springframework.boot.rsocket.server.RSocketServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.rsocket.annotation.support.RSocketMessageHandler;
+
+/**
+ * Servidor RSocket TCP dedicado para os gateways de votação. O transporte WebSocket fica no próprio servidor
+ * WebFlux (spring.rsocket.server.mapping-path); o Spring Boot só sobe um dos dois por propriedades, então o TCP
+ * é criado aqui sobre o mesmo RSocketMessageHandler.
+ */
+@Configuration
+public class RSocketConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "voting-solution.rsocket.tcp.enabled", havingValue = "true", matchIfMissing = true)
+    public RSocketServerBootstrap votesTcpRSocketServer(RSocketMessageHandler messageHandler,
+                                                        ObjectProvider<RSocketServerCustomizer> customizers,
+                                                        @Value("${voting-solution.rsocket.tcp.port:7000}") int port) {
+        NettyRSocketServerFactory factory = new NettyRSocketServerFactory();
+        factory.setTransport(RSocketServer.Transport.TCP);
+        factory.setPort(port);
+        factory.setRSocketServerCustomizers(customizers.orderedStream().toList());
+        return new RSocketServerBootstrap(factory, messageHandler.responder());
+    }
+}
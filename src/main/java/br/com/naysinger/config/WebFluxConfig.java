@@ -10,6 +10,7 @@ import org.springframework.web.reactive.config.EnableWebFlux;
 import org.springframework.web.reactive.config.WebFluxConfigurer;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
@@ -23,17 +24,20 @@ public class WebFluxConfig implements WebFluxConfigurer {
     @Value("${voting-solution.cpf.validation.timeout:5000}")
     private int cpfValidationTimeout;
 
-    @Value("${voting-solution.cpf.validation.retry.max-attempts:3}")
-    private int maxRetryAttempts;
+    @Value("${voting-solution.cpf.validation.pool.max-connections:100}")
+    private int poolMaxConnections;
 
-    @Value("${voting-solution.cpf.validation.retry.backoff.initial-interval:1000}")
-    private int initialBackoffInterval;
+    @Value("${voting-solution.cpf.validation.pool.pending-acquire-max-count:500}")
+    private int poolPendingAcquireMaxCount;
 
-    @Value("${voting-solution.cpf.validation.retry.backoff.multiplier:2.0}")
-    private double backoffMultiplier;
+    @Value("${voting-solution.cpf.validation.pool.pending-acquire-timeout:2000}")
+    private int poolPendingAcquireTimeout;
 
-    @Value("${voting-solution.cpf.validation.retry.backoff.max-interval:10000}")
-    private int maxBackoffInterval;
+    @Value("${voting-solution.cpf.validation.pool.max-idle-time:30000}")
+    private int poolMaxIdleTime;
+
+    @Value("${voting-solution.cpf.validation.pool.max-life-time:300000}")
+    private int poolMaxLifeTime;
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -50,9 +54,27 @@ public class WebFluxConfig implements WebFluxConfigurer {
         configurer.defaultCodecs().maxInMemorySize(1024 * 1024); // 1MB
     }
 
+    /**
+     * Pool de conexões da integração de CPF: conexões reaproveitadas (keep-alive), limite de conexões
+     * e de aquisições pendentes para que uma dependência lenta não acumule requisições sem limite.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider cpfValidationConnectionProvider() {
+        return ConnectionProvider.builder("cpf-validation")
+                .maxConnections(poolMaxConnections)
+                .pendingAcquireMaxCount(poolPendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(poolPendingAcquireTimeout))
+                .maxIdleTime(Duration.ofMillis(poolMaxIdleTime))
+                .maxLifeTime(Duration.ofMillis(poolMaxLifeTime))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
     @Bean
-    public WebClient webClient() {
-        HttpClient httpClient = HttpClient.create()
+    public WebClient webClient(ConnectionProvider cpfValidationConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(cpfValidationConnectionProvider)
+                .keepAlive(true)
                 .responseTimeout(Duration.ofMillis(cpfValidationTimeout))
                 .option(io.netty.channel.ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeout);
 
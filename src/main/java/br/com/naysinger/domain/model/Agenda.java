@@ -1,6 +1,8 @@
 package br.com.naysinger.domain.model;
 
 import br.com.naysinger.common.enums.AgendaStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -76,6 +78,14 @@ public class Agenda {
         return sessions != null && sessions.stream().anyMatch(Session::isActive);
     }
 
+    // Cópia da agenda com os votos de todas as sessões materializados (carregamento sob demanda)
+    public Mono<Agenda> withLoadedVotes() {
+        return Flux.fromIterable(sessions)
+                .concatMap(Session::withLoadedVotes)
+                .collectList()
+                .map(loaded -> toBuilder().sessions(loaded).build());
+    }
+
     // Metodo para obter sessão por ID
     public Session getSessionById(String sessionId) {
         if (sessions == null) return null;
@@ -0,0 +1,13 @@
+package br.com.naysinger.domain.model;
+
+import br.com.naysinger.common.enums.CpfStatus;
+
+/**
+ * Resultado da validação de um CPF em lote. CPF não encontrado é reportado como UNABLE_TO_VOTE.
+ */
+public record CpfEligibility(String cpf, CpfStatus status) {
+
+    public boolean ableToVote() {
+        return status == CpfStatus.ABLE_TO_VOTE;
+    }
+}
@@ -2,6 +2,8 @@ package br.com.naysinger.domain.model;
 
 import br.com.naysinger.common.enums.SessionStatus;
 import br.com.naysinger.common.enums.VoteType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,6 +17,11 @@ public class Session {
     private LocalDateTime endTime;
     private SessionStatus status;
     private List<Vote> votes;
+    // Votos ainda não carregados: fonte fria, só consultada quando alguém percorre os votos
+    private final Flux<Vote> pendingVotes;
+    private long yesVotes;
+    private long noVotes;
+    private long totalVotes;
 
     // Construtor privado - só pode ser chamado pelo Builder
     private Session(Builder builder) {
@@ -23,6 +30,10 @@ public class Session {
         this.endTime = builder.endTime;
         this.status = builder.status;
         this.votes = builder.votes != null ? builder.votes : new ArrayList<>();
+        this.pendingVotes = builder.pendingVotes != null ? builder.pendingVotes : Flux.empty();
+        this.yesVotes = builder.yesVotes != null ? builder.yesVotes : countVotes(VoteType.YES);
+        this.noVotes = builder.noVotes != null ? builder.noVotes : countVotes(VoteType.NO);
+        this.totalVotes = builder.totalVotes != null ? builder.totalVotes : this.votes.size();
     }
 
     // Metodo estático para criar uma nova sessão com valores padrão
@@ -46,7 +57,11 @@ public class Session {
                 .startTime(this.startTime)
                 .endTime(this.endTime)
                 .status(this.status)
-                .votes(new ArrayList<>(this.votes));
+                .votes(new ArrayList<>(this.votes))
+                .pendingVotes(this.pendingVotes)
+                .yesVotes(this.yesVotes)
+                .noVotes(this.noVotes)
+                .totalVotes(this.totalVotes);
     }
 
     // Metodo para obter um builder vazio
@@ -61,6 +76,12 @@ public class Session {
                 .vote(voteType)
                 .build();
         this.votes.add(vote);
+        if (voteType == VoteType.YES) {
+            this.yesVotes++;
+        } else {
+            this.noVotes++;
+        }
+        this.totalVotes++;
     }
 
     // Metodo para verificar se a sessão está ativa
@@ -89,21 +110,29 @@ public class Session {
         this.status = SessionStatus.CLOSED;
     }
 
-    // Metodo para obter total de votos
+    // Metodo para obter total de votos (contador persistido, sem depender da lista de votos carregada)
     public int getTotalVotes() {
-        return votes != null ? votes.size() : 0;
+        return (int) totalVotes;
     }
 
-    // Metodo para obter resultado da votação
+    // Metodo para obter resultado da votação a partir dos contadores, sem percorrer a lista de votos
     public VoteResult getVoteResult() {
-        if (votes == null || votes.isEmpty()) {
-            return new VoteResult(0, 0, 0);
-        }
+        return new VoteResult(yesVotes, noVotes, totalVotes);
+    }
 
-        long simVotes = votes.stream().filter(v -> v.getVote() == VoteType.YES).count();
-        long naoVotes = votes.stream().filter(v -> v.getVote() == VoteType.NO).count();
+    // Percorre os votos já carregados e, em seguida, os pendentes (carregados sob demanda)
+    public Flux<Vote> streamVotes() {
+        return Flux.fromIterable(votes).concatWith(pendingVotes);
+    }
+
+    // Cópia da sessão com todos os votos materializados em getVotes()
+    public Mono<Session> withLoadedVotes() {
+        return streamVotes().collectList()
+                .map(all -> toBuilder().votes(all).pendingVotes(Flux.empty()).build());
+    }
 
-        return new VoteResult(simVotes, naoVotes, votes.size());
+    private long countVotes(VoteType voteType) {
+        return votes.stream().filter(v -> v.getVote() == voteType).count();
     }
 
     // Getters (sem setters para imutabilidade)
@@ -123,6 +152,7 @@ public class Session {
         return status;
     }
 
+    // Só os votos já carregados; use streamVotes()/withLoadedVotes() para incluir os pendentes
     public List<Vote> getVotes() {
         return votes;
     }
@@ -134,6 +164,10 @@ public class Session {
         private LocalDateTime endTime;
         private SessionStatus status;
         private List<Vote> votes;
+        private Flux<Vote> pendingVotes;
+        private Long yesVotes;
+        private Long noVotes;
+        private Long totalVotes;
 
         public Builder sessionId(String sessionId) {
             this.sessionId = sessionId;
@@ -160,6 +194,32 @@ public class Session {
             return this;
         }
 
+        public Builder pendingVotes(Flux<Vote> pendingVotes) {
+            this.pendingVotes = pendingVotes;
+            return this;
+        }
+
+        // Acrescenta uma fonte de votos pendentes às já definidas
+        public Builder addPendingVotes(Flux<Vote> pendingVotes) {
+            this.pendingVotes = this.pendingVotes != null ? this.pendingVotes.concatWith(pendingVotes) : pendingVotes;
+            return this;
+        }
+
+        public Builder yesVotes(Long yesVotes) {
+            this.yesVotes = yesVotes;
+            return this;
+        }
+
+        public Builder noVotes(Long noVotes) {
+            this.noVotes = noVotes;
+            return this;
+        }
+
+        public Builder totalVotes(Long totalVotes) {
+            this.totalVotes = totalVotes;
+            return this;
+        }
+
         // Metodo para adicionar um voto individual
         public Builder addVote(Vote vote) {
             if (this.votes == null) {
@@ -0,0 +1,20 @@
+package br.com.naysinger.domain.model;
+
+import br.com.naysinger.common.enums.SessionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Parcial da votação de uma sessão: status, fim da janela e contadores SIM/NÃO/total no momento da leitura.
+ */
+public record SessionTally(String sessionId, SessionStatus status, LocalDateTime endTime, VoteResult result) {
+
+    public static SessionTally of(SessionWindow window, VoteResult result) {
+        return new SessionTally(window.sessionId(), window.status(), window.endTime(), result);
+    }
+
+    // Fechada ou com a janela de votação encerrada: nenhum voto novo será aceito
+    public boolean isFinal(LocalDateTime now) {
+        return status == SessionStatus.CLOSED || !now.isBefore(endTime);
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.naysinger.domain.model;
+
+import br.com.naysinger.common.enums.SessionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Metadados de uma sessão necessários para admitir um voto: agenda, status e janela de votação.
+ */
+public record SessionWindow(String agendaId, String sessionId, SessionStatus status,
+                            LocalDateTime startTime, LocalDateTime endTime) {
+
+    public boolean hasStarted(LocalDateTime now) {
+        return now.isAfter(startTime);
+    }
+
+    /**
+     * Aberta e ainda não expirada, mesmo que a janela não tenha começado (equivale a Session#isActive).
+     */
+    public boolean isOpen(LocalDateTime now) {
+        return status == SessionStatus.OPEN && now.isBefore(endTime);
+    }
+
+    public boolean isInProgress(LocalDateTime now) {
+        return status == SessionStatus.OPEN && hasStarted(now) && now.isBefore(endTime);
+    }
+}
@@ -9,4 +9,8 @@ public record VoteResult(long simVotes, long naoVotes, long totalVotes) {
         if (naoVotes > simVotes) return SessionResult.NAO;
         return SessionResult.EMPATE;
     }
+
+    public VoteResult plus(VoteResult other) {
+        return new VoteResult(simVotes + other.simVotes, naoVotes + other.naoVotes, totalVotes + other.totalVotes);
+    }
 }
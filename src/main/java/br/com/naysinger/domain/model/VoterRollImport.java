@@ -0,0 +1,10 @@
+package br.com.naysinger.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resumo de uma importação do rol de eleitores: CPFs válidos gravados, linhas descartadas
+ * (cabeçalho, CPF inválido) e duplicados removidos.
+ */
+public record VoterRollImport(long voters, long rejectedLines, long duplicates, LocalDateTime importedAt) {
+}
@@ -1,10 +1,18 @@
 package br.com.naysinger.domain.port;
 
+import br.com.naysinger.common.enums.AgendaField;
+import br.com.naysinger.common.enums.VoteOutcome;
+import br.com.naysinger.common.pagination.PageCursor;
 import br.com.naysinger.domain.model.Agenda;
+import br.com.naysinger.domain.model.Session;
+import br.com.naysinger.domain.model.SessionWindow;
+import br.com.naysinger.domain.model.Vote;
+import br.com.naysinger.domain.model.VoteResult;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 public interface AgendaPort {
 
@@ -12,13 +20,42 @@ public interface AgendaPort {
 
     Mono<Agenda> findById(String id);
 
-    Mono<Agenda> findByAgendaId(String agendaId);
+    default Mono<Agenda> findByAgendaId(String agendaId) {
+        return findByAgendaId(agendaId, AgendaField.ALL);
+    }
 
-    Mono<Agenda> findBySessionId(String sessionId);
+    /**
+     * Lê do banco apenas os campos selecionados (as sessões nunca trazem os votos).
+     */
+    Mono<Agenda> findByAgendaId(String agendaId, Set<AgendaField> fields);
 
-    Flux<Agenda> findAll();
+    default Mono<Agenda> findBySessionId(String sessionId) {
+        return findBySessionId(sessionId, AgendaField.ALL);
+    }
 
-    Flux<Agenda> findAgendasWithActiveSession();
+    Mono<Agenda> findBySessionId(String sessionId, Set<AgendaField> fields);
+
+    Mono<Session> findSessionById(String sessionId);
+
+    Mono<SessionWindow> findSessionWindow(String sessionId);
+
+    Mono<VoteResult> findVoteResult(String sessionId);
+
+    Flux<Agenda> findAll(Set<AgendaField> fields);
+
+    default Flux<Agenda> findAgendasWithActiveSession() {
+        return findAgendasWithActiveSession(AgendaField.ALL);
+    }
+
+    Flux<Agenda> findAgendasWithActiveSession(Set<AgendaField> fields);
+
+    /**
+     * Página ordenada por (createdAt, id): depois do cursor (keyset) ou, sem cursor, pulando offset agendas.
+     * createdAt e id são sempre lidos, pois formam o cursor da próxima página.
+     */
+    Flux<Agenda> findPage(PageCursor after, long offset, int limit, boolean ascending, Set<AgendaField> fields);
+
+    Mono<Long> count();
 
     Mono<Agenda> addSession(String agendaId, LocalDateTime startTime, Integer durationMinutes);
 
@@ -26,5 +63,16 @@ public interface AgendaPort {
 
     Mono<Agenda> closeAgenda(String agendaId);
 
-    Mono<Agenda> addVote(String sessionId, String userId, String cpf, String voteType);
+    Mono<VoteOutcome> addVote(String sessionId, Vote vote);
+
+    /**
+     * Sessões com contadores ainda não reconciliados cuja janela terminou (ou que foram fechadas) antes de {@code before}.
+     */
+    Flux<String> findSessionsToReconcile(LocalDateTime before);
+
+    /**
+     * Ajusta os contadores da sessão para que o resultado seja exatamente {@code recorded} (os votos gravados) e a marca
+     * como reconciliada. Idempotente: sessão já reconciliada não é alterada.
+     */
+    Mono<Boolean> reconcileCounters(String sessionId, VoteResult recorded);
 }
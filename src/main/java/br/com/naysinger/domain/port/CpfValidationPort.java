@@ -1,8 +1,29 @@
 package br.com.naysinger.domain.port;
 
 import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.domain.model.CpfEligibility;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface CpfValidationPort {
+
+	int BATCH_SIZE = 100;
+	int BATCH_PARALLELISM = 8;
+
 	Mono<CpfStatus> check(String cpf);
+
+	/**
+	 * Valida CPFs em lote, devolvendo um resultado por CPF na ordem de entrada.
+	 * Padrão: janelas de BATCH_SIZE com até BATCH_PARALLELISM chamadas individuais simultâneas;
+	 * implementações com endpoint de lote devem sobrescrever.
+	 */
+	default Flux<CpfEligibility> checkAll(Flux<String> cpfs) {
+		return cpfs.buffer(BATCH_SIZE)
+			.concatMap(batch -> Flux.fromIterable(batch)
+				.flatMapSequential(cpf -> check(cpf)
+					.map(status -> new CpfEligibility(cpf, status))
+					.onErrorResume(CpfNotFoundException.class, e -> Mono.just(new CpfEligibility(cpf, CpfStatus.UNABLE_TO_VOTE))),
+					BATCH_PARALLELISM));
+	}
 }
@@ -0,0 +1,13 @@
+package br.com.naysinger.domain.port;
+
+import reactor.core.publisher.Flux;
+
+public interface SessionChangesPort {
+
+    /**
+     * Emite "open" quando a observação começa e, depois, o nome da coleção a cada alteração persistida nos contadores
+     * ou no status da sessão. Escritas posteriores a uma leitura feita após "open" sempre são sinalizadas.
+     * Falha se o MongoDB não suportar change streams (servidor fora de replica set).
+     */
+    Flux<String> watchSession(String sessionId);
+}
@@ -0,0 +1,19 @@
+package br.com.naysinger.domain.port;
+
+import br.com.naysinger.domain.model.Vote;
+import br.com.naysinger.domain.model.VoteResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface VotePort {
+
+    Mono<Vote> save(String sessionId, Vote vote);
+
+    Mono<Void> delete(String sessionId, String cpf);
+
+    Mono<Boolean> exists(String sessionId, String cpf);
+
+    Flux<Vote> findBySessionId(String sessionId);
+
+    Mono<VoteResult> countBySessionId(String sessionId);
+}
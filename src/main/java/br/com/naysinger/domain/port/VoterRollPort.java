@@ -0,0 +1,15 @@
+package br.com.naysinger.domain.port;
+
+import br.com.naysinger.domain.model.VoterRollImport;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface VoterRollPort {
+
+    /**
+     * Importa um CSV (CPF na primeira coluna) como novo rol, substituindo o atual só ao final da importação.
+     */
+    Mono<VoterRollImport> importCsv(Flux<String> lines);
+
+    long size();
+}
@@ -1,35 +1,68 @@
 package br.com.naysinger.infrastructure.adapter;
 
 import br.com.naysinger.domain.model.Agenda;
+import br.com.naysinger.domain.model.Session;
+import br.com.naysinger.domain.model.SessionWindow;
+import br.com.naysinger.domain.model.Vote;
+import br.com.naysinger.domain.model.VoteResult;
 import br.com.naysinger.domain.port.AgendaPort;
 import br.com.naysinger.infrastructure.entity.AgendaCycleEntity;
 import br.com.naysinger.infrastructure.mapper.AgendaCycleMapper;
 import br.com.naysinger.infrastructure.repository.AgendaCycleRepository;
+import br.com.naysinger.common.enums.AgendaField;
 import br.com.naysinger.common.enums.SessionStatus;
 import br.com.naysinger.common.enums.AgendaStatus;
+import br.com.naysinger.common.enums.VoteOutcome;
 import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.common.pagination.PageCursor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import br.com.naysinger.infrastructure.entity.SessionEntity;
+import br.com.naysinger.infrastructure.entity.TallyShardEntity;
 import br.com.naysinger.infrastructure.entity.VoteEntity;
 
 @Component
 public class AgendaCycleAdapter implements AgendaPort {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(AgendaCycleAdapter.class);
+    private static final Document SESSIONS_WITHOUT_VOTES = sessionsWithoutVotes();
+    private static final Document WITHOUT_EMBEDDED_VOTES = fieldsProjection(AgendaField.ALL);
     
     private final AgendaCycleRepository agendaCycleRepository;
     private final AgendaCycleMapper agendaCycleMapper;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final SessionTallyShards sessionTallyShards;
+    private final SessionCounterBatcher sessionCounterBatcher;
+    private final int cursorBatchSize;
     
-    public AgendaCycleAdapter(AgendaCycleRepository agendaCycleRepository, AgendaCycleMapper agendaCycleMapper) {
+    public AgendaCycleAdapter(AgendaCycleRepository agendaCycleRepository, AgendaCycleMapper agendaCycleMapper,
+                              ReactiveMongoTemplate reactiveMongoTemplate, SessionTallyShards sessionTallyShards,
+                              ObjectProvider<SessionCounterBatcher> sessionCounterBatcher,
+                              @Value("${voting-solution.mongodb.cursor.batch-size:100}") int cursorBatchSize) {
         this.agendaCycleRepository = agendaCycleRepository;
         this.agendaCycleMapper = agendaCycleMapper;
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.sessionTallyShards = sessionTallyShards;
+        this.sessionCounterBatcher = sessionCounterBatcher.getIfAvailable();
+        this.cursorBatchSize = cursorBatchSize;
     }
     
     @Override
@@ -45,36 +78,78 @@ public class AgendaCycleAdapter implements AgendaPort {
     @Override
     public Mono<Agenda> findById(String id) {
         LOGGER.debug("[adapter.findById] id={}", id);
-        return agendaCycleRepository.findById(id)
-            .map(agendaCycleMapper::toDomain);
+        return findWithoutEmbeddedVotes(new Document("_id", ObjectId.isValid(id) ? new ObjectId(id) : id)).next()
+            .flatMap(this::withShardTotals)
+            .map(this::toDomainWithLazyVotes);
     }
     
     @Override
-    public Mono<Agenda> findByAgendaId(String agendaId) {
-        LOGGER.debug("[adapter.findByAgendaId] agendaId={}", agendaId);
-        return agendaCycleRepository.findByAgendaId(agendaId)
-            .map(agendaCycleMapper::toDomain);
+    public Mono<Agenda> findByAgendaId(String agendaId, Set<AgendaField> fields) {
+        LOGGER.debug("[adapter.findByAgendaId] agendaId={}, fields={}", agendaId, fields);
+        return findWithoutEmbeddedVotes(new Document("agenda_id", agendaId), projection(fields)).next()
+            .flatMap(this::withShardTotals)
+            .map(this::toDomainWithLazyVotes);
     }
     
     @Override
-    public Mono<Agenda> findBySessionId(String sessionId) {
-        LOGGER.debug("[adapter.findBySessionId] sessionId={}", sessionId);
-        return agendaCycleRepository.findBySessionId(sessionId)
-            .map(agendaCycleMapper::toDomain);
+    public Mono<Agenda> findBySessionId(String sessionId, Set<AgendaField> fields) {
+        LOGGER.debug("[adapter.findBySessionId] sessionId={}, fields={}", sessionId, fields);
+        return findWithoutEmbeddedVotes(new Document("sessions.session_id", sessionId), projection(fields)).next()
+            .flatMap(this::withShardTotals)
+            .map(this::toDomainWithLazyVotes);
     }
     
     @Override
-    public Flux<Agenda> findAll() {
-        LOGGER.debug("[adapter.findAll] Listando agendas");
-        return agendaCycleRepository.findAll()
-            .map(agendaCycleMapper::toDomain);
+    public Flux<Agenda> findAll(Set<AgendaField> fields) {
+        LOGGER.debug("[adapter.findAll] Listando agendas. fields={}", fields);
+        return findWithoutEmbeddedVotes(new Document(), projection(fields))
+            .concatMap(this::withShardTotals)
+            .map(this::toDomainWithLazyVotes);
     }
     
     @Override
-    public Flux<Agenda> findAgendasWithActiveSession() {
-        LOGGER.debug("[adapter.findAgendasWithActiveSession]");
-        return agendaCycleRepository.findAgendasWithActiveSession()
-            .map(agendaCycleMapper::toDomain);
+    public Flux<Agenda> findAgendasWithActiveSession(Set<AgendaField> fields) {
+        LOGGER.debug("[adapter.findAgendasWithActiveSession] fields={}", fields);
+        return findWithoutEmbeddedVotes(new Document("sessions.status", SessionStatus.OPEN.name()), projection(fields))
+            .concatMap(this::withShardTotals)
+            .map(this::toDomainWithLazyVotes);
+    }
+    
+    /**
+     * Keyset sobre o índice (created_at, _id): a página N custa o mesmo que a primeira, pois o filtro
+     * parte da chave do último item entregue em vez de pular documentos. O offset só é usado sem cursor.
+     */
+    @Override
+    public Flux<Agenda> findPage(PageCursor after, long offset, int limit, boolean ascending, Set<AgendaField> fields) {
+        LOGGER.debug("[adapter.findPage] after={}, offset={}, limit={}, ascending={}, fields={}", after, offset, limit, ascending, fields);
+        Set<AgendaField> keysetFields = EnumSet.of(AgendaField.ID, AgendaField.CREATED_AT);
+        keysetFields.addAll(fields);
+        Document filter = new Document();
+        if (after != null) {
+            String comparison = ascending ? "$gt" : "$lt";
+            Object createdAt = reactiveMongoTemplate.getConverter().convertToMongoType(after.createdAt());
+            Object id = ObjectId.isValid(after.id()) ? new ObjectId(after.id()) : after.id();
+            filter.append("$or", List.of(
+                new Document("created_at", new Document(comparison, createdAt)),
+                new Document("created_at", createdAt).append("_id", new Document(comparison, id))));
+        }
+        int direction = ascending ? 1 : -1;
+        Document sort = new Document("created_at", direction).append("_id", direction);
+        return reactiveMongoTemplate.getCollection(reactiveMongoTemplate.getCollectionName(AgendaCycleEntity.class))
+            .flatMapMany(collection -> collection.find(filter)
+                .projection(projection(keysetFields))
+                .sort(sort)
+                .skip((int) offset)
+                .limit(limit)
+                .batchSize(Math.min(limit, cursorBatchSize)))
+            .map(document -> reactiveMongoTemplate.getConverter().read(AgendaCycleEntity.class, document))
+            .concatMap(this::withShardTotals)
+            .map(this::toDomainWithLazyVotes);
+    }
+    
+    @Override
+    public Mono<Long> count() {
+        return reactiveMongoTemplate.estimatedCount(AgendaCycleEntity.class);
     }
     
     @Override
@@ -83,77 +158,393 @@ public class AgendaCycleAdapter implements AgendaPort {
         return agendaCycleRepository.findByAgendaId(agendaId)
             .flatMap(agendaCycle -> {
                 SessionEntity sessionEntity = createNewSessionEntity(startTime, durationMinutes);
+                int shards = sessionTallyShards.defaultShards();
+                if (shards > 0) {
+                    sessionEntity.setTallyShards(shards);
+                }
                 if (agendaCycle.getSessions() == null) {
                     agendaCycle.setSessions(new ArrayList<>());
                 }
                 agendaCycle.getSessions().add(sessionEntity);
                 return agendaCycleRepository.save(agendaCycle)
+                    .flatMap(saved -> shards > 0
+                        ? sessionTallyShards.openShards(agendaId, sessionEntity, 0, shards).thenReturn(saved)
+                        : Mono.just(saved))
                     .doOnSuccess(e -> LOGGER.info("[adapter.addSession] Sessão adicionada. agendaId={}, sessionsCount={}", agendaId, e.getSessions() != null ? e.getSessions().size() : 0));
             })
             .doOnError(err -> LOGGER.error("[adapter.addSession] Erro ao adicionar sessão. agendaId={}", agendaId, err))
             .map(agendaCycleMapper::toDomain);
     }
     
+    /**
+     * Fecha a sessão com $set posicional, sem regravar o agregado (que sobrescreveria contadores incrementados em paralelo).
+     */
     @Override
     public Mono<Agenda> closeSession(String sessionId) {
         LOGGER.info("[adapter.closeSession] sessionId={}", sessionId);
-        return agendaCycleRepository.findBySessionId(sessionId)
-            .flatMap(agendaCycle -> {
-                if (agendaCycle.getSessions() != null) {
-                    agendaCycle.getSessions().stream()
-                        .filter(session -> session.getSessionId().equals(sessionId))
-                        .findFirst()
-                        .ifPresent(session -> session.setStatus(SessionStatus.CLOSED));
-                }
-                return agendaCycleRepository.save(agendaCycle)
-                    .doOnSuccess(e -> LOGGER.info("[adapter.closeSession] Sessão fechada. sessionId={}", sessionId));
-            })
+        Query query = Query.query(Criteria.where("sessions.session_id").is(sessionId));
+        Update update = new Update()
+            .set("sessions.$.status", SessionStatus.CLOSED)
+            .set("sessions.$.closed_at", LocalDateTime.now());
+        return reactiveMongoTemplate.updateFirst(query, update, AgendaCycleEntity.class)
+            .filter(result -> result.getMatchedCount() > 0)
+            .flatMap(result -> sessionTallyShards.closeSession(sessionId).thenReturn(result))
+            .doOnNext(result -> LOGGER.info("[adapter.closeSession] Sessão fechada. sessionId={}", sessionId))
+            .flatMap(result -> findWithoutEmbeddedVotes(new Document("sessions.session_id", sessionId)).next())
+            .flatMap(this::withShardTotals)
             .doOnError(err -> LOGGER.error("[adapter.closeSession] Erro ao fechar sessão. sessionId={}", sessionId, err))
-            .map(agendaCycleMapper::toDomain);
+            .map(this::toDomainWithLazyVotes);
     }
     
+    /**
+     * Fecha a agenda e suas sessões abertas num único update (filtro de array), preservando os contadores.
+     */
     @Override
     public Mono<Agenda> closeAgenda(String agendaId) {
         LOGGER.info("[adapter.closeAgenda] agendaId={}", agendaId);
-        return agendaCycleRepository.findByAgendaId(agendaId)
-            .flatMap(agendaCycle -> {
-                agendaCycle.setStatus(AgendaStatus.CLOSED);
-                if (agendaCycle.getSessions() != null) {
-                    agendaCycle.getSessions().stream()
-                        .filter(session -> session.getStatus() == SessionStatus.OPEN)
-                        .forEach(session -> session.setStatus(SessionStatus.CLOSED));
-                }
-                return agendaCycleRepository.save(agendaCycle)
-                    .doOnSuccess(e -> LOGGER.info("[adapter.closeAgenda] Agenda fechada e sessões encerradas. agendaId={}", agendaId));
-            })
+        Query query = Query.query(Criteria.where("agenda_id").is(agendaId));
+        Update update = new Update()
+            .set("status", AgendaStatus.CLOSED)
+            .set("sessions.$[open].status", SessionStatus.CLOSED)
+            .set("sessions.$[open].closed_at", LocalDateTime.now())
+            .filterArray(Criteria.where("open.status").is(SessionStatus.OPEN));
+        return reactiveMongoTemplate.updateFirst(query, update, AgendaCycleEntity.class)
+            .filter(result -> result.getMatchedCount() > 0)
+            .flatMap(result -> sessionTallyShards.closeAgenda(agendaId).thenReturn(result))
+            .doOnNext(result -> LOGGER.info("[adapter.closeAgenda] Agenda fechada e sessões encerradas. agendaId={}", agendaId))
+            .flatMap(result -> findWithoutEmbeddedVotes(new Document("agenda_id", agendaId)).next())
+            .flatMap(this::withShardTotals)
             .doOnError(err -> LOGGER.error("[adapter.closeAgenda] Erro ao fechar agenda. agendaId={}", agendaId, err))
-            .map(agendaCycleMapper::toDomain);
+            .map(this::toDomainWithLazyVotes);
     }
     
+    /**
+     * Contabiliza o voto na sessão com um único update condicional ($inc posicional), sem carregar o agregado.
+     * O filtro garante sessão OPEN e dentro da janela de votação; o voto em si fica na coleção "votes".
+     * Os contadores SIM/NÃO/total são incrementados no mesmo update, mantendo o resultado pronto para leitura.
+     * Em sessões com contadores fragmentados, o mesmo $inc condicional é aplicado a um dos shards.
+     * Com a ingestão write-behind ativa, o $inc das sessões não fragmentadas é agrupado por sessão a cada flush.
+     */
     @Override
-    public Mono<Agenda> addVote(String sessionId, String userId, String cpf, String voteType) {
-        String maskedCpf = cpf != null && cpf.length() >= 4 ? "***********".substring(0, Math.max(0, cpf.length() - 4)) + cpf.substring(cpf.length() - 4) : "***";
-        LOGGER.info("[adapter.addVote] Registrando voto. sessionId={}, userId={}, cpfMasked={}, voteType={}", sessionId, userId, maskedCpf, voteType);
-        return agendaCycleRepository.findBySessionId(sessionId)
-            .flatMap(agendaCycle -> {
-                if (agendaCycle.getSessions() != null) {
-                    try {
-                        VoteType vote = VoteType.valueOf(voteType.toUpperCase());
-                        VoteEntity voteEntity = new VoteEntity(userId, cpf, vote);
-                        agendaCycle.getSessions().stream()
-                            .filter(session -> session.getSessionId().equals(sessionId))
-                            .findFirst()
-                            .ifPresent(session -> session.addVote(voteEntity));
-                    } catch (IllegalArgumentException e) {
-                        LOGGER.warn("[adapter.addVote] Tipo de voto inválido. sessionId={}, voteType={}", sessionId, voteType);
-                        return Mono.error(new IllegalArgumentException("Tipo de voto inválido: " + voteType));
-                    }
+    public Mono<VoteOutcome> addVote(String sessionId, Vote vote) {
+        LOGGER.info("[adapter.addVote] Contabilizando voto. sessionId={}, userId={}, voteType={}", sessionId, vote.getUserId(), vote.getVote());
+        LocalDateTime now = LocalDateTime.now();
+        return sessionTallyShards.shardsFor(sessionId)
+            .flatMap(shards -> {
+                if (shards == 0 && sessionCounterBatcher != null) {
+                    // A espera pelo flush não é latência de escrita: não alimenta a ampliação de shards
+                    return sessionCounterBatcher.increment(sessionId, vote.getVote());
                 }
-                return agendaCycleRepository.save(agendaCycle)
-                    .doOnSuccess(e -> LOGGER.info("[adapter.addVote] Voto persistido. sessionId={}, userId={}", sessionId, userId));
+                long start = System.nanoTime();
+                Mono<Boolean> applied = shards > 0
+                    ? sessionTallyShards.increment(sessionId, shards, vote.getVote(), now)
+                    : incrementSessionCounters(sessionId, vote, now);
+                return applied.doOnNext(ok -> sessionTallyShards.recordLatency(sessionId, System.nanoTime() - start));
             })
-            .doOnError(err -> LOGGER.warn("[adapter.addVote] Falha ao persistir voto. sessionId={}, userId={}", sessionId, userId, err))
-            .map(agendaCycleMapper::toDomain);
+            .flatMap(applied -> {
+                if (applied) {
+                    LOGGER.info("[adapter.addVote] Voto contabilizado. sessionId={}, userId={}", sessionId, vote.getUserId());
+                    return Mono.just(VoteOutcome.ACCEPTED);
+                }
+                return resolveRejectedVote(sessionId, now);
+            })
+            .doOnError(err -> LOGGER.warn("[adapter.addVote] Falha ao contabilizar voto. sessionId={}, userId={}", sessionId, vote.getUserId(), err));
+    }
+    
+    private Mono<Boolean> incrementSessionCounters(String sessionId, Vote vote, LocalDateTime now) {
+        Query query = Query.query(Criteria.where("sessions").elemMatch(
+                Criteria.where("session_id").is(sessionId)
+                        .and("status").is(SessionStatus.OPEN)
+                        .and("start_time").lt(now)
+                        .and("end_time").gt(now)));
+        Update update = new Update()
+            .inc("sessions.$.total_count", 1)
+            .inc(vote.getVote() == VoteType.YES ? "sessions.$.yes_count" : "sessions.$.no_count", 1);
+        return reactiveMongoTemplate.updateFirst(query, update, AgendaCycleEntity.class)
+            .map(result -> result.getModifiedCount() > 0);
+    }
+    
+    @Override
+    public Flux<String> findSessionsToReconcile(LocalDateTime before) {
+        Criteria pending = Criteria.where("counters_reconciled").is(false)
+            .orOperator(Criteria.where("end_time").lt(before), Criteria.where("closed_at").lt(before));
+        Query query = Query.query(Criteria.where("sessions").elemMatch(pending));
+        query.fields()
+            .include("sessions.session_id")
+            .include("sessions.end_time")
+            .include("sessions.closed_at")
+            .include("sessions.counters_reconciled");
+        return reactiveMongoTemplate.find(query, AgendaCycleEntity.class)
+            .flatMapIterable(AgendaCycleEntity::getSessions)
+            .filter(session -> Boolean.FALSE.equals(session.getCountersReconciled())
+                && (session.getEndTime().isBefore(before) || (session.getClosedAt() != null && session.getClosedAt().isBefore(before))))
+            .map(SessionEntity::getSessionId);
+    }
+    
+    /**
+     * Grava nos contadores da sessão os votos gravados menos o que já está nos shards (que não mudam depois do
+     * fechamento), de modo que contadores + shards = votos gravados. Os votos legados embutidos continuam somados à parte.
+     */
+    @Override
+    public Mono<Boolean> reconcileCounters(String sessionId, VoteResult recorded) {
+        return sessionTallyShards.totals(List.of(sessionId))
+            .map(totals -> totals.getOrDefault(sessionId, new VoteResult(0, 0, 0)))
+            .flatMap(shards -> {
+                Query query = Query.query(Criteria.where("sessions").elemMatch(
+                        Criteria.where("session_id").is(sessionId)
+                                .and("counters_reconciled").is(false)));
+                Update update = new Update()
+                    .set("sessions.$.yes_count", recorded.simVotes() - shards.simVotes())
+                    .set("sessions.$.no_count", recorded.naoVotes() - shards.naoVotes())
+                    .set("sessions.$.total_count", recorded.totalVotes() - shards.totalVotes())
+                    .set("sessions.$.counters_migrated", true)
+                    .set("sessions.$.counters_reconciled", true);
+                return reactiveMongoTemplate.updateFirst(query, update, AgendaCycleEntity.class);
+            })
+            .map(result -> result.getModifiedCount() > 0)
+            .doOnNext(modified -> LOGGER.info("[adapter.reconcileCounters] Contadores reconciliados. sessionId={}, totalVotes={}, modified={}",
+                sessionId, recorded.totalVotes(), modified));
+    }
+    
+    @Override
+    public Mono<Session> findSessionById(String sessionId) {
+        LOGGER.debug("[adapter.findSessionById] sessionId={}", sessionId);
+        return reactiveMongoTemplate.findOne(sessionMetadataQuery(sessionId, true), AgendaCycleEntity.class)
+            .flatMap(this::withShardTotals)
+            .flatMap(agendaCycle -> Mono.justOrEmpty(agendaCycle.getSessions().stream()
+                .filter(session -> sessionId.equals(session.getSessionId()))
+                .findFirst()))
+            .map(agendaCycleMapper::toSessionDomain);
+    }
+    
+    /**
+     * Só os metadados da sessão (agenda, status e janela), sem votos nem contadores.
+     */
+    @Override
+    public Mono<SessionWindow> findSessionWindow(String sessionId) {
+        LOGGER.debug("[adapter.findSessionWindow] sessionId={}", sessionId);
+        Query query = sessionMetadataQuery(sessionId, false);
+        query.fields().include("agenda_id");
+        return reactiveMongoTemplate.findOne(query, AgendaCycleEntity.class)
+            .flatMap(agendaCycle -> Mono.justOrEmpty(agendaCycle.getSessions().stream()
+                .filter(session -> sessionId.equals(session.getSessionId()))
+                .findFirst()
+                .map(session -> new SessionWindow(agendaCycle.getAgendaId(), session.getSessionId(),
+                    session.getStatus(), session.getStartTime(), session.getEndTime()))));
+    }
+    
+    /**
+     * Resultado da sessão calculado no MongoDB por um pipeline de agregação: contadores da sessão, soma dos shards
+     * ($lookup em session_tally_shards) e votos legados embutidos contados com $filter. Só os três totais
+     * trafegam; nenhum voto é lido pela aplicação.
+     */
+    @Override
+    public Mono<VoteResult> findVoteResult(String sessionId) {
+        LOGGER.debug("[adapter.findVoteResult] sessionId={}", sessionId);
+        Document session = new Document("sessions.session_id", sessionId);
+        List<Document> pipeline = List.of(
+            new Document("$match", session),
+            new Document("$project", new Document("sessions", 1)),
+            new Document("$unwind", "$sessions"),
+            new Document("$match", session),
+            new Document("$lookup", new Document("from", reactiveMongoTemplate.getCollectionName(TallyShardEntity.class))
+                .append("localField", "sessions.session_id")
+                .append("foreignField", "session_id")
+                .append("as", "shards")),
+            new Document("$project", new Document("_id", 0)
+                .append("yes", sessionTotal("yes_count", embeddedVoteCount("$sessions.votes", VoteType.YES)))
+                .append("no", sessionTotal("no_count", embeddedVoteCount("$sessions.votes", VoteType.NO)))
+                .append("total", sessionTotal("total_count", new Document("$size", new Document("$ifNull", List.of("$sessions.votes", List.of())))))));
+        return reactiveMongoTemplate.getCollection(reactiveMongoTemplate.getCollectionName(AgendaCycleEntity.class))
+            .flatMapMany(collection -> collection.aggregate(pipeline))
+            .next()
+            .map(totals -> new VoteResult(
+                ((Number) totals.get("yes")).longValue(),
+                ((Number) totals.get("no")).longValue(),
+                ((Number) totals.get("total")).longValue()));
+    }
+    
+    private static Document sessionTotal(String counter, Document embeddedVotes) {
+        return new Document("$add", List.of(
+            new Document("$ifNull", List.of("$sessions." + counter, 0)),
+            new Document("$sum", "$shards." + counter),
+            embeddedVotes));
+    }
+    
+    /**
+     * Lê agendas projetando as sessões sem a lista de votos embutidos (legado): no lugar dela vêm só as contagens
+     * SIM/NÃO, calculadas no servidor. O tamanho do documento trafegado deixa de crescer com os votos.
+     * O cursor busca lotes de cursor.batch-size documentos conforme a demanda do assinante (backpressure).
+     */
+    private Flux<AgendaCycleEntity> findWithoutEmbeddedVotes(Document filter) {
+        return findWithoutEmbeddedVotes(filter, WITHOUT_EMBEDDED_VOTES);
+    }
+    
+    private Flux<AgendaCycleEntity> findWithoutEmbeddedVotes(Document filter, Document projection) {
+        return reactiveMongoTemplate.getCollection(reactiveMongoTemplate.getCollectionName(AgendaCycleEntity.class))
+            .flatMapMany(collection -> collection.find(filter).projection(projection).batchSize(cursorBatchSize))
+            .map(document -> reactiveMongoTemplate.getConverter().read(AgendaCycleEntity.class, document));
+    }
+    
+    /**
+     * Converte para o domínio; sessões com votos legados embutidos recebem uma fonte sob demanda desses votos,
+     * consultada só se alguém percorrer os votos da sessão.
+     */
+    private Agenda toDomainWithLazyVotes(AgendaCycleEntity agendaCycle) {
+        Agenda agenda = agendaCycleMapper.toDomain(agendaCycle);
+        if (agendaCycle.getSessions() == null || agendaCycle.getSessions().stream().noneMatch(SessionEntity::hasLegacyVotes)) {
+            return agenda;
+        }
+        Set<String> withLegacyVotes = agendaCycle.getSessions().stream()
+            .filter(SessionEntity::hasLegacyVotes)
+            .map(SessionEntity::getSessionId)
+            .collect(Collectors.toSet());
+        List<Session> sessions = agenda.getSessions().stream()
+            .map(session -> withLegacyVotes.contains(session.getSessionId())
+                ? session.toBuilder().addPendingVotes(findEmbeddedVotes(session.getSessionId())).build()
+                : session)
+            .toList();
+        return agenda.toBuilder().sessions(new ArrayList<>(sessions)).build();
+    }
+    
+    /**
+     * Votos legados embutidos de uma sessão, desenrolados no servidor e lidos um a um.
+     */
+    private Flux<Vote> findEmbeddedVotes(String sessionId) {
+        List<Document> pipeline = List.of(
+            new Document("$match", new Document("sessions.session_id", sessionId)),
+            new Document("$unwind", "$sessions"),
+            new Document("$match", new Document("sessions.session_id", sessionId)),
+            new Document("$unwind", "$sessions.votes"),
+            new Document("$replaceRoot", new Document("newRoot", "$sessions.votes")));
+        return reactiveMongoTemplate.getCollection(reactiveMongoTemplate.getCollectionName(AgendaCycleEntity.class))
+            .flatMapMany(collection -> collection.aggregate(pipeline))
+            .map(document -> agendaCycleMapper.toVoteDomain(reactiveMongoTemplate.getConverter().read(VoteEntity.class, document)));
+    }
+    
+    /**
+     * Projeção com apenas os campos selecionados (fields=); campos fora da seleção não saem do servidor.
+     * As sessões, quando pedidas, vêm sempre sem os votos embutidos.
+     */
+    private static Document projection(Set<AgendaField> fields) {
+        return fields.containsAll(AgendaField.ALL) ? WITHOUT_EMBEDDED_VOTES : fieldsProjection(fields);
+    }
+    
+    private static Document fieldsProjection(Set<AgendaField> fields) {
+        Document projection = new Document("_id", 1);
+        for (AgendaField field : fields) {
+            switch (field) {
+                case ID -> { } // _id já incluído acima
+                case AGENDA_ID -> projection.append("agenda_id", 1);
+                case TITLE -> projection.append("title", 1);
+                case DESCRIPTION -> projection.append("description", 1);
+                case STATUS -> projection.append("status", 1);
+                case CREATED_AT -> projection.append("created_at", 1);
+                case CREATED_BY -> projection.append("created_by", 1);
+                case SESSIONS -> projection.append("sessions", SESSIONS_WITHOUT_VOTES);
+            }
+        }
+        return projection;
+    }
+    
+    /**
+     * Cada sessão inteira menos o array "votes" (removido no servidor via $objectToArray/$filter), mais as contagens
+     * dos votos legados embutidos; campos novos da sessão passam a ser lidos sem mexer aqui.
+     */
+    private static Document sessionsWithoutVotes() {
+        Document sessionFields = new Document("$arrayToObject", new Document("$filter", new Document("input", new Document("$objectToArray", "$$s"))
+            .append("as", "f")
+            .append("cond", new Document("$ne", List.of("$$f.k", "votes")))));
+        Document legacyCounts = new Document("legacy_yes_count", embeddedVoteCount("$$s.votes", VoteType.YES))
+            .append("legacy_no_count", embeddedVoteCount("$$s.votes", VoteType.NO));
+        return new Document("$map", new Document("input", new Document("$ifNull", List.of("$sessions", List.of())))
+            .append("as", "s")
+            .append("in", new Document("$mergeObjects", List.of(sessionFields, legacyCounts))));
+    }
+    
+    private static Document embeddedVoteCount(String votes, VoteType voteType) {
+        return new Document("$size", new Document("$filter", new Document("input", new Document("$ifNull", List.of(votes, List.of())))
+            .append("as", "v")
+            .append("cond", new Document("$eq", List.of("$$v.vote", voteType.name())))));
+    }
+    
+    /**
+     * Soma aos contadores das sessões fragmentadas os totais dos seus shards.
+     */
+    private Mono<AgendaCycleEntity> withShardTotals(AgendaCycleEntity agendaCycle) {
+        if (agendaCycle.getSessions() == null) {
+            return Mono.just(agendaCycle);
+        }
+        List<String> shardedSessionIds = agendaCycle.getSessions().stream()
+            .filter(session -> session.getTallyShards() != null && session.getTallyShards() > 0)
+            .map(SessionEntity::getSessionId)
+            .toList();
+        if (shardedSessionIds.isEmpty()) {
+            return Mono.just(agendaCycle);
+        }
+        return sessionTallyShards.totals(shardedSessionIds)
+            .map(totals -> {
+                agendaCycle.getSessions().forEach(session -> {
+                    VoteResult shardTotal = totals.get(session.getSessionId());
+                    if (shardTotal != null) {
+                        session.setYesCount(valueOrZero(session.getYesCount()) + shardTotal.simVotes());
+                        session.setNoCount(valueOrZero(session.getNoCount()) + shardTotal.naoVotes());
+                        session.setTotalCount(valueOrZero(session.getTotalCount()) + shardTotal.totalVotes());
+                    }
+                });
+                return agendaCycle;
+            });
+    }
+    
+    private long valueOrZero(Long value) {
+        return value != null ? value : 0L;
+    }
+    
+    /**
+     * Consulta a agenda da sessão projetando apenas metadados das sessões (e, opcionalmente, os contadores),
+     * sem trazer votos legados embutidos.
+     */
+    private Query sessionMetadataQuery(String sessionId, boolean includeCounters) {
+        Query query = Query.query(Criteria.where("sessions.session_id").is(sessionId));
+        query.fields()
+            .include("sessions.session_id")
+            .include("sessions.status")
+            .include("sessions.start_time")
+            .include("sessions.end_time");
+        if (includeCounters) {
+            query.fields()
+                .include("sessions.yes_count")
+                .include("sessions.no_count")
+                .include("sessions.total_count")
+                .include("sessions.tally_shards");
+        }
+        return query;
+    }
+    
+    /**
+     * Classifica um voto não aplicado pelo update condicional. Só é executado no caminho de rejeição
+     * e lê apenas os metadados das sessões (sem a lista de votos).
+     */
+    private Mono<VoteOutcome> resolveRejectedVote(String sessionId, LocalDateTime now) {
+        return reactiveMongoTemplate.findOne(sessionMetadataQuery(sessionId, false), AgendaCycleEntity.class)
+            .map(agendaCycle -> agendaCycle.getSessions().stream()
+                .filter(session -> sessionId.equals(session.getSessionId()))
+                .findFirst()
+                .map(session -> {
+                    if (session.getStatus() != SessionStatus.OPEN) {
+                        return VoteOutcome.CLOSED;
+                    }
+                    if (!now.isAfter(session.getStartTime())) {
+                        return VoteOutcome.NOT_STARTED;
+                    }
+                    if (!now.isBefore(session.getEndTime())) {
+                        return VoteOutcome.EXPIRED;
+                    }
+                    return VoteOutcome.CLOSED;
+                })
+                .orElse(VoteOutcome.NOT_FOUND))
+            .defaultIfEmpty(VoteOutcome.NOT_FOUND)
+            .doOnNext(outcome -> LOGGER.warn("[adapter.addVote] Voto rejeitado. sessionId={}, outcome={}", sessionId, outcome));
     }
     
     private SessionEntity createNewSessionEntity(LocalDateTime startTime, Integer durationMinutes) {
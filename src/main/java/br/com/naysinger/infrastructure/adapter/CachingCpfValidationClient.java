@@ -0,0 +1,146 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.domain.model.CpfEligibility;
+import br.com.naysinger.domain.port.CpfValidationPort;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Decorador de cache da validação de CPF: tamanho limitado, TTL distinto para CPF apto e para
+ * não encontrado/não apto (cache negativo) e coalescência de chamadas concorrentes para o mesmo CPF
+ * (N checagens simultâneas geram uma única chamada ao serviço). Falhas técnicas não são cacheadas.
+ */
+public class CachingCpfValidationClient implements CpfValidationPort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingCpfValidationClient.class);
+
+    private final CpfValidationPort delegate;
+    private final AsyncCache<String, Eligibility> cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    public CachingCpfValidationClient(CpfValidationPort delegate, long maxSize, Duration ableTtl, Duration unableTtl,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new EligibilityExpiry(ableTtl.toNanos(), unableTtl.toNanos()))
+            .buildAsync();
+        this.hits = Counter.builder("cpf.validation.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cpf.validation.cache").tag("result", "miss").register(meterRegistry);
+        this.coalesced = Counter.builder("cpf.validation.cache").tag("result", "coalesced").register(meterRegistry);
+        Gauge.builder("cpf.validation.cache.size", cache, c -> c.synchronous().estimatedSize())
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<CpfStatus> check(String cpf) {
+        return Mono.defer(() -> {
+            AtomicBoolean loaded = new AtomicBoolean(false);
+            CompletableFuture<Eligibility> future = cache.get(cpf, (key, executor) -> {
+                loaded.set(true);
+                return load(key);
+            });
+            if (loaded.get()) {
+                misses.increment();
+            } else if (future.isDone()) {
+                hits.increment();
+            } else {
+                coalesced.increment();
+            }
+            // Cancelamento de um assinante não pode cancelar a chamada compartilhada pelos demais
+            return Mono.fromFuture(future, true);
+        }).flatMap(eligibility -> eligibility.able()
+            ? Mono.just(CpfStatus.ABLE_TO_VOTE)
+            : Mono.<CpfStatus>error(new CpfNotFoundException(cpf)));
+    }
+
+    /**
+     * Em cada janela, responde do cache os CPFs já resolvidos e envia os demais ao cliente em um único lote,
+     * populando o cache com os resultados. A ordem de entrada é preservada.
+     */
+    @Override
+    public Flux<CpfEligibility> checkAll(Flux<String> cpfs) {
+        return cpfs.buffer(BATCH_SIZE)
+            .concatMap(batch -> {
+                Map<String, CpfEligibility> resolved = new HashMap<>();
+                Set<String> missing = new LinkedHashSet<>();
+                for (String cpf : batch) {
+                    CompletableFuture<Eligibility> cached = cache.getIfPresent(cpf);
+                    if (cached != null && cached.isDone() && !cached.isCompletedExceptionally()) {
+                        hits.increment();
+                        resolved.put(cpf, cached.join().toResult(cpf));
+                    } else if (missing.add(cpf)) {
+                        misses.increment();
+                    }
+                }
+                if (missing.isEmpty()) {
+                    return Flux.fromIterable(batch).map(resolved::get);
+                }
+                return delegate.checkAll(Flux.fromIterable(missing))
+                    .doOnNext(result -> {
+                        cache.put(result.cpf(), CompletableFuture.completedFuture(new Eligibility(result.status())));
+                        resolved.put(result.cpf(), result);
+                    })
+                    .thenMany(Flux.fromIterable(batch).map(resolved::get));
+            });
+    }
+
+    private CompletableFuture<Eligibility> load(String cpf) {
+        return delegate.check(cpf)
+            .map(Eligibility::new)
+            .onErrorResume(CpfNotFoundException.class, e -> Mono.just(new Eligibility(null)))
+            .doOnError(e -> LOGGER.warn("[CachingCpfValidationClient] Falha na validação, resultado não cacheado", e))
+            .toFuture();
+    }
+
+    /**
+     * Resultado cacheado: status retornado pelo serviço ou nulo para CPF não encontrado.
+     */
+    private record Eligibility(CpfStatus status) {
+        boolean able() {
+            return status == CpfStatus.ABLE_TO_VOTE;
+        }
+
+        CpfEligibility toResult(String cpf) {
+            return new CpfEligibility(cpf, able() ? CpfStatus.ABLE_TO_VOTE : CpfStatus.UNABLE_TO_VOTE);
+        }
+    }
+
+    private record EligibilityExpiry(long ableTtlNanos, long unableTtlNanos) implements Expiry<String, Eligibility> {
+
+        @Override
+        public long expireAfterCreate(String key, Eligibility value, long currentTime) {
+            return value.able() ? ableTtlNanos : unableTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Eligibility value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Eligibility value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -2,16 +2,16 @@ package br.com.naysinger.infrastructure.adapter;
 
 import br.com.naysinger.common.enums.CpfStatus;
 import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.domain.model.CpfEligibility;
 import br.com.naysinger.domain.port.CpfValidationPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.concurrent.ThreadLocalRandom;
 
-@Component
 public class CpfValidationFakeClient implements CpfValidationPort {
 	private static final Logger LOGGER = LoggerFactory.getLogger(CpfValidationFakeClient.class);
 	private final ThreadLocalRandom rnd = ThreadLocalRandom.current();
@@ -39,4 +39,19 @@ public class CpfValidationFakeClient implements CpfValidationPort {
 				return Mono.error(new CpfNotFoundException(cpf));
 			}));
 	}
+	
+	/**
+	 * Simula um endpoint de lote: uma única latência por janela de CPFs, com a mesma distribuição de respostas.
+	 */
+	@Override
+	public Flux<CpfEligibility> checkAll(Flux<String> cpfs) {
+		return cpfs.buffer(BATCH_SIZE)
+			.concatMap(batch -> {
+				long delay = rnd.nextLong(100, 501);
+				LOGGER.info("[CpfValidationFakeClient] Validando lote de CPFs (fake). size={}", batch.size());
+				return Mono.delay(Duration.ofMillis(delay))
+					.thenMany(Flux.fromIterable(batch))
+					.map(cpf -> new CpfEligibility(cpf, rnd.nextInt(100) >= 30 && rnd.nextBoolean() ? CpfStatus.ABLE_TO_VOTE : CpfStatus.UNABLE_TO_VOTE));
+			});
+	}
 }
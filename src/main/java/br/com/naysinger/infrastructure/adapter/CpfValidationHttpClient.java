@@ -0,0 +1,85 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.common.exception.CpfValidationRejectedException;
+import br.com.naysinger.domain.model.CpfEligibility;
+import br.com.naysinger.domain.port.CpfValidationPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cliente real da validação de CPF sobre o WebClient com pool de conexões configurado em WebFluxConfig.
+ * 404 e UNABLE_TO_VOTE viram {@link CpfNotFoundException}; os demais 4xx viram {@link CpfValidationRejectedException},
+ * que não é repetida nem conta como falha para o circuit breaker. Timeout, retry/backoff, bulkhead e circuit breaker
+ * são aplicados pelo decorador de resiliência.
+ */
+public class CpfValidationHttpClient implements CpfValidationPort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CpfValidationHttpClient.class);
+
+    private final WebClient webClient;
+    private final String url;
+    private final String batchUrl;
+
+    public CpfValidationHttpClient(WebClient webClient, String url, String batchUrl) {
+        this.webClient = webClient;
+        this.url = url;
+        this.batchUrl = batchUrl;
+    }
+
+    @Override
+    public Mono<CpfStatus> check(String cpf) {
+        String maskedCpf = cpf != null && cpf.length() >= 4 ? "***********".substring(0, Math.max(0, cpf.length() - 4)) + cpf.substring(cpf.length() - 4) : "***";
+        LOGGER.debug("[CpfValidationHttpClient] Validando CPF. cpfMasked={}", maskedCpf);
+        return webClient.get()
+            .uri(url, cpf)
+            .retrieve()
+            .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(),
+                response -> response.releaseBody().then(Mono.error(new CpfNotFoundException(cpf))))
+            .onStatus(HttpStatusCode::is4xxClientError,
+                response -> response.releaseBody().then(Mono.error(new CpfValidationRejectedException(response.statusCode().value()))))
+            .bodyToMono(CpfStatusResponse.class)
+            .flatMap(response -> {
+                if (response.status() == CpfStatus.ABLE_TO_VOTE) {
+                    return Mono.just(CpfStatus.ABLE_TO_VOTE);
+                }
+                LOGGER.warn("[CpfValidationHttpClient] CPF não apto para votar. cpfMasked={}", maskedCpf);
+                return Mono.error(new CpfNotFoundException(cpf));
+            });
+    }
+
+    /**
+     * Com batch-url configurada, cada janela de {@link #BATCH_SIZE} CPFs é enviada em um único POST;
+     * sem ela, cai na checagem individual concorrente do contrato. CPFs ausentes na resposta são tratados como não aptos.
+     */
+    @Override
+    public Flux<CpfEligibility> checkAll(Flux<String> cpfs) {
+        if (batchUrl == null || batchUrl.isBlank()) {
+            return CpfValidationPort.super.checkAll(cpfs);
+        }
+        return cpfs.buffer(BATCH_SIZE)
+            .concatMap(batch -> webClient.post()
+                .uri(batchUrl)
+                .bodyValue(batch)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError,
+                    response -> response.releaseBody().then(Mono.error(new CpfValidationRejectedException(response.statusCode().value()))))
+                .bodyToFlux(CpfEligibility.class)
+                .collectMap(CpfEligibility::cpf, CpfEligibility::status)
+                .flatMapIterable(statuses -> batch.stream()
+                    .map(cpf -> new CpfEligibility(cpf, statuses.getOrDefault(cpf, CpfStatus.UNABLE_TO_VOTE)))
+                    .toList()));
+    }
+
+    /**
+     * Corpo de resposta do serviço: {"status": "ABLE_TO_VOTE" | "UNABLE_TO_VOTE"}
+     */
+    record CpfStatusResponse(CpfStatus status) {
+    }
+}
@@ -0,0 +1,184 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.common.exception.CpfValidationRejectedException;
+import br.com.naysinger.common.exception.CpfValidationUnavailableException;
+import br.com.naysinger.domain.model.CpfEligibility;
+import br.com.naysinger.domain.port.CpfValidationPort;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Decorador de resiliência da validação de CPF. Cada chamada ao serviço passa por um bulkhead
+ * (limite de chamadas concorrentes) e por timeout; opcionalmente uma segunda tentativa "hedged" é disparada
+ * após um atraso baseado no p95 recente. Por fora, o circuit breaker falha rápido enquanto a dependência
+ * está degradada e o retry aplica o backoff exponencial configurado.
+ * Rejeições por bulkhead cheio ou circuito aberto viram {@link CpfValidationUnavailableException}.
+ */
+public class ResilientCpfValidationClient implements CpfValidationPort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResilientCpfValidationClient.class);
+
+    private final CpfValidationPort delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Retry retry;
+    private final Duration timeout;
+    private final boolean hedgeEnabled;
+    private final Duration hedgeInitialDelay;
+    private final Duration hedgeMinDelay;
+    private final LatencyWindow latencies = new LatencyWindow(256);
+    private final Counter hedgedCalls;
+
+    public ResilientCpfValidationClient(CpfValidationPort delegate, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                                        Retry retry, Duration timeout, boolean hedgeEnabled,
+                                        Duration hedgeInitialDelay, Duration hedgeMinDelay, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.retry = retry;
+        this.timeout = timeout;
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeInitialDelay = hedgeInitialDelay;
+        this.hedgeMinDelay = hedgeMinDelay;
+        this.hedgedCalls = Counter.builder("cpf.validation.hedged")
+            .description("Segundas tentativas disparadas por demora da primeira")
+            .register(meterRegistry);
+        registerObservers(meterRegistry);
+    }
+
+    @Override
+    public Mono<CpfStatus> check(String cpf) {
+        Mono<CpfStatus> call = hedgeEnabled ? hedged(cpf) : attempt(cpf);
+        return call
+            .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+            .transformDeferred(RetryOperator.of(retry))
+            .onErrorMap(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException,
+                CpfValidationUnavailableException::new);
+    }
+
+    /**
+     * Cada janela de {@link #BATCH_SIZE} CPFs é uma única chamada protegida: ocupa uma vaga do bulkhead
+     * e conta como uma chamada para o circuit breaker e o retry. O timeout cresce com o lote (ver {@link #batchTimeout}).
+     */
+    @Override
+    public Flux<CpfEligibility> checkAll(Flux<String> cpfs) {
+        return cpfs.buffer(BATCH_SIZE)
+            .concatMap(batch -> Mono.defer(() -> delegate.checkAll(Flux.fromIterable(batch)).collectList().timeout(batchTimeout(batch.size())))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(RetryOperator.of(retry))
+                .onErrorMap(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException,
+                    CpfValidationUnavailableException::new))
+            .flatMapIterable(results -> results);
+    }
+
+    /**
+     * Sem endpoint de lote, o delegate faz uma chamada por CPF, {@link #BATCH_PARALLELISM} por vez: o lote leva
+     * até ceil(n / BATCH_PARALLELISM) rodadas, e cada rodada tem o timeout de uma chamada individual.
+     */
+    private Duration batchTimeout(int batchSize) {
+        return timeout.multipliedBy(Math.max(1, (batchSize + BATCH_PARALLELISM - 1) / BATCH_PARALLELISM));
+    }
+
+    /**
+     * Uma chamada ao serviço: ocupa uma vaga do bulkhead e é limitada pelo timeout configurado.
+     */
+    private Mono<CpfStatus> attempt(String cpf) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return delegate.check(cpf)
+                .timeout(timeout)
+                .doOnSuccess(status -> latencies.record(System.nanoTime() - start));
+        }).transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+
+    /**
+     * Dispara a segunda tentativa se a primeira não responder dentro do p95 recente; vale o primeiro sinal.
+     * Uma falha do hedge (bulkhead cheio, timeout, transporte) nunca vence a primeira tentativa ainda em andamento:
+     * só CpfNotFoundException e CpfValidationRejectedException, respostas definitivas do serviço, são propagadas por ele.
+     */
+    private Mono<CpfStatus> hedged(String cpf) {
+        Duration delay = hedgeDelay();
+        Mono<CpfStatus> hedge = Mono.delay(delay)
+            .doOnNext(tick -> hedgedCalls.increment())
+            .then(attempt(cpf))
+            .onErrorResume(e -> !(e instanceof CpfNotFoundException || e instanceof CpfValidationRejectedException), e -> {
+                LOGGER.debug("[ResilientCpfValidationClient] Hedge falhou, aguardando a primeira tentativa. error={}", e.toString());
+                return Mono.never();
+            });
+        return Mono.firstWithSignal(attempt(cpf), hedge);
+    }
+
+    private Duration hedgeDelay() {
+        long p95 = latencies.p95Nanos();
+        if (p95 <= 0) {
+            return hedgeInitialDelay;
+        }
+        Duration delay = Duration.ofNanos(p95);
+        return delay.compareTo(hedgeMinDelay) < 0 ? hedgeMinDelay : delay;
+    }
+
+    private void registerObservers(MeterRegistry meterRegistry) {
+        circuitBreaker.getEventPublisher()
+            .onStateTransition(event -> {
+                LOGGER.warn("[ResilientCpfValidationClient] Circuit breaker mudou de estado. transition={}", event.getStateTransition());
+                meterRegistry.counter("cpf.validation.circuit.transitions",
+                    "from", event.getStateTransition().getFromState().name(),
+                    "to", event.getStateTransition().getToState().name()).increment();
+            })
+            .onCallNotPermitted(event -> meterRegistry.counter("cpf.validation.rejected", "reason", "circuit_open").increment());
+        bulkhead.getEventPublisher()
+            .onCallRejected(event -> meterRegistry.counter("cpf.validation.rejected", "reason", "bulkhead_full").increment());
+    }
+
+    /**
+     * Janela circular das latências das últimas chamadas bem-sucedidas; o p95 é recalculado a cada 32 amostras.
+     */
+    private static final class LatencyWindow {
+        private static final int MIN_SAMPLES = 20;
+        private static final int RECOMPUTE_EVERY = 32;
+
+        private final long[] samples;
+        private int next;
+        private int size;
+        private int sinceRecompute;
+        private volatile long p95Nanos;
+
+        private LatencyWindow(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        private synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+            if (size >= MIN_SAMPLES && ++sinceRecompute >= RECOMPUTE_EVERY) {
+                long[] sorted = Arrays.copyOf(samples, size);
+                Arrays.sort(sorted);
+                p95Nanos = sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+                sinceRecompute = 0;
+            }
+        }
+
+        private long p95Nanos() {
+            return p95Nanos;
+        }
+    }
+}
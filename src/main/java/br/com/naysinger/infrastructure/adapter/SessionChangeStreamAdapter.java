@@ -0,0 +1,72 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.domain.port.SessionChangesPort;
+import br.com.naysinger.infrastructure.entity.AgendaCycleEntity;
+import br.com.naysinger.infrastructure.entity.TallyShardEntity;
+import com.mongodb.client.model.changestream.FullDocument;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Change streams das alterações de uma sessão: o documento da agenda (contadores, status e janela, filtrado pelo
+ * _id no servidor, sem updateLookup para não trafegar o documento inteiro) e os shards de contadores da sessão
+ * (documentos pequenos, filtrados pelo session_id do documento completo). Os streams partem do operationTime lido
+ * antes de emitir "open", então nenhuma escrita posterior a uma leitura feita depois de "open" é perdida,
+ * mesmo que o cursor do change stream ainda esteja sendo aberto.
+ */
+@Component
+public class SessionChangeStreamAdapter implements SessionChangesPort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionChangeStreamAdapter.class);
+    private static final List<String> WRITE_OPERATIONS = List.of("insert", "update", "replace");
+    private static final String OPEN = "open";
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    public SessionChangeStreamAdapter(ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+    }
+
+    @Override
+    public Flux<String> watchSession(String sessionId) {
+        String agendas = reactiveMongoTemplate.getCollectionName(AgendaCycleEntity.class);
+        String shards = reactiveMongoTemplate.getCollectionName(TallyShardEntity.class);
+        return reactiveMongoTemplate.getCollection(agendas)
+            .flatMap(collection -> Mono.from(collection.find(new Document("sessions.session_id", sessionId))
+                .projection(new Document("_id", 1))
+                .first()))
+            .zipWith(operationTime())
+            .flatMapMany(start -> Flux.concat(Mono.just(OPEN), Flux.merge(
+                watch(agendas, new Document("documentKey._id", start.getT1().get("_id")), FullDocument.DEFAULT, start.getT2()),
+                watch(shards, new Document("fullDocument.session_id", sessionId), FullDocument.UPDATE_LOOKUP, start.getT2()))))
+            .doOnSubscribe(s -> LOGGER.debug("[adapter.watchSession] Abrindo change streams. sessionId={}", sessionId))
+            .doFinally(signal -> LOGGER.debug("[adapter.watchSession] Change streams encerrados. sessionId={}, signal={}", sessionId, signal));
+    }
+
+    private Flux<String> watch(String collectionName, Document filter, FullDocument fullDocument, BsonTimestamp startAt) {
+        List<Document> pipeline = List.of(new Document("$match",
+            new Document(filter).append("operationType", new Document("$in", WRITE_OPERATIONS))));
+        return reactiveMongoTemplate.getCollection(collectionName)
+            .flatMapMany(collection -> collection.watch(pipeline).fullDocument(fullDocument).startAtOperationTime(startAt))
+            .map(event -> collectionName);
+    }
+    
+    /**
+     * operationTime do servidor, presente nas respostas de membros de replica set. Standalone não tem, e o
+     * change stream falharia de qualquer forma.
+     */
+    private Mono<BsonTimestamp> operationTime() {
+        return reactiveMongoTemplate.executeCommand(new Document("ping", 1))
+            .flatMap(reply -> reply.get("operationTime") instanceof BsonTimestamp time
+                ? Mono.just(time)
+                : Mono.error(new IllegalStateException("MongoDB sem operationTime: change streams exigem replica set")));
+    }
+}
@@ -0,0 +1,205 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.SessionStatus;
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.infrastructure.entity.AgendaCycleEntity;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Agrupa os incrementos de contadores das sessões não fragmentadas, complementando a ingestão write-behind.
+ * Em vez de um $inc por voto, cada flush aplica um único update condicional por sessão com os deltas somados;
+ * o Mono de cada voto completa com o resultado desse update (aplicado ou sessão fora da janela).
+ */
+@Component
+@ConditionalOnExpression("${voting-solution.votes.write-behind.enabled:false} and '${voting-solution.votes.storage:document}' == 'document'")
+public class SessionCounterBatcher implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionCounterBatcher.class);
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final Map<String, PendingCounters> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingVotes = new AtomicInteger();
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+    private final int maxBatchSize;
+    private final Duration flushInterval;
+    private final Duration drainTimeout;
+    private final DistributionSummary votesPerUpdate;
+
+    private volatile boolean running;
+    private Disposable flushTicker;
+
+    public SessionCounterBatcher(ReactiveMongoTemplate reactiveMongoTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${voting-solution.votes.write-behind.max-batch-size:500}") int maxBatchSize,
+                                 @Value("${voting-solution.votes.write-behind.flush-interval:10}") int flushInterval,
+                                 @Value("${voting-solution.votes.write-behind.drain-timeout:30000}") int drainTimeout) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.flushInterval = Duration.ofMillis(flushInterval);
+        this.drainTimeout = Duration.ofMillis(drainTimeout);
+        this.votesPerUpdate = DistributionSummary.builder("votes.write_behind.counters.batch.size")
+            .description("Quantidade de votos contabilizados por $inc de sessão")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira o incremento do voto na sessão. Fora do ciclo de vida (desligamento), aplica o $inc imediatamente,
+     * já que o voto correspondente pode já estar gravado.
+     */
+    public Mono<Boolean> increment(String sessionId, VoteType voteType) {
+        return Mono.defer(() -> {
+            if (!running) {
+                return apply(sessionId, voteType == VoteType.YES ? 1 : 0, voteType == VoteType.NO ? 1 : 0);
+            }
+            Sinks.One<Boolean> result = Sinks.one();
+            // compute e remove são atômicos por chave: o flush que remove o acumulador é o único dono dele
+            pending.compute(sessionId, (id, counters) -> {
+                PendingCounters target = counters == null ? new PendingCounters() : counters;
+                target.add(voteType, result);
+                pendingVotes.incrementAndGet();
+                return target;
+            });
+            // stop() pode ter drenado os acumuladores entre a checagem acima e o compute: grava o que sobrou
+            if (!running) {
+                writePending().subscribe();
+            } else if (pendingVotes.get() >= maxBatchSize) {
+                flush();
+            }
+            return result.asMono();
+        });
+    }
+
+    private void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        writePending()
+            .doFinally(signal -> {
+                flushing.set(false);
+                if (pendingVotes.get() >= maxBatchSize) {
+                    flush();
+                }
+            })
+            .subscribe();
+    }
+
+    /**
+     * Aplica um $inc por sessão com os votos acumulados até aqui e completa cada chamador com o resultado.
+     */
+    private Mono<Void> writePending() {
+        List<String> sessionIds = new ArrayList<>(pending.keySet());
+        return Flux.fromIterable(sessionIds)
+            .flatMap(sessionId -> {
+                PendingCounters counters = pending.remove(sessionId);
+                if (counters == null) {
+                    return Mono.empty();
+                }
+                pendingVotes.addAndGet(-counters.results.size());
+                votesPerUpdate.record(counters.results.size());
+                return apply(sessionId, counters.yes, counters.no)
+                    .doOnNext(counters::complete)
+                    .doOnError(counters::fail)
+                    .doOnCancel(() -> counters.fail(new IllegalStateException("Contabilização cancelada no desligamento")))
+                    .onErrorResume(e -> {
+                        LOGGER.error("[adapter.counterBatch.flush] Falha ao contabilizar votos. sessionId={}, votes={}", sessionId, counters.results.size(), e);
+                        return Mono.empty();
+                    });
+            })
+            .then();
+    }
+
+    private Mono<Boolean> apply(String sessionId, long yes, long no) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(Criteria.where("sessions").elemMatch(
+                Criteria.where("session_id").is(sessionId)
+                        .and("status").is(SessionStatus.OPEN)
+                        .and("start_time").lt(now)
+                        .and("end_time").gt(now)));
+        Update update = new Update()
+            .inc("sessions.$.total_count", yes + no)
+            .inc("sessions.$.yes_count", yes)
+            .inc("sessions.$.no_count", no);
+        return reactiveMongoTemplate.updateFirst(query, update, AgendaCycleEntity.class)
+            .map(result -> result.getModifiedCount() > 0);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flushTicker = Flux.interval(flushInterval).subscribe(tick -> flush());
+        LOGGER.info("[adapter.counterBatch.start] Contabilização em lote ativa. flushInterval={}", flushInterval);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flushTicker != null) {
+            flushTicker.dispose();
+        }
+        try {
+            writePending().block(drainTimeout);
+        } catch (IllegalStateException e) {
+            LOGGER.error("[adapter.counterBatch.stop] Contadores não confirmados dentro do tempo de drenagem", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Para depois da ingestão write-behind, cujo drain ainda contabiliza os votos gravados no último lote.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+
+    private static final class PendingCounters {
+        private final List<Sinks.One<Boolean>> results = new ArrayList<>();
+        private long yes;
+        private long no;
+
+        void add(VoteType voteType, Sinks.One<Boolean> result) {
+            if (voteType == VoteType.YES) {
+                yes++;
+            } else {
+                no++;
+            }
+            results.add(result);
+        }
+
+        void complete(boolean applied) {
+            results.forEach(result -> result.tryEmitValue(applied));
+        }
+
+        void fail(Throwable error) {
+            results.forEach(result -> result.tryEmitError(error));
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.SessionStatus;
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.domain.model.VoteResult;
+import br.com.naysinger.infrastructure.entity.AgendaCycleEntity;
+import br.com.naysinger.infrastructure.entity.SessionEntity;
+import br.com.naysinger.infrastructure.entity.TallyShardEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+/**
+ * Contadores fragmentados (sharded tally) para sessões muito disputadas: em vez de todo voto incrementar
+ * os mesmos campos do documento da agenda, cada voto incrementa um entre K documentos de shard escolhido
+ * ao acaso e o resultado é a soma dos shards com os contadores da própria sessão.
+ * K vem de configuração para novas sessões e pode ser dobrado automaticamente quando a latência de escrita sobe.
+ * O K de cada sessão fica em memória e é relido a cada {@code refresh-interval} ms, para que um aumento feito
+ * por outra instância chegue a esta; até lá, a instância só usa os shards [0, K antigo), que continuam somados.
+ */
+@Component
+public class SessionTallyShards {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionTallyShards.class);
+    private static final int MAX_TRACKED_SESSIONS = 10_000;
+    private static final int MIN_SAMPLES_BEFORE_RAISE = 100;
+    private static final double EWMA_ALPHA = 0.05;
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final int defaultShards;
+    private final int maxShards;
+    private final long latencyThresholdMs;
+    private final long refreshIntervalNanos;
+    private final Cache<String, TallyState> states = Caffeine.newBuilder()
+        .maximumSize(MAX_TRACKED_SESSIONS)
+        .build();
+
+    public SessionTallyShards(ReactiveMongoTemplate reactiveMongoTemplate,
+                              @Value("${voting-solution.votes.tally.shards:1}") int defaultShards,
+                              @Value("${voting-solution.votes.tally.max-shards:64}") int maxShards,
+                              @Value("${voting-solution.votes.tally.auto-raise.latency-threshold:0}") long latencyThresholdMs,
+                              @Value("${voting-solution.votes.tally.refresh-interval:5000}") long refreshInterval) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.defaultShards = defaultShards;
+        this.maxShards = maxShards;
+        this.latencyThresholdMs = latencyThresholdMs;
+        this.refreshIntervalNanos = Duration.ofMillis(refreshInterval).toNanos();
+    }
+
+    /**
+     * Quantidade de shards usada para novas sessões; 1 (ou menos) mantém os contadores só na sessão.
+     */
+    public int defaultShards() {
+        return defaultShards > 1 ? Math.min(defaultShards, maxShards) : 0;
+    }
+
+    /**
+     * Cria os shards [from, to) zerados de uma sessão. Shards já existentes são ignorados.
+     */
+    public Mono<Void> openShards(String agendaId, SessionEntity session, int from, int to) {
+        List<TallyShardEntity> shards = IntStream.range(from, to)
+            .mapToObj(shard -> TallyShardEntity.open(agendaId, session, shard))
+            .toList();
+        return Flux.fromIterable(shards)
+            .flatMap(shard -> reactiveMongoTemplate.insert(shard)
+                .onErrorResume(DuplicateKeyException.class, e -> Mono.empty()))
+            .then()
+            .doOnSuccess(v -> LOGGER.info("[adapter.tally.openShards] Shards criados. sessionId={}, from={}, to={}", session.getSessionId(), from, to));
+    }
+
+    /**
+     * Quantidade de shards ativos da sessão (0 = contadores na própria sessão). Mantida em memória e relida do
+     * documento da sessão quando passa de refresh-interval; só uma releitura por sessão fica em andamento.
+     */
+    public Mono<Integer> shardsFor(String sessionId) {
+        TallyState state = states.getIfPresent(sessionId);
+        if (state == null) {
+            return readShards(sessionId)
+                .map(shards -> track(sessionId, shards).shards)
+                .defaultIfEmpty(0);
+        }
+        if (System.nanoTime() - state.refreshedAt < refreshIntervalNanos || !state.refreshing.compareAndSet(false, true)) {
+            return Mono.just(state.shards);
+        }
+        return readShards(sessionId)
+            .doOnNext(state::refresh)
+            .then(Mono.fromSupplier(() -> state.shards))
+            .doFinally(signal -> state.refreshing.set(false));
+    }
+
+    /**
+     * tally_shards gravado na sessão (0 quando ausente); vazio se a sessão não existe.
+     */
+    private Mono<Integer> readShards(String sessionId) {
+        Query query = Query.query(Criteria.where("sessions.session_id").is(sessionId));
+        query.fields().elemMatch("sessions", Criteria.where("session_id").is(sessionId));
+        return reactiveMongoTemplate.findOne(query, AgendaCycleEntity.class)
+            .flatMap(agendaCycle -> Mono.justOrEmpty(agendaCycle.getSessions().stream().findFirst()))
+            .map(session -> session.getTallyShards() != null ? session.getTallyShards() : 0);
+    }
+
+    /**
+     * Incrementa um shard escolhido ao acaso, condicionado à sessão aberta e dentro da janela de votação.
+     */
+    public Mono<Boolean> increment(String sessionId, int shards, VoteType voteType, LocalDateTime now) {
+        int shard = ThreadLocalRandom.current().nextInt(shards);
+        Query query = Query.query(Criteria.where("session_id").is(sessionId)
+                .and("shard").is(shard)
+                .and("status").is(SessionStatus.OPEN)
+                .and("start_time").lt(now)
+                .and("end_time").gt(now));
+        Update update = new Update()
+            .inc("total_count", 1)
+            .inc(voteType == VoteType.YES ? "yes_count" : "no_count", 1);
+        return reactiveMongoTemplate.updateFirst(query, update, TallyShardEntity.class)
+            .map(result -> result.getModifiedCount() > 0);
+    }
+
+    /**
+     * Registra a latência de uma escrita de contador. Com auto-raise habilitado, dobra os shards da sessão
+     * quando a média móvel passa do limite configurado.
+     */
+    public void recordLatency(String sessionId, long elapsedNanos) {
+        if (latencyThresholdMs <= 0) {
+            return;
+        }
+        TallyState state = states.getIfPresent(sessionId);
+        if (state == null) {
+            return;
+        }
+        double elapsedMs = elapsedNanos / 1_000_000.0;
+        synchronized (state) {
+            state.ewmaMs = state.samples == 0 ? elapsedMs : state.ewmaMs + EWMA_ALPHA * (elapsedMs - state.ewmaMs);
+            state.samples++;
+        }
+        if (state.samples >= MIN_SAMPLES_BEFORE_RAISE && state.ewmaMs > latencyThresholdMs
+                && state.shards < maxShards && state.raising.compareAndSet(false, true)) {
+            raise(sessionId, state)
+                .doFinally(signal -> state.raising.set(false))
+                .subscribe(null, err -> LOGGER.warn("[adapter.tally.raise] Falha ao ampliar shards. sessionId={}", sessionId, err));
+        }
+    }
+
+    /**
+     * Abre os shards novos e grava o novo K condicionado ao K lido. Se o update não casar (outra instância ampliou
+     * antes), o K em memória passa a ser o gravado na sessão, e não o alvo calculado aqui.
+     */
+    private Mono<Void> raise(String sessionId, TallyState state) {
+        int current = state.shards;
+        int target = Math.min(maxShards, Math.max(2, current * 2));
+        Query query = Query.query(Criteria.where("sessions.session_id").is(sessionId));
+        query.fields().include("agenda_id").elemMatch("sessions", Criteria.where("session_id").is(sessionId));
+        return reactiveMongoTemplate.findOne(query, AgendaCycleEntity.class)
+            .flatMap(agendaCycle -> {
+                SessionEntity session = agendaCycle.getSessions().getFirst();
+                Criteria sameShards = Criteria.where("session_id").is(sessionId)
+                    .and("tally_shards").is(current > 0 ? current : null);
+                Query guard = Query.query(Criteria.where("sessions").elemMatch(sameShards));
+                return openShards(agendaCycle.getAgendaId(), session, current, target)
+                    .then(reactiveMongoTemplate.updateFirst(guard, new Update().set("sessions.$.tally_shards", target), AgendaCycleEntity.class));
+            })
+            .flatMap(result -> {
+                if (result.getModifiedCount() > 0) {
+                    LOGGER.info("[adapter.tally.raise] Shards ampliados por latência. sessionId={}, shards={}, latencyThresholdMs={}", sessionId, target, latencyThresholdMs);
+                    return Mono.just(target);
+                }
+                LOGGER.info("[adapter.tally.raise] Shards já alterados por outra instância, relendo. sessionId={}", sessionId);
+                return readShards(sessionId);
+            })
+            .doOnNext(shards -> {
+                synchronized (state) {
+                    state.refresh(shards);
+                    state.samples = 0;
+                }
+            })
+            .then();
+    }
+
+    /**
+     * Soma os contadores dos shards de cada sessão no servidor.
+     */
+    public Mono<Map<String, VoteResult>> totals(Collection<String> sessionIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("session_id").in(sessionIds)),
+            Aggregation.group("sessionId").sum("yesCount").as("yes").sum("noCount").as("no").sum("totalCount").as("total"));
+        return reactiveMongoTemplate.aggregate(aggregation, TallyShardEntity.class, Document.class)
+            .collectMap(
+                totals -> totals.getString("_id"),
+                totals -> new VoteResult(
+                    ((Number) totals.get("yes")).longValue(),
+                    ((Number) totals.get("no")).longValue(),
+                    ((Number) totals.get("total")).longValue()));
+    }
+
+    public Mono<Void> closeSession(String sessionId) {
+        states.invalidate(sessionId);
+        return reactiveMongoTemplate.updateMulti(Query.query(Criteria.where("session_id").is(sessionId)),
+                new Update().set("status", SessionStatus.CLOSED), TallyShardEntity.class)
+            .then();
+    }
+
+    public Mono<Void> closeAgenda(String agendaId) {
+        return reactiveMongoTemplate.updateMulti(
+                Query.query(Criteria.where("agenda_id").is(agendaId).and("status").is(SessionStatus.OPEN)),
+                new Update().set("status", SessionStatus.CLOSED), TallyShardEntity.class)
+            .then();
+    }
+
+    /**
+     * Passa a acompanhar a sessão; acima de MAX_TRACKED_SESSIONS o cache descarta as sessões menos usadas.
+     */
+    private TallyState track(String sessionId, int shards) {
+        TallyState state = states.get(sessionId, id -> new TallyState(shards));
+        state.refresh(shards);
+        return state;
+    }
+
+    private static final class TallyState {
+        private volatile int shards;
+        private volatile double ewmaMs;
+        private volatile long samples;
+        private volatile long refreshedAt;
+        private final AtomicBoolean raising = new AtomicBoolean(false);
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private TallyState(int shards) {
+            this.shards = shards;
+            this.refreshedAt = System.nanoTime();
+        }
+
+        /**
+         * K só cresce: uma leitura anterior a um aumento local não pode reduzi-lo.
+         */
+        private synchronized void refresh(int shards) {
+            this.shards = Math.max(this.shards, shards);
+            this.refreshedAt = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.common.exception.DuplicateCpfException;
+import br.com.naysinger.domain.model.Vote;
+import br.com.naysinger.domain.model.VoteResult;
+import br.com.naysinger.domain.port.VotePort;
+import br.com.naysinger.infrastructure.entity.VoteBucketEntity;
+import br.com.naysinger.infrastructure.entity.VoteEntity;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Armazena os votos em buckets de capacidade fixa por sessão (bucket pattern).
+ * Cada voto é anexado atomicamente ao bucket corrente não cheio ou abre o próximo bucket da sequência;
+ * os contadores por bucket permitem consolidar o resultado sem carregar votos.
+ */
+@Component
+@ConditionalOnProperty(name = "voting-solution.votes.storage", havingValue = "bucket")
+public class VoteBucketAdapter implements VotePort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VoteBucketAdapter.class);
+    private static final int MAX_BUCKET_OPEN_ATTEMPTS = 5;
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final int bucketCapacity;
+
+    public VoteBucketAdapter(ReactiveMongoTemplate reactiveMongoTemplate,
+                             @Value("${voting-solution.votes.bucket.capacity:1000}") int bucketCapacity) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.bucketCapacity = bucketCapacity;
+    }
+
+    @Override
+    public Mono<Vote> save(String sessionId, Vote vote) {
+        LOGGER.debug("[adapter.buckets.save] sessionId={}, userId={}", sessionId, vote.getUserId());
+        VoteEntity voteEntity = new VoteEntity(vote.getUserId(), vote.getCpf(), vote.getVote(), vote.getTimestamp());
+        return appendToCurrentBucket(sessionId, voteEntity)
+            .switchIfEmpty(Mono.defer(() -> openNextBucket(sessionId, voteEntity)))
+            .retryWhen(Retry.max(MAX_BUCKET_OPEN_ATTEMPTS).filter(BucketSequenceConflictException.class::isInstance))
+            .doOnNext(bucket -> LOGGER.debug("[adapter.buckets.save] Voto anexado. sessionId={}, bucketSeq={}, count={}", sessionId, bucket.getBucketSeq(), bucket.getCount()))
+            .thenReturn(vote)
+            .onErrorMap(DuplicateKeyException.class, e -> new DuplicateCpfException(vote.getCpf()));
+    }
+
+    /**
+     * Anexa ao bucket corrente (maior sequência) que ainda tem espaço e não contém o CPF, em uma única operação.
+     */
+    private Mono<VoteBucketEntity> appendToCurrentBucket(String sessionId, VoteEntity voteEntity) {
+        Query query = Query.query(Criteria.where("session_id").is(sessionId)
+                .and("count").lt(bucketCapacity)
+                .and("votes.cpf").ne(voteEntity.getCpf()))
+            .with(Sort.by(Sort.Direction.DESC, "bucket_seq"));
+        Update update = new Update()
+            .push("votes", voteEntity)
+            .inc("count", 1)
+            .inc(voteEntity.getVote() == VoteType.YES ? "yes_count" : "no_count", 1);
+        return reactiveMongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), VoteBucketEntity.class);
+    }
+
+    /**
+     * Abre o próximo bucket da sequência com o voto. Se outro voto abrir o mesmo bucket concorrentemente,
+     * o índice único de sequência rejeita a inserção e o fluxo é refeito a partir do append.
+     * A chave duplicada pode vir de qualquer um dos dois índices únicos e o driver não expõe qual (keyPattern não
+     * chega ao WriteError): o CPF já gravado na sessão é o que distingue o voto duplicado do conflito de sequência.
+     */
+    private Mono<VoteBucketEntity> openNextBucket(String sessionId, VoteEntity voteEntity) {
+        Query lastBucket = Query.query(Criteria.where("session_id").is(sessionId))
+            .with(Sort.by(Sort.Direction.DESC, "bucket_seq"))
+            .limit(1);
+        lastBucket.fields().include("bucket_seq");
+        return reactiveMongoTemplate.findOne(lastBucket, VoteBucketEntity.class)
+            .map(bucket -> bucket.getBucketSeq() + 1)
+            .defaultIfEmpty(0L)
+            .flatMap(nextSeq -> reactiveMongoTemplate.insert(VoteBucketEntity.open(sessionId, nextSeq, voteEntity)))
+            .doOnNext(bucket -> LOGGER.info("[adapter.buckets.openNextBucket] Bucket aberto. sessionId={}, bucketSeq={}", sessionId, bucket.getBucketSeq()))
+            .onErrorResume(DuplicateKeyException.class, e -> exists(sessionId, voteEntity.getCpf())
+                .flatMap(cpfConflict -> Mono.<VoteBucketEntity>error(cpfConflict ? e : new BucketSequenceConflictException(e))));
+    }
+
+    @Override
+    public Mono<Void> delete(String sessionId, String cpf) {
+        LOGGER.debug("[adapter.buckets.delete] sessionId={}", sessionId);
+        Query query = Query.query(Criteria.where("session_id").is(sessionId).and("votes.cpf").is(cpf));
+        query.fields().include("_id").elemMatch("votes", Criteria.where("cpf").is(cpf));
+        return reactiveMongoTemplate.findOne(query, VoteBucketEntity.class)
+            .filter(bucket -> !bucket.getVotes().isEmpty())
+            .flatMap(bucket -> {
+                VoteType voteType = bucket.getVotes().getFirst().getVote();
+                Update update = new Update()
+                    .pull("votes", new Document("cpf", cpf))
+                    .inc("count", -1)
+                    .inc(voteType == VoteType.YES ? "yes_count" : "no_count", -1);
+                return reactiveMongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(bucket.getId()).and("votes.cpf").is(cpf)), update, VoteBucketEntity.class);
+            })
+            .doOnNext(result -> LOGGER.info("[adapter.buckets.delete] Voto removido. sessionId={}, modified={}", sessionId, result.getModifiedCount()))
+            .then();
+    }
+
+    @Override
+    public Mono<Boolean> exists(String sessionId, String cpf) {
+        return reactiveMongoTemplate.exists(
+            Query.query(Criteria.where("session_id").is(sessionId).and("votes.cpf").is(cpf)), VoteBucketEntity.class);
+    }
+
+    @Override
+    public Flux<Vote> findBySessionId(String sessionId) {
+        LOGGER.debug("[adapter.buckets.findBySessionId] sessionId={}", sessionId);
+        Query query = Query.query(Criteria.where("session_id").is(sessionId))
+            .with(Sort.by(Sort.Direction.ASC, "bucket_seq"));
+        return reactiveMongoTemplate.find(query, VoteBucketEntity.class)
+            .flatMapIterable(VoteBucketEntity::getVotes)
+            .map(entity -> Vote.builder()
+                .userId(entity.getUserId())
+                .cpf(entity.getCpf())
+                .vote(entity.getVote())
+                .timestamp(entity.getTimestamp())
+                .build());
+    }
+
+    /**
+     * Soma os contadores dos buckets no servidor; nenhum voto trafega.
+     */
+    @Override
+    public Mono<VoteResult> countBySessionId(String sessionId) {
+        LOGGER.debug("[adapter.buckets.countBySessionId] sessionId={}", sessionId);
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("session_id").is(sessionId)),
+            Aggregation.group().sum("yesCount").as("yes").sum("noCount").as("no"));
+        return reactiveMongoTemplate.aggregate(aggregation, VoteBucketEntity.class, Document.class)
+            .next()
+            .map(totals -> {
+                long yes = ((Number) totals.get("yes")).longValue();
+                long no = ((Number) totals.get("no")).longValue();
+                return new VoteResult(yes, no, yes + no);
+            })
+            .defaultIfEmpty(new VoteResult(0, 0, 0));
+    }
+
+    private static class BucketSequenceConflictException extends RuntimeException {
+        BucketSequenceConflictException(Throwable cause) {
+            super("Bucket já aberto por outro voto concorrente", cause);
+        }
+    }
+}
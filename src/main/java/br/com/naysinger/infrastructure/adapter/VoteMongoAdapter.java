@@ -0,0 +1,72 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.common.exception.DuplicateCpfException;
+import br.com.naysinger.domain.model.Vote;
+import br.com.naysinger.domain.model.VoteResult;
+import br.com.naysinger.domain.port.VotePort;
+import br.com.naysinger.infrastructure.mapper.SessionVoteMapper;
+import br.com.naysinger.infrastructure.repository.SessionVoteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = "voting-solution.votes.storage", havingValue = "document", matchIfMissing = true)
+public class VoteMongoAdapter implements VotePort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VoteMongoAdapter.class);
+
+    private final SessionVoteRepository sessionVoteRepository;
+    private final SessionVoteMapper sessionVoteMapper;
+
+    public VoteMongoAdapter(SessionVoteRepository sessionVoteRepository, SessionVoteMapper sessionVoteMapper) {
+        this.sessionVoteRepository = sessionVoteRepository;
+        this.sessionVoteMapper = sessionVoteMapper;
+    }
+
+    /**
+     * Insere o voto como documento próprio. A unicidade por (session_id, cpf) é garantida pelo índice
+     * session_cpf_unique_idx, criado pelo MongoIndexBootstrap (a readiness só sobe com ele presente).
+     */
+    @Override
+    public Mono<Vote> save(String sessionId, Vote vote) {
+        LOGGER.debug("[adapter.votes.save] sessionId={}, userId={}", sessionId, vote.getUserId());
+        return sessionVoteRepository.insert(sessionVoteMapper.toEntity(sessionId, vote))
+            .map(sessionVoteMapper::toDomain)
+            .onErrorMap(DuplicateKeyException.class, e -> new DuplicateCpfException(vote.getCpf()));
+    }
+
+    @Override
+    public Mono<Void> delete(String sessionId, String cpf) {
+        LOGGER.debug("[adapter.votes.delete] sessionId={}", sessionId);
+        return sessionVoteRepository.deleteBySessionIdAndCpf(sessionId, cpf)
+            .doOnNext(deleted -> LOGGER.info("[adapter.votes.delete] Voto removido. sessionId={}, deleted={}", sessionId, deleted))
+            .then();
+    }
+
+    @Override
+    public Mono<Boolean> exists(String sessionId, String cpf) {
+        return sessionVoteRepository.existsBySessionIdAndCpf(sessionId, cpf);
+    }
+
+    @Override
+    public Flux<Vote> findBySessionId(String sessionId) {
+        LOGGER.debug("[adapter.votes.findBySessionId] sessionId={}", sessionId);
+        return sessionVoteRepository.findBySessionId(sessionId)
+            .map(sessionVoteMapper::toDomain);
+    }
+
+    @Override
+    public Mono<VoteResult> countBySessionId(String sessionId) {
+        LOGGER.debug("[adapter.votes.countBySessionId] sessionId={}", sessionId);
+        return Mono.zip(
+                sessionVoteRepository.countBySessionIdAndVote(sessionId, VoteType.YES),
+                sessionVoteRepository.countBySessionIdAndVote(sessionId, VoteType.NO))
+            .map(counts -> new VoteResult(counts.getT1(), counts.getT2(), counts.getT1() + counts.getT2()));
+    }
+}
@@ -0,0 +1,180 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.common.validation.Cpf;
+import br.com.naysinger.domain.model.VoterRollImport;
+import br.com.naysinger.domain.port.CpfValidationPort;
+import br.com.naysinger.domain.port.VoterRollPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Validação de CPF contra o rol de eleitores importado, sem chamada remota. O rol é um arquivo com os CPFs
+ * ordenados como long (cabeçalho: magic + quantidade), mapeado em memória e consultado por busca binária
+ * sem alocar por consulta. A importação grava um arquivo novo e o troca atomicamente; o rol sobrevive a
+ * reinícios sem reimportar.
+ */
+public class VoterRollCpfValidationClient implements CpfValidationPort, VoterRollPort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VoterRollCpfValidationClient.class);
+    private static final long MAGIC = 0x564F54524F4C4C31L; // "VOTROLL1"
+    private static final int HEADER_BYTES = 2 * Long.BYTES;
+    private static final Mono<CpfStatus> ABLE = Mono.just(CpfStatus.ABLE_TO_VOTE);
+
+    private final Path rollPath;
+    private volatile LongBuffer roll;
+
+    public VoterRollCpfValidationClient(Path rollPath) {
+        this.rollPath = rollPath;
+        this.roll = Files.exists(rollPath) ? map(rollPath) : LongBuffer.allocate(0);
+        LOGGER.info("[VoterRollCpfValidationClient] Rol de eleitores carregado. path={}, voters={}", rollPath, roll.limit());
+    }
+
+    @Override
+    public Mono<CpfStatus> check(String cpf) {
+        return contains(cpf) ? ABLE : Mono.error(new CpfNotFoundException(cpf));
+    }
+
+    /**
+     * Busca binária no rol mapeado; leituras absolutas no buffer, sem alocação.
+     */
+    public boolean contains(CharSequence cpf) {
+        long key = Cpf.toLong(cpf);
+        if (key < 0) {
+            return false;
+        }
+        LongBuffer current = roll;
+        int low = 0;
+        int high = current.limit() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = current.get(mid);
+            if (value < key) {
+                low = mid + 1;
+            } else if (value > key) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long size() {
+        return roll.limit();
+    }
+
+    @Override
+    public Mono<VoterRollImport> importCsv(Flux<String> lines) {
+        return lines
+            .publishOn(Schedulers.boundedElastic())
+            .reduce(new Accumulator(), Accumulator::add)
+            .map(this::swapIn)
+            .doOnNext(result -> LOGGER.info("[VoterRollCpfValidationClient] Rol importado. voters={}, rejectedLines={}, duplicates={}",
+                result.voters(), result.rejectedLines(), result.duplicates()));
+    }
+
+    /**
+     * Ordena e remove duplicados, grava em arquivo temporário no mesmo diretório e o move sobre o rol atual.
+     */
+    private VoterRollImport swapIn(Accumulator accumulator) {
+        long[] cpfs = Arrays.copyOf(accumulator.cpfs, accumulator.size);
+        Arrays.sort(cpfs);
+        int unique = 0;
+        for (int i = 0; i < cpfs.length; i++) {
+            if (unique == 0 || cpfs[i] != cpfs[unique - 1]) {
+                cpfs[unique++] = cpfs[i];
+            }
+        }
+        try {
+            Path directory = rollPath.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, rollPath.getFileName().toString(), ".tmp");
+            write(temp, cpfs, unique);
+            Files.move(temp, rollPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            roll = map(rollPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o rol de eleitores em " + rollPath, e);
+        }
+        return new VoterRollImport(unique, accumulator.rejected, cpfs.length - unique, LocalDateTime.now());
+    }
+
+    private static void write(Path path, long[] cpfs, int count) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            buffer.putLong(MAGIC).putLong(count);
+            for (int i = 0; i < count; i++) {
+                if (buffer.remaining() < Long.BYTES) {
+                    buffer.flip();
+                    channel.write(buffer);
+                    buffer.clear();
+                }
+                buffer.putLong(cpfs[i]);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    private static LongBuffer map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.limit() < HEADER_BYTES || mapped.getLong(0) != MAGIC) {
+                throw new IllegalStateException("Arquivo de rol de eleitores inválido: " + path);
+            }
+            long count = mapped.getLong(Long.BYTES);
+            if (count < 0 || HEADER_BYTES + count * Long.BYTES > mapped.limit()) {
+                throw new IllegalStateException("Arquivo de rol de eleitores truncado: " + path);
+            }
+            return mapped.position(HEADER_BYTES).slice().asLongBuffer().limit((int) count);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao mapear o rol de eleitores em " + path, e);
+        }
+    }
+
+    /**
+     * CPFs lidos do CSV em um long[] que cresce por dobra; a primeira coluna de cada linha é o CPF.
+     */
+    private static final class Accumulator {
+        private long[] cpfs = new long[1024];
+        private int size;
+        private long rejected;
+
+        private Accumulator add(String line) {
+            int end = 0;
+            while (end < line.length() && line.charAt(end) != ',' && line.charAt(end) != ';') {
+                end++;
+            }
+            long cpf = Cpf.toLong(line.substring(0, end).strip());
+            if (cpf < 0) {
+                rejected++;
+                return this;
+            }
+            if (size == cpfs.length) {
+                cpfs = Arrays.copyOf(cpfs, size * 2);
+            }
+            cpfs[size++] = cpf;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.exception.DuplicateCpfException;
+import br.com.naysinger.common.exception.VoteIngestionOverloadedException;
+import br.com.naysinger.domain.model.Vote;
+import br.com.naysinger.domain.model.VoteResult;
+import br.com.naysinger.domain.port.VotePort;
+import br.com.naysinger.infrastructure.entity.SessionVoteEntity;
+import br.com.naysinger.infrastructure.mapper.SessionVoteMapper;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Estágio de ingestão write-behind para a coleção "votes".
+ * Os votos aceitos entram em uma fila limitada e são gravados em lote com um único bulkWrite não ordenado
+ * a cada {@code flush-interval} ms ou {@code max-batch-size} votos, o que ocorrer primeiro. O Mono de cada
+ * chamador só completa após o reconhecimento do lote; fila cheia gera 429.
+ */
+@Component
+@Primary
+@ConditionalOnExpression("${voting-solution.votes.write-behind.enabled:false} and '${voting-solution.votes.storage:document}' == 'document'")
+public class WriteBehindVoteAdapter implements VotePort, SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindVoteAdapter.class);
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    private final VoteMongoAdapter delegate;
+    private final SessionVoteMapper sessionVoteMapper;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final BlockingQueue<PendingVote> buffer;
+    private final int maxBatchSize;
+    private final Duration flushInterval;
+    private final Duration drainTimeout;
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+    private final DistributionSummary batchSize;
+    private final Timer flushLatency;
+    private final Counter rejectedVotes;
+
+    private volatile boolean running;
+    private Disposable flushTicker;
+    private volatile Disposable inFlight;
+
+    public WriteBehindVoteAdapter(VoteMongoAdapter delegate,
+                                  SessionVoteMapper sessionVoteMapper,
+                                  ReactiveMongoTemplate reactiveMongoTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${voting-solution.votes.write-behind.capacity:10000}") int capacity,
+                                  @Value("${voting-solution.votes.write-behind.max-batch-size:500}") int maxBatchSize,
+                                  @Value("${voting-solution.votes.write-behind.flush-interval:10}") int flushInterval,
+                                  @Value("${voting-solution.votes.write-behind.drain-timeout:30000}") int drainTimeout) {
+        this.delegate = delegate;
+        this.sessionVoteMapper = sessionVoteMapper;
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.flushInterval = Duration.ofMillis(flushInterval);
+        this.drainTimeout = Duration.ofMillis(drainTimeout);
+
+        Gauge.builder("votes.write_behind.queue.depth", buffer, BlockingQueue::size)
+            .description("Votos aguardando gravação em lote")
+            .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("votes.write_behind.batch.size")
+            .description("Quantidade de votos por bulkWrite")
+            .register(meterRegistry);
+        this.flushLatency = Timer.builder("votes.write_behind.flush.latency")
+            .description("Latência de cada bulkWrite de votos")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.rejectedVotes = Counter.builder("votes.write_behind.rejected")
+            .description("Votos rejeitados por fila de ingestão cheia")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Vote> save(String sessionId, Vote vote) {
+        return Mono.defer(() -> {
+            if (!running) {
+                rejectedVotes.increment();
+                return Mono.error(new VoteIngestionOverloadedException());
+            }
+            PendingVote pending = new PendingVote(sessionVoteMapper.toEntity(sessionId, vote), vote, Sinks.one());
+            if (!buffer.offer(pending)) {
+                rejectedVotes.increment();
+                LOGGER.warn("[adapter.writeBehind.save] Fila cheia, voto rejeitado. sessionId={}, userId={}", sessionId, vote.getUserId());
+                return Mono.error(new VoteIngestionOverloadedException());
+            }
+            // stop() pode ter drenado a fila entre a checagem acima e o offer: se o voto ainda estiver na fila, ninguém
+            // mais vai gravá-lo; se já saiu, está num lote que será completado
+            if (!running && buffer.remove(pending)) {
+                rejectedVotes.increment();
+                return Mono.error(new VoteIngestionOverloadedException());
+            }
+            if (buffer.size() >= maxBatchSize) {
+                flush();
+            }
+            return pending.result().asMono();
+        });
+    }
+
+    /**
+     * Dispara um flush assíncrono se nenhum outro estiver em andamento; encadeia novos flushes enquanto houver lote cheio.
+     */
+    private void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        List<PendingVote> batch = drainBatch();
+        inFlight = writeBatch(batch)
+            .doFinally(signal -> {
+                flushing.set(false);
+                if (buffer.size() >= maxBatchSize) {
+                    flush();
+                }
+            })
+            .subscribe();
+    }
+
+    private List<PendingVote> drainBatch() {
+        List<PendingVote> batch = new ArrayList<>(Math.min(maxBatchSize, buffer.size()));
+        buffer.drainTo(batch, maxBatchSize);
+        return batch;
+    }
+
+    /**
+     * Grava o lote com um bulkWrite não ordenado e completa cada chamador individualmente:
+     * erros de chave duplicada viram DuplicateCpfException apenas para o voto afetado.
+     */
+    private Mono<Void> writeBatch(List<PendingVote> batch) {
+        if (batch.isEmpty()) {
+            return Mono.empty();
+        }
+        batchSize.record(batch.size());
+        Timer.Sample sample = Timer.start();
+        List<InsertOneModel<Document>> inserts = batch.stream()
+            .map(pending -> new InsertOneModel<>(toDocument(pending.entity())))
+            .toList();
+        return reactiveMongoTemplate.getCollection(reactiveMongoTemplate.getCollectionName(SessionVoteEntity.class))
+            .flatMap(collection -> Mono.from(collection.bulkWrite(inserts, new BulkWriteOptions().ordered(false))))
+            .doOnSuccess(result -> completeBatch(batch, Map.of()))
+            .onErrorResume(MongoBulkWriteException.class, e -> {
+                if (e.getWriteConcernError() != null) {
+                    failBatch(batch, e);
+                } else {
+                    Map<Integer, BulkWriteError> errorsByIndex = new HashMap<>();
+                    e.getWriteErrors().forEach(error -> errorsByIndex.put(error.getIndex(), error));
+                    completeBatch(batch, errorsByIndex);
+                }
+                return Mono.empty();
+            })
+            .onErrorResume(e -> {
+                failBatch(batch, e);
+                return Mono.empty();
+            })
+            // Lote cancelado (ex.: tempo de drenagem esgotado no desligamento): nenhum chamador fica pendente
+            .doOnCancel(() -> failBatch(batch, new VoteIngestionOverloadedException()))
+            .doFinally(signal -> {
+                sample.stop(flushLatency);
+                LOGGER.debug("[adapter.writeBehind.flush] Lote gravado. size={}, signal={}", batch.size(), signal);
+            })
+            .then();
+    }
+
+    private Document toDocument(SessionVoteEntity entity) {
+        Document document = new Document();
+        reactiveMongoTemplate.getConverter().write(entity, document);
+        return document;
+    }
+
+    private void completeBatch(List<PendingVote> batch, Map<Integer, BulkWriteError> errorsByIndex) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingVote pending = batch.get(i);
+            BulkWriteError error = errorsByIndex.get(i);
+            if (error == null) {
+                pending.result().tryEmitValue(pending.vote());
+            } else if (error.getCode() == DUPLICATE_KEY_ERROR) {
+                pending.result().tryEmitError(new DuplicateCpfException(pending.vote().getCpf()));
+            } else {
+                pending.result().tryEmitError(new MongoException(error.getCode(), error.getMessage()));
+            }
+        }
+    }
+
+    private void failBatch(List<PendingVote> batch, Throwable error) {
+        LOGGER.error("[adapter.writeBehind.flush] Falha ao gravar lote de votos. size={}", batch.size(), error);
+        batch.forEach(pending -> pending.result().tryEmitError(error));
+    }
+
+    /**
+     * Esvazia a fila de forma síncrona; usado no desligamento gracioso. Esgotado drain-timeout, o lote em gravação
+     * é cancelado e os votos restantes falham com VoteIngestionOverloadedException, em vez de ficarem pendentes.
+     */
+    private void drainNow() {
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        while ((!buffer.isEmpty() || flushing.get()) && System.nanoTime() < deadline) {
+            if (flushing.compareAndSet(false, true)) {
+                try {
+                    writeBatch(drainBatch()).block(Duration.ofNanos(Math.max(1, deadline - System.nanoTime())));
+                } catch (IllegalStateException e) {
+                    LOGGER.error("[adapter.writeBehind.stop] Lote não confirmado dentro do tempo de drenagem", e);
+                } finally {
+                    flushing.set(false);
+                }
+            } else {
+                LockSupport.parkNanos(Duration.ofMillis(1).toNanos());
+            }
+        }
+        Disposable pendingFlush = inFlight;
+        if (flushing.get() && pendingFlush != null) {
+            pendingFlush.dispose();
+        }
+        List<PendingVote> leftover = new ArrayList<>();
+        buffer.drainTo(leftover);
+        if (!leftover.isEmpty()) {
+            LOGGER.error("[adapter.writeBehind.stop] Tempo de drenagem esgotado, votos rejeitados. pending={}", leftover.size());
+            rejectedVotes.increment(leftover.size());
+            leftover.forEach(pending -> pending.result().tryEmitError(new VoteIngestionOverloadedException()));
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flushTicker = Flux.interval(flushInterval).subscribe(tick -> flush());
+        LOGGER.info("[adapter.writeBehind.start] Ingestão write-behind ativa. maxBatchSize={}, flushInterval={}", maxBatchSize, flushInterval);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flushTicker != null) {
+            flushTicker.dispose();
+        }
+        LOGGER.info("[adapter.writeBehind.stop] Drenando fila de votos. pending={}", buffer.size());
+        drainNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Para depois do servidor web (que aguarda as requisições em andamento) e antes do cliente Mongo ser fechado.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public Mono<Void> delete(String sessionId, String cpf) {
+        return delegate.delete(sessionId, cpf);
+    }
+
+    @Override
+    public Mono<Boolean> exists(String sessionId, String cpf) {
+        return delegate.exists(sessionId, cpf);
+    }
+
+    @Override
+    public Flux<Vote> findBySessionId(String sessionId) {
+        return delegate.findBySessionId(sessionId);
+    }
+
+    @Override
+    public Mono<VoteResult> countBySessionId(String sessionId) {
+        return delegate.countBySessionId(sessionId);
+    }
+
+    private record PendingVote(SessionVoteEntity entity, Vote vote, Sinks.One<Vote> result) {
+    }
+}
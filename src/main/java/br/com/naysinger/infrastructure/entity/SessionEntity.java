@@ -2,6 +2,7 @@ package br.com.naysinger.infrastructure.entity;
 
 import br.com.naysinger.common.enums.SessionStatus;
 import br.com.naysinger.common.enums.VoteType;
+import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.LocalDateTime;
@@ -25,6 +26,41 @@ public class SessionEntity {
     @Field("votes")
     private List<VoteEntity> votes;
     
+    // Contadores mantidos com $inc no mesmo update atômico que contabiliza o voto
+    @Field("yes_count")
+    private Long yesCount;
+    
+    @Field("no_count")
+    private Long noCount;
+    
+    @Field("total_count")
+    private Long totalCount;
+    
+    // Quantidade de shards de contadores (coleção session_tally_shards); nulo quando os contadores ficam só na sessão
+    @Field("tally_shards")
+    private Integer tallyShards;
+    
+    // Marca sessões cujos contadores já foram populados pela migração de compatibilidade
+    @Field("counters_migrated")
+    private Boolean countersMigrated;
+    
+    // Momento do fechamento explícito (closeSession/closeAgenda); nulo enquanto a sessão não for fechada
+    @Field("closed_at")
+    private LocalDateTime closedAt;
+    
+    // false até os contadores serem reconciliados com os votos gravados, depois do fim da janela de votação
+    @Field("counters_reconciled")
+    private Boolean countersReconciled;
+    
+    // Contagem dos votos legados embutidos, calculada pela projeção de leitura (os votos em si não são trazidos)
+    @ReadOnlyProperty
+    @Field("legacy_yes_count")
+    private Long legacyYesCount;
+    
+    @ReadOnlyProperty
+    @Field("legacy_no_count")
+    private Long legacyNoCount;
+    
     // Construtor padrão
     public SessionEntity() {
         this.votes = new ArrayList<>();
@@ -38,6 +74,11 @@ public class SessionEntity {
         this.endTime = endTime;
         this.status = status;
         this.votes = votes != null ? votes : new ArrayList<>();
+        this.yesCount = 0L;
+        this.noCount = 0L;
+        this.totalCount = 0L;
+        this.countersMigrated = true;
+        this.countersReconciled = false;
     }
     
     // Construtor para criar nova sessão
@@ -102,4 +143,80 @@ public class SessionEntity {
     public void setVotes(List<VoteEntity> votes) {
         this.votes = votes;
     }
+    
+    public Long getYesCount() {
+        return yesCount;
+    }
+    
+    public void setYesCount(Long yesCount) {
+        this.yesCount = yesCount;
+    }
+    
+    public Long getNoCount() {
+        return noCount;
+    }
+    
+    public void setNoCount(Long noCount) {
+        this.noCount = noCount;
+    }
+    
+    public Long getTotalCount() {
+        return totalCount;
+    }
+    
+    public void setTotalCount(Long totalCount) {
+        this.totalCount = totalCount;
+    }
+    
+    public Boolean getCountersMigrated() {
+        return countersMigrated;
+    }
+    
+    public void setCountersMigrated(Boolean countersMigrated) {
+        this.countersMigrated = countersMigrated;
+    }
+    
+    public LocalDateTime getClosedAt() {
+        return closedAt;
+    }
+    
+    public void setClosedAt(LocalDateTime closedAt) {
+        this.closedAt = closedAt;
+    }
+    
+    public Boolean getCountersReconciled() {
+        return countersReconciled;
+    }
+    
+    public void setCountersReconciled(Boolean countersReconciled) {
+        this.countersReconciled = countersReconciled;
+    }
+    
+    public Integer getTallyShards() {
+        return tallyShards;
+    }
+    
+    public void setTallyShards(Integer tallyShards) {
+        this.tallyShards = tallyShards;
+    }
+    
+    public Long getLegacyYesCount() {
+        return legacyYesCount;
+    }
+    
+    public void setLegacyYesCount(Long legacyYesCount) {
+        this.legacyYesCount = legacyYesCount;
+    }
+    
+    public Long getLegacyNoCount() {
+        return legacyNoCount;
+    }
+    
+    public void setLegacyNoCount(Long legacyNoCount) {
+        this.legacyNoCount = legacyNoCount;
+    }
+    
+    public boolean hasLegacyVotes() {
+        return (legacyYesCount != null && legacyYesCount > 0) || (legacyNoCount != null && legacyNoCount > 0);
+    }
 }
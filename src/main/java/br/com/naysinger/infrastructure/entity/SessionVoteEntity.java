@@ -0,0 +1,94 @@
+package br.com.naysinger.infrastructure.entity;
+
+import br.com.naysinger.common.enums.VoteType;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "votes")
+@CompoundIndex(name = "session_cpf_unique_idx", def = "{'session_id': 1, 'cpf': 1}", unique = true)
+public class SessionVoteEntity {
+
+    @Id
+    private String id;
+
+    @Field("session_id")
+    private String sessionId;
+
+    @Field("user_id")
+    private String userId;
+
+    @Field("cpf")
+    private String cpf;
+
+    @Field("vote")
+    private VoteType vote;
+
+    @Field("timestamp")
+    private LocalDateTime timestamp;
+
+    // Construtor padrão
+    public SessionVoteEntity() {}
+
+    // Construtor com todos os campos
+    public SessionVoteEntity(String id, String sessionId, String userId, String cpf, VoteType vote, LocalDateTime timestamp) {
+        this.id = id;
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.cpf = cpf;
+        this.vote = vote;
+        this.timestamp = timestamp;
+    }
+
+    // Getters e Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getCpf() {
+        return cpf;
+    }
+
+    public void setCpf(String cpf) {
+        this.cpf = cpf;
+    }
+
+    public VoteType getVote() {
+        return vote;
+    }
+
+    public void setVote(VoteType vote) {
+        this.vote = vote;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.naysinger.infrastructure.entity;
+
+import br.com.naysinger.common.enums.SessionStatus;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * Shard de contadores de uma sessão (sharded tally). Cada shard replica a janela e o status da sessão
+ * para que o $inc condicional seja aplicado no próprio shard, sem tocar o documento da agenda.
+ */
+@Document(collection = "session_tally_shards")
+@CompoundIndexes({
+    @CompoundIndex(name = "session_shard_unique_idx", def = "{'session_id': 1, 'shard': 1}", unique = true),
+    @CompoundIndex(name = "agenda_status_idx", def = "{'agenda_id': 1, 'status': 1}")
+})
+public class TallyShardEntity {
+
+    @Id
+    private String id;
+
+    @Field("agenda_id")
+    private String agendaId;
+
+    @Field("session_id")
+    private String sessionId;
+
+    @Field("shard")
+    private int shard;
+
+    @Field("status")
+    private SessionStatus status;
+
+    @Field("start_time")
+    private LocalDateTime startTime;
+
+    @Field("end_time")
+    private LocalDateTime endTime;
+
+    @Field("yes_count")
+    private long yesCount;
+
+    @Field("no_count")
+    private long noCount;
+
+    @Field("total_count")
+    private long totalCount;
+
+    // Construtor padrão
+    public TallyShardEntity() {
+    }
+
+    // Construtor para criar um shard zerado a partir dos metadados da sessão
+    public static TallyShardEntity open(String agendaId, SessionEntity session, int shard) {
+        TallyShardEntity entity = new TallyShardEntity();
+        entity.setAgendaId(agendaId);
+        entity.setSessionId(session.getSessionId());
+        entity.setShard(shard);
+        entity.setStatus(session.getStatus());
+        entity.setStartTime(session.getStartTime());
+        entity.setEndTime(session.getEndTime());
+        return entity;
+    }
+
+    // Getters e Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getAgendaId() {
+        return agendaId;
+    }
+
+    public void setAgendaId(String agendaId) {
+        this.agendaId = agendaId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+
+    public void setShard(int shard) {
+        this.shard = shard;
+    }
+
+    public SessionStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(SessionStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalDateTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalDateTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public long getYesCount() {
+        return yesCount;
+    }
+
+    public void setYesCount(long yesCount) {
+        this.yesCount = yesCount;
+    }
+
+    public long getNoCount() {
+        return noCount;
+    }
+
+    public void setNoCount(long noCount) {
+        this.noCount = noCount;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+}
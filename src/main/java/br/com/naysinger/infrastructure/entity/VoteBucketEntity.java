@@ -0,0 +1,128 @@
+package br.com.naysinger.infrastructure.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Document(collection = "vote_buckets")
+@CompoundIndexes({
+    @CompoundIndex(name = "session_bucket_seq_unique_idx", def = "{'session_id': 1, 'bucket_seq': 1}", unique = true),
+    @CompoundIndex(name = "session_cpf_bucket_unique_idx", def = "{'session_id': 1, 'votes.cpf': 1}", unique = true)
+})
+public class VoteBucketEntity {
+
+    @Id
+    private String id;
+
+    @Field("session_id")
+    private String sessionId;
+
+    @Field("bucket_seq")
+    private long bucketSeq;
+
+    @Field("count")
+    private int count;
+
+    @Field("yes_count")
+    private long yesCount;
+
+    @Field("no_count")
+    private long noCount;
+
+    @Field("opened_at")
+    private LocalDateTime openedAt;
+
+    @Field("votes")
+    private List<VoteEntity> votes;
+
+    // Construtor padrão
+    public VoteBucketEntity() {
+        this.votes = new ArrayList<>();
+    }
+
+    // Construtor para abrir um novo bucket já com o primeiro voto
+    public static VoteBucketEntity open(String sessionId, long bucketSeq, VoteEntity firstVote) {
+        VoteBucketEntity bucket = new VoteBucketEntity();
+        bucket.setSessionId(sessionId);
+        bucket.setBucketSeq(bucketSeq);
+        bucket.setOpenedAt(LocalDateTime.now());
+        bucket.getVotes().add(firstVote);
+        bucket.setCount(1);
+        switch (firstVote.getVote()) {
+            case YES -> bucket.setYesCount(1);
+            case NO -> bucket.setNoCount(1);
+        }
+        return bucket;
+    }
+
+    // Getters e Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public long getBucketSeq() {
+        return bucketSeq;
+    }
+
+    public void setBucketSeq(long bucketSeq) {
+        this.bucketSeq = bucketSeq;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public long getYesCount() {
+        return yesCount;
+    }
+
+    public void setYesCount(long yesCount) {
+        this.yesCount = yesCount;
+    }
+
+    public long getNoCount() {
+        return noCount;
+    }
+
+    public void setNoCount(long noCount) {
+        this.noCount = noCount;
+    }
+
+    public LocalDateTime getOpenedAt() {
+        return openedAt;
+    }
+
+    public void setOpenedAt(LocalDateTime openedAt) {
+        this.openedAt = openedAt;
+    }
+
+    public List<VoteEntity> getVotes() {
+        return votes;
+    }
+
+    public void setVotes(List<VoteEntity> votes) {
+        this.votes = votes;
+    }
+}
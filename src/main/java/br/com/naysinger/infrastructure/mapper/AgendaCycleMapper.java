@@ -1,8 +1,10 @@
 package br.com.naysinger.infrastructure.mapper;
 
+import br.com.naysinger.common.enums.VoteType;
 import br.com.naysinger.domain.model.Agenda;
 import br.com.naysinger.domain.model.Session;
 import br.com.naysinger.domain.model.Vote;
+import br.com.naysinger.domain.model.VoteResult;
 import br.com.naysinger.infrastructure.entity.AgendaCycleEntity;
 import br.com.naysinger.infrastructure.entity.SessionEntity;
 import br.com.naysinger.infrastructure.entity.VoteEntity;
@@ -70,6 +72,17 @@ public class AgendaCycleMapper {
         return entity;
     }
 
+    /**
+     * Converte SessionEntity para Session (domínio)
+     */
+    public Session toSessionDomain(SessionEntity entity) {
+        return convertSessionEntityToSession(entity);
+    }
+
+    private long valueOrZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
     /**
      * Converte SessionEntity para Session (domínio)
      */
@@ -84,14 +97,28 @@ public class AgendaCycleMapper {
                 .endTime(entity.getEndTime())
                 .status(entity.getStatus());
 
-        // Converter votos se existirem
+        // Converter votos embutidos (legado) se existirem
+        long embeddedYes = 0L;
+        long embeddedNo = 0L;
         if (entity.getVotes() != null && !entity.getVotes().isEmpty()) {
             List<Vote> votes = entity.getVotes().stream()
                     .map(this::convertVoteEntityToVote)
                     .collect(Collectors.toList());
             sessionBuilder.votes(votes);
+            embeddedYes = votes.stream().filter(v -> v.getVote() == VoteType.YES).count();
+            embeddedNo = votes.size() - embeddedYes;
+        } else {
+            // Leitura projetada: só a contagem dos votos embutidos veio do banco
+            embeddedYes = valueOrZero(entity.getLegacyYesCount());
+            embeddedNo = valueOrZero(entity.getLegacyNoCount());
         }
 
+        // Totais a partir dos contadores da sessão, sem materializar os votos da coleção "votes"
+        sessionBuilder
+                .yesVotes(valueOrZero(entity.getYesCount()) + embeddedYes)
+                .noVotes(valueOrZero(entity.getNoCount()) + embeddedNo)
+                .totalVotes(valueOrZero(entity.getTotalCount()) + embeddedYes + embeddedNo);
+
         return sessionBuilder.build();
     }
 
@@ -110,12 +137,22 @@ public class AgendaCycleMapper {
         entity.setStatus(session.getStatus());
 
         // Converter votos se existirem
+        long embeddedYes = 0L;
+        long embeddedNo = 0L;
         if (session.getVotes() != null && !session.getVotes().isEmpty()) {
             List<VoteEntity> votes = session.getVotes().stream()
                     .map(this::convertVoteToVoteEntity)
                     .collect(Collectors.toList());
             entity.setVotes(votes);
+            embeddedYes = votes.stream().filter(v -> v.getVote() == VoteType.YES).count();
+            embeddedNo = votes.size() - embeddedYes;
         }
+        VoteResult result = session.getVoteResult();
+        entity.setYesCount(Math.max(0L, result.simVotes() - embeddedYes));
+        entity.setNoCount(Math.max(0L, result.naoVotes() - embeddedNo));
+        entity.setTotalCount(Math.max(0L, result.totalVotes() - embeddedYes - embeddedNo));
+        entity.setCountersMigrated(true);
+        entity.setCountersReconciled(false);
 
         return entity;
     }
@@ -136,6 +173,13 @@ public class AgendaCycleMapper {
                 .build();
     }
 
+    /**
+     * Converte um voto embutido (legado) para Vote (domínio)
+     */
+    public Vote toVoteDomain(VoteEntity entity) {
+        return convertVoteEntityToVote(entity);
+    }
+
     /**
      * Converte Vote (domínio) para VoteEntity
      */
@@ -0,0 +1,43 @@
+package br.com.naysinger.infrastructure.mapper;
+
+import br.com.naysinger.domain.model.Vote;
+import br.com.naysinger.infrastructure.entity.SessionVoteEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SessionVoteMapper {
+
+    /**
+     * Converte SessionVoteEntity para Vote (domínio)
+     */
+    public Vote toDomain(SessionVoteEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return Vote.builder()
+                .userId(entity.getUserId())
+                .cpf(entity.getCpf())
+                .vote(entity.getVote())
+                .timestamp(entity.getTimestamp())
+                .build();
+    }
+
+    /**
+     * Converte Vote (domínio) para SessionVoteEntity
+     */
+    public SessionVoteEntity toEntity(String sessionId, Vote vote) {
+        if (vote == null) {
+            return null;
+        }
+
+        SessionVoteEntity entity = new SessionVoteEntity();
+        entity.setSessionId(sessionId);
+        entity.setUserId(vote.getUserId());
+        entity.setCpf(vote.getCpf());
+        entity.setVote(vote.getVote());
+        entity.setTimestamp(vote.getTimestamp());
+
+        return entity;
+    }
+}
@@ -0,0 +1,238 @@
+package br.com.naysinger.infrastructure.migration;
+
+import com.mongodb.client.model.IndexOptions;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Declara os índices exigidos pelas consultas da aplicação, cria os ausentes na subida (quando habilitado)
+ * e os verifica. A comparação é pela chave do índice, não pelo nome, para aceitar índices criados por script
+ * ou pelo {@code @Indexed} das entidades. Índices sem uso desde o último restart do mongod são reportados via
+ * {@code $indexStats}. A falta de um índice exigido derruba a readiness ({@link RequiredIndexesHealthIndicator}).
+ * Criação e primeira verificação rodam em segundo plano no start, sem segurar a subida; depois a verificação
+ * se repete a cada {@code check-interval} ms. O health só lê o último resultado, sem listIndexes nem $indexStats
+ * por probe, e fica DOWN até a primeira verificação terminar.
+ */
+@Component
+public class MongoIndexBootstrap implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoIndexBootstrap.class);
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final boolean createMissing;
+    private final List<RequiredIndex> requiredIndexes;
+    private final Duration checkInterval;
+
+    private volatile IndexCheck lastCheck;
+    private volatile boolean running;
+    private Disposable ticker;
+
+    public MongoIndexBootstrap(ReactiveMongoTemplate reactiveMongoTemplate,
+                               @Value("${voting-solution.mongo.indexes.create-missing:true}") boolean createMissing,
+                               @Value("${voting-solution.votes.storage:document}") String voteStorage,
+                               @Value("${voting-solution.mongo.indexes.check-interval:60000}") long checkInterval) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.createMissing = createMissing;
+        this.requiredIndexes = requiredIndexes(voteStorage);
+        this.checkInterval = Duration.ofMillis(checkInterval);
+    }
+
+    /**
+     * Índices exigidos: busca por agendaId, por sessão (multikey em sessions.session_id), agendas com sessão
+     * aberta (sessions.status + sessions.end_time), paginação por keyset (created_at, _id), sessões pendentes de
+     * reconciliação (sessions.counters_reconciled), shards de contadores por (sessão, shard) e por (agenda, status)
+     * e a unicidade (sessão, CPF): na coleção "votes" no armazenamento por documento; em "vote_buckets", junto com
+     * a sequência (sessão, bucket_seq), no armazenamento em buckets.
+     */
+    static List<RequiredIndex> requiredIndexes(String voteStorage) {
+        List<RequiredIndex> indexes = new ArrayList<>(List.of(
+            new RequiredIndex("agenda_cycle", "agenda_id", new Document("agenda_id", 1), true),
+            new RequiredIndex("agenda_cycle", "sessions_session_id_idx", new Document("sessions.session_id", 1), false),
+            new RequiredIndex("agenda_cycle", "sessions_status_end_time_idx",
+                new Document("sessions.status", 1).append("sessions.end_time", 1), false),
+            new RequiredIndex("agenda_cycle", "created_at_id_idx", new Document("created_at", -1).append("_id", -1), false),
+            new RequiredIndex("agenda_cycle", "sessions_counters_reconciled_idx", new Document("sessions.counters_reconciled", 1), false),
+            new RequiredIndex("session_tally_shards", "session_shard_unique_idx", new Document("session_id", 1).append("shard", 1), true),
+            new RequiredIndex("session_tally_shards", "agenda_status_idx", new Document("agenda_id", 1).append("status", 1), false)));
+        if ("document".equals(voteStorage)) {
+            indexes.add(new RequiredIndex("votes", "session_cpf_unique_idx", new Document("session_id", 1).append("cpf", 1), true));
+        } else if ("bucket".equals(voteStorage)) {
+            indexes.add(new RequiredIndex("vote_buckets", "session_bucket_seq_unique_idx", new Document("session_id", 1).append("bucket_seq", 1), true));
+            indexes.add(new RequiredIndex("vote_buckets", "session_cpf_bucket_unique_idx", new Document("session_id", 1).append("votes.cpf", 1), true));
+        }
+        return List.copyOf(indexes);
+    }
+
+    /**
+     * Cria os índices ausentes (quando habilitado) e faz a primeira verificação, registrando o resultado no log.
+     */
+    Mono<IndexCheck> bootstrap() {
+        Mono<Void> ensure = createMissing
+            ? createMissingIndexes().onErrorResume(err -> {
+                LOGGER.error("[migration.indexes] Falha ao criar índices ausentes", err);
+                return Mono.empty();
+            })
+            : Mono.empty();
+        return ensure.then(check())
+            .doOnNext(check -> {
+                if (check.error() != null) {
+                    return;
+                }
+                if (check.missing().isEmpty()) {
+                    LOGGER.info("[migration.indexes] Índices exigidos presentes. required={}", requiredIndexes.size());
+                } else {
+                    LOGGER.error("[migration.indexes] Índices exigidos ausentes. missing={}", check.missing());
+                }
+                if (!check.unused().isEmpty()) {
+                    LOGGER.warn("[migration.indexes] Índices sem uso desde o último restart do MongoDB. unused={}", check.unused());
+                }
+            });
+    }
+
+    /**
+     * Verifica índices ausentes e sem uso e guarda o resultado para o health. Uma falha também é guardada,
+     * para que a readiness caia em vez de continuar exibindo o último resultado bom.
+     */
+    Mono<IndexCheck> check() {
+        return missingIndexes().collectList()
+            .zipWith(unusedIndexes().collectList(), (missing, unused) -> new IndexCheck(missing, unused, null, LocalDateTime.now()))
+            .onErrorResume(err -> {
+                LOGGER.error("[migration.indexes] Falha ao verificar índices", err);
+                return Mono.just(new IndexCheck(List.of(), List.of(), err, LocalDateTime.now()));
+            })
+            .doOnNext(check -> lastCheck = check);
+    }
+
+    /**
+     * Último resultado da verificação; vazio enquanto a primeira não terminou.
+     */
+    public Optional<IndexCheck> lastCheck() {
+        return Optional.ofNullable(lastCheck);
+    }
+
+    public List<RequiredIndex> requiredIndexes() {
+        return requiredIndexes;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        ticker = bootstrap()
+            .thenMany(Flux.interval(checkInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> check(), 1))
+            .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (ticker != null) {
+            ticker.dispose();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Índices exigidos que não existem (comparando chave e unicidade).
+     */
+    public Flux<RequiredIndex> missingIndexes() {
+        return Flux.fromIterable(requiredIndexes)
+            .concatMap(required -> existingIndexes(required.collection())
+                .any(required::matches)
+                .filter(present -> !present)
+                .map(present -> required));
+    }
+
+    /**
+     * Índices (exceto _id) sem nenhum acesso segundo {@code $indexStats}, no formato colecao.nome.
+     */
+    public Flux<String> unusedIndexes() {
+        return Flux.fromIterable(requiredIndexes)
+            .map(RequiredIndex::collection)
+            .distinct()
+            .concatMap(collection -> reactiveMongoTemplate.getCollection(collection)
+                .flatMapMany(c -> c.aggregate(List.of(new Document("$indexStats", new Document()))))
+                .filter(stats -> !"_id_".equals(stats.getString("name")))
+                .filter(stats -> {
+                    Document accesses = stats.get("accesses", Document.class);
+                    return accesses == null || ((Number) accesses.get("ops")).longValue() == 0L;
+                })
+                .map(stats -> collection + "." + stats.getString("name")));
+    }
+
+    private Mono<Void> createMissingIndexes() {
+        return missingIndexes()
+            .concatMap(required -> reactiveMongoTemplate.getCollection(required.collection())
+                .flatMap(c -> Mono.from(c.createIndex(required.keys(), new IndexOptions().name(required.name()).unique(required.unique()))))
+                .doOnNext(name -> LOGGER.info("[migration.indexes] Índice criado. collection={}, index={}", required.collection(), name))
+                .onErrorResume(err -> {
+                    LOGGER.error("[migration.indexes] Falha ao criar índice. collection={}, index={}", required.collection(), required.name(), err);
+                    return Mono.empty();
+                }))
+            .then();
+    }
+
+    private Flux<Document> existingIndexes(String collection) {
+        return reactiveMongoTemplate.getCollection(collection)
+            .flatMapMany(c -> c.listIndexes());
+    }
+
+    /**
+     * Resultado de uma verificação: índices exigidos ausentes, índices sem uso (colecao.nome) ou a falha ao verificar.
+     */
+    public record IndexCheck(List<RequiredIndex> missing, List<String> unused, Throwable error, LocalDateTime checkedAt) {
+    }
+
+    /**
+     * Índice exigido por uma consulta: coleção, nome usado na criação, chave e unicidade.
+     */
+    public record RequiredIndex(String collection, String name, Document keys, boolean unique) {
+
+        /**
+         * Mesmos campos, na mesma ordem e direção (índices criados pelo shell guardam a direção como double).
+         */
+        boolean matches(Document existing) {
+            Document existingKeys = existing.get("key", Document.class);
+            if (existingKeys == null || existingKeys.size() != keys.size()
+                || unique != existing.getBoolean("unique", false)) {
+                return false;
+            }
+            Iterator<Map.Entry<String, Object>> actual = existingKeys.entrySet().iterator();
+            for (Map.Entry<String, Object> expected : keys.entrySet()) {
+                Map.Entry<String, Object> next = actual.next();
+                if (!expected.getKey().equals(next.getKey())
+                    || !(next.getValue() instanceof Number direction)
+                    || direction.intValue() != ((Number) expected.getValue()).intValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return collection + "." + name + keys.toJson();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.naysinger.infrastructure.migration;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Health "requiredIndexes": DOWN enquanto faltar algum índice exigido, o que tira a instância da readiness
+ * (grupo management.endpoint.health.group.readiness). Índices sem uso aparecem só como detalhe.
+ * Lê o último resultado do {@link MongoIndexBootstrap}, sem consultar o MongoDB a cada probe; DOWN até a primeira
+ * verificação terminar ou quando a última falhou.
+ */
+@Component
+public class RequiredIndexesHealthIndicator implements ReactiveHealthIndicator {
+
+    private final MongoIndexBootstrap mongoIndexBootstrap;
+
+    public RequiredIndexesHealthIndicator(MongoIndexBootstrap mongoIndexBootstrap) {
+        this.mongoIndexBootstrap = mongoIndexBootstrap;
+    }
+
+    @Override
+    public Mono<Health> health() {
+        return Mono.fromSupplier(() -> mongoIndexBootstrap.lastCheck()
+            .map(this::toHealth)
+            .orElseGet(() -> Health.down().withDetail("required", mongoIndexBootstrap.requiredIndexes().size()).build()));
+    }
+
+    private Health toHealth(MongoIndexBootstrap.IndexCheck check) {
+        if (check.error() != null) {
+            return Health.down(check.error()).withDetail("checkedAt", check.checkedAt()).build();
+        }
+        List<String> missing = check.missing().stream()
+            .map(MongoIndexBootstrap.RequiredIndex::toString)
+            .toList();
+        Health.Builder builder = missing.isEmpty() ? Health.up() : Health.down();
+        return builder
+            .withDetail("required", mongoIndexBootstrap.requiredIndexes().size())
+            .withDetail("missing", missing)
+            .withDetail("unused", check.unused())
+            .withDetail("checkedAt", check.checkedAt())
+            .build();
+    }
+}
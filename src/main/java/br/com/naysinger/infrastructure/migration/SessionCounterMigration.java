@@ -0,0 +1,143 @@
+package br.com.naysinger.infrastructure.migration;
+
+import br.com.naysinger.domain.model.VoteResult;
+import br.com.naysinger.domain.port.VotePort;
+import br.com.naysinger.infrastructure.adapter.SessionTallyShards;
+import br.com.naysinger.infrastructure.entity.AgendaCycleEntity;
+import br.com.naysinger.infrastructure.entity.SessionEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.util.List;
+
+/**
+ * Migração de compatibilidade: popula yes_count/no_count das sessões criadas antes dos contadores,
+ * contando os votos já gravados na coleção "votes". Votos legados embutidos continuam sendo somados
+ * pelo mapper, então não são contados aqui. Idempotente via flag counters_migrated.
+ * <p>
+ * Pode rodar com votos chegando: em vez de sobrescrever os contadores, aplica só a diferença com um $inc
+ * condicionado aos valores lidos; se um $inc concorrente alterou a sessão nesse meio tempo, a sessão é relida
+ * e a diferença recalculada. Como o voto e o $inc são escritas separadas, um voto já gravado cujo $inc ainda
+ * não rodou entra na contagem e depois no $inc: em sessões abertas os contadores migrados são eventualmente
+ * consistentes. Por isso a sessão migrada fica com counters_reconciled=false e o {@code SessionCounterReconciler}
+ * regrava os contadores a partir da coleção "votes" quando a janela termina (sessões já encerradas são
+ * corrigidas no próximo ciclo dele). Desligada por padrão; quando ligada, bloqueia a inicialização até terminar
+ * e uma falha interrompe a subida da aplicação.
+ */
+@Component
+@ConditionalOnProperty(name = "voting-solution.migration.session-counters.enabled", havingValue = "true")
+public class SessionCounterMigration implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionCounterMigration.class);
+    private static final int MAX_ATTEMPTS = 10;
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final VotePort votePort;
+    private final SessionTallyShards sessionTallyShards;
+
+    public SessionCounterMigration(ReactiveMongoTemplate reactiveMongoTemplate, VotePort votePort,
+                                   SessionTallyShards sessionTallyShards) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.votePort = votePort;
+        this.sessionTallyShards = sessionTallyShards;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Query pending = Query.query(Criteria.where("sessions").elemMatch(Criteria.where("counters_migrated").ne(true)));
+        pending.fields()
+            .include("sessions.session_id")
+            .include("sessions.counters_migrated");
+        Long migrated = reactiveMongoTemplate.find(pending, AgendaCycleEntity.class)
+            .flatMapIterable(AgendaCycleEntity::getSessions)
+            .filter(session -> !Boolean.TRUE.equals(session.getCountersMigrated()))
+            .map(SessionEntity::getSessionId)
+            .concatMap(this::migrate)
+            .filter(Boolean::booleanValue)
+            .count()
+            .doOnError(err -> LOGGER.error("[migration.sessionCounters] Falha ao popular contadores", err))
+            .block();
+        LOGGER.info("[migration.sessionCounters] Contadores populados. sessions={}", migrated);
+    }
+
+    /**
+     * Lê os contadores atuais e os votos gravados e aplica a diferença, condicionada aos contadores lidos;
+     * false quando a sessão já foi migrada (por outra instância, por exemplo) ou não existe mais.
+     */
+    private Mono<Boolean> migrate(String sessionId) {
+        return Mono.defer(() -> findSession(sessionId)
+                .flatMap(session -> Mono.zip(votePort.countBySessionId(sessionId), shardTotals(sessionId))
+                    .flatMap(counts -> applyDelta(session, counts.getT1(), counts.getT2())))
+                .defaultIfEmpty(false))
+            .retryWhen(Retry.max(MAX_ATTEMPTS - 1)
+                .filter(OptimisticLockingFailureException.class::isInstance)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private Mono<SessionEntity> findSession(String sessionId) {
+        Query query = Query.query(Criteria.where("sessions").elemMatch(Criteria.where("session_id").is(sessionId)));
+        query.fields()
+            .include("sessions.session_id")
+            .include("sessions.yes_count")
+            .include("sessions.no_count")
+            .include("sessions.total_count")
+            .include("sessions.counters_migrated");
+        return reactiveMongoTemplate.findOne(query, AgendaCycleEntity.class)
+            .flatMap(agendaCycle -> Mono.justOrEmpty(agendaCycle.getSessions().stream()
+                .filter(session -> sessionId.equals(session.getSessionId()))
+                .findFirst()));
+    }
+
+    private Mono<VoteResult> shardTotals(String sessionId) {
+        return sessionTallyShards.totals(List.of(sessionId))
+            .map(totals -> totals.getOrDefault(sessionId, new VoteResult(0, 0, 0)));
+    }
+
+    /**
+     * true quando migrou; false quando a sessão já estava migrada; OptimisticLockingFailureException quando o $inc
+     * condicional não casou (contadores mudaram desde a leitura) e a sessão precisa ser relida.
+     */
+    private Mono<Boolean> applyDelta(SessionEntity session, VoteResult recorded, VoteResult shards) {
+        if (Boolean.TRUE.equals(session.getCountersMigrated())) {
+            return Mono.just(false);
+        }
+        String sessionId = session.getSessionId();
+        long yes = valueOf(session.getYesCount());
+        long no = valueOf(session.getNoCount());
+        long total = valueOf(session.getTotalCount());
+        // Contadores ausentes casam com null no filtro e o $inc cria o campo
+        Query query = Query.query(Criteria.where("sessions").elemMatch(
+                Criteria.where("session_id").is(sessionId)
+                        .and("counters_migrated").ne(true)
+                        .and("yes_count").is(session.getYesCount())
+                        .and("no_count").is(session.getNoCount())
+                        .and("total_count").is(session.getTotalCount())));
+        Update update = new Update()
+            .inc("sessions.$.yes_count", recorded.simVotes() - shards.simVotes() - yes)
+            .inc("sessions.$.no_count", recorded.naoVotes() - shards.naoVotes() - no)
+            .inc("sessions.$.total_count", recorded.totalVotes() - shards.totalVotes() - total)
+            .set("sessions.$.counters_migrated", true)
+            // Sessões legadas não têm o campo e ficariam fora da reconciliação, que é quem corrige a dupla contagem
+            .set("sessions.$.counters_reconciled", false);
+        return reactiveMongoTemplate.updateFirst(query, update, AgendaCycleEntity.class)
+            .doOnNext(result -> LOGGER.debug("[migration.sessionCounters] sessionId={}, modified={}", sessionId, result.getModifiedCount()))
+            .flatMap(result -> result.getModifiedCount() > 0
+                ? Mono.just(true)
+                : Mono.error(new OptimisticLockingFailureException("Contadores da sessão " + sessionId + " alterados durante a migração")));
+    }
+
+    private static long valueOf(Long counter) {
+        return counter == null ? 0 : counter;
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.naysinger.infrastructure.migration;
+
+import br.com.naysinger.domain.port.VoterRollPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Importação do rol de eleitores pela linha de comando: --voter-roll.import=/caminho/rol.csv.
+ * O CSV é lido em streaming e o rol só é trocado ao final, como no endpoint de importação.
+ */
+@Component
+@ConditionalOnProperty(name = "voting-solution.cpf.validation.client", havingValue = "roll")
+public class VoterRollImportRunner implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VoterRollImportRunner.class);
+    private static final String IMPORT_OPTION = "voter-roll.import";
+
+    private final VoterRollPort voterRollPort;
+
+    public VoterRollImportRunner(VoterRollPort voterRollPort) {
+        this.voterRollPort = voterRollPort;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> files = args.getOptionValues(IMPORT_OPTION);
+        if (files == null || files.isEmpty()) {
+            return;
+        }
+        Path csv = Path.of(files.getFirst());
+        LOGGER.info("[migration.voterRoll] Importando rol de eleitores. file={}", csv);
+        voterRollPort.importCsv(Flux.using(() -> Files.lines(csv), Flux::fromStream, lines -> lines.close()))
+            .doOnError(err -> LOGGER.error("[migration.voterRoll] Falha ao importar rol. file={}", csv, err))
+            .block(Duration.ofMinutes(10));
+    }
+}
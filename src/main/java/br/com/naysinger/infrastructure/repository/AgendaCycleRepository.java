@@ -18,12 +18,6 @@ public interface AgendaCycleRepository extends ReactiveMongoRepository<AgendaCyc
     @Query("{ 'agenda_id': ?0, 'sessions.session_id': ?1 }")
     Mono<AgendaCycleEntity> findByAgendaIdAndSessionId(String agendaId, String sessionId);
 
-    @Query("{ 'sessions': { $exists: true, $ne: null } }")
-    Flux<AgendaCycleEntity> findAgendasWithSession();
-
     @Query("{ 'sessions.status': 'OPEN' }")
     Flux<AgendaCycleEntity> findAgendasWithActiveSession();
-
-    @Query("{ 'agendaId': ?0, 'session': { $exists: true, $ne: null } }")
-    Mono<AgendaCycleEntity> findByAgendaIdWithSession(String agendaId);
 }
@@ -0,0 +1,20 @@
+package br.com.naysinger.infrastructure.repository;
+
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.infrastructure.entity.SessionVoteEntity;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface SessionVoteRepository extends ReactiveMongoRepository<SessionVoteEntity, String> {
+
+    Flux<SessionVoteEntity> findBySessionId(String sessionId);
+
+    Mono<Boolean> existsBySessionIdAndCpf(String sessionId, String cpf);
+
+    Mono<Long> deleteBySessionIdAndCpf(String sessionId, String cpf);
+
+    Mono<Long> countBySessionIdAndVote(String sessionId, VoteType vote);
+}
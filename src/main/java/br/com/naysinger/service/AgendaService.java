@@ -2,12 +2,20 @@ package br.com.naysinger.service;
 
 import br.com.naysinger.domain.model.Agenda;
 import br.com.naysinger.domain.model.Session;
+import br.com.naysinger.domain.model.SessionWindow;
+import br.com.naysinger.domain.model.VoteResult;
 import br.com.naysinger.domain.port.AgendaPort;
-import br.com.naysinger.domain.port.CpfValidationPort;
+import br.com.naysinger.domain.port.VotePort;
 import br.com.naysinger.common.exception.BusinessException;
 import br.com.naysinger.common.exception.DuplicateCpfException;
+import br.com.naysinger.common.pagination.PageCursor;
+import br.com.naysinger.common.pagination.PagedResult;
+import br.com.naysinger.common.pagination.PaginationRequest;
+import br.com.naysinger.common.validation.Cpf;
+import br.com.naysinger.common.enums.AgendaField;
 import br.com.naysinger.common.enums.AgendaStatus;
 import br.com.naysinger.common.enums.SessionStatus;
+import br.com.naysinger.common.enums.VoteOutcome;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -15,18 +23,32 @@ import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class AgendaService {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(AgendaService.class);
+    static final int MAX_PAGE_SIZE = 100;
+    // Acima disso o offset (skip) fica caro; páginas mais distantes só por cursor
+    static final long MAX_OFFSET = 1_000;
     
     private final AgendaPort agendaPort;
-    private final CpfValidationPort cpfValidationPort;
+    private final VotePort votePort;
+    private final VoteAdmissionPipeline voteAdmissionPipeline;
+    private final VoteDuplicateFilter voteDuplicateFilter;
+    private final SessionWindowCache sessionWindowCache;
     
-    public AgendaService(AgendaPort agendaPort, CpfValidationPort cpfValidationPort) {
+    public AgendaService(AgendaPort agendaPort, VotePort votePort, VoteAdmissionPipeline voteAdmissionPipeline,
+                         VoteDuplicateFilter voteDuplicateFilter, SessionWindowCache sessionWindowCache) {
         this.agendaPort = agendaPort;
-        this.cpfValidationPort = cpfValidationPort;
+        this.votePort = votePort;
+        this.voteAdmissionPipeline = voteAdmissionPipeline;
+        this.voteDuplicateFilter = voteDuplicateFilter;
+        this.sessionWindowCache = sessionWindowCache;
     }
     
     /**
@@ -50,40 +72,130 @@ public class AgendaService {
     }
     
     /**
-     * Busca uma agenda por agendaId
+     * Busca uma agenda por agendaId lendo apenas os campos selecionados
      */
-    public Mono<Agenda> findByAgendaId(String agendaId) {
-        LOGGER.debug("[findByAgendaId] Buscando agenda. agendaId={}", agendaId);
-        return agendaPort.findByAgendaId(agendaId)
+    public Mono<Agenda> findByAgendaId(String agendaId, Set<AgendaField> fields) {
+        LOGGER.debug("[findByAgendaId] Buscando agenda. agendaId={}, fields={}", agendaId, fields);
+        return agendaPort.findByAgendaId(agendaId, fields)
             .switchIfEmpty(Mono.error(new BusinessException("Agenda não encontrada com agendaId: " + agendaId)))
+            .map(this::withLazyVotes)
             .doOnError(e -> LOGGER.error("[findByAgendaId] Erro ao buscar agenda. agendaId={}", agendaId, e));
     }
     
     /**
-     * Busca uma agenda por sessionId
+     * Busca uma agenda por sessionId lendo apenas os campos selecionados
      */
-    public Mono<Agenda> findBySessionId(String sessionId) {
-        LOGGER.debug("[findBySessionId] Buscando por sessionId. sessionId={}", sessionId);
-        return agendaPort.findBySessionId(sessionId)
+    public Mono<Agenda> findBySessionId(String sessionId, Set<AgendaField> fields) {
+        LOGGER.debug("[findBySessionId] Buscando por sessionId. sessionId={}, fields={}", sessionId, fields);
+        return agendaPort.findBySessionId(sessionId, fields)
             .switchIfEmpty(Mono.error(new BusinessException("Sessão não encontrada com sessionId: " + sessionId)))
+            .map(this::withLazyVotes)
             .doOnError(e -> LOGGER.error("[findBySessionId] Erro ao buscar por sessionId. sessionId={}", sessionId, e));
     }
     
     /**
-     * Busca todas as agendas
+     * Busca uma sessão por sessionId apenas com metadados e contadores de votos, sem carregar votos
+     */
+    public Mono<Session> findSessionById(String sessionId) {
+        LOGGER.debug("[findSessionById] Buscando sessão. sessionId={}", sessionId);
+        return agendaPort.findSessionById(sessionId)
+            .switchIfEmpty(Mono.error(new BusinessException("Sessão não encontrada com sessionId: " + sessionId)))
+            .doOnError(e -> LOGGER.error("[findSessionById] Erro ao buscar sessão. sessionId={}", sessionId, e));
+    }
+    
+    /**
+     * Metadados da sessão para consultar o resultado. Só CLOSED é terminal, então apenas ele é aceito do cache;
+     * qualquer outro status é relido direto do banco (a sessão pode ter sido fechada por outra instância), sem
+     * invalidar o cache compartilhado com a admissão de votos. Sessão inexistente segue o cache negativo
+     */
+    public Mono<SessionWindow> findSessionWindow(String sessionId) {
+        LOGGER.debug("[findSessionWindow] Buscando metadados da sessão. sessionId={}", sessionId);
+        return sessionWindowCache.get(sessionId)
+            .flatMap(cached -> {
+                if (cached.isEmpty() || cached.get().status() == SessionStatus.CLOSED) {
+                    return Mono.justOrEmpty(cached);
+                }
+                return agendaPort.findSessionWindow(sessionId);
+            })
+            .switchIfEmpty(Mono.error(new BusinessException("Sessão não encontrada com sessionId: " + sessionId)))
+            .doOnError(e -> LOGGER.error("[findSessionWindow] Erro ao buscar sessão. sessionId={}", sessionId, e));
+    }
+    
+    /**
+     * Resultado da votação agregado no banco, sem carregar a sessão nem seus votos
+     */
+    public Mono<VoteResult> findVoteResult(String sessionId) {
+        LOGGER.debug("[findVoteResult] Consolidando resultado. sessionId={}", sessionId);
+        return agendaPort.findVoteResult(sessionId)
+            .switchIfEmpty(Mono.error(new BusinessException("Sessão não encontrada com sessionId: " + sessionId)))
+            .doOnError(e -> LOGGER.error("[findVoteResult] Erro ao consolidar resultado. sessionId={}", sessionId, e));
+    }
+    
+    /**
+     * Busca todas as agendas lendo apenas os campos selecionados
      */
-    public Flux<Agenda> findAll() {
-        LOGGER.debug("[findAll] Listando agendas");
-        return agendaPort.findAll()
+    public Flux<Agenda> findAll(Set<AgendaField> fields) {
+        LOGGER.debug("[findAll] Listando agendas. fields={}", fields);
+        return agendaPort.findAll(fields)
+            .map(this::withLazyVotes)
             .doOnError(e -> LOGGER.error("[findAll] Erro ao listar agendas", e));
     }
     
     /**
-     * Busca agendas com sessões ativas
+     * Lista agendas paginadas por (createdAt, id). Com cursor a página é lida por keyset (custo constante em qualquer
+     * página); sem cursor, "page" vira offset, aceito só até pagination.max-offset. O total só é contado se pedido
      */
-    public Flux<Agenda> findActiveSessions() {
-        LOGGER.debug("[findActiveSessions] Listando agendas com sessões ativas");
-        return agendaPort.findAgendasWithActiveSession()
+    public Mono<PagedResult<Agenda>> findPage(PaginationRequest request, Set<AgendaField> fields) {
+        LOGGER.debug("[findPage] Listando agendas paginadas. request={}, fields={}", request, fields);
+        if (request.getSize() < 1 || request.getSize() > MAX_PAGE_SIZE) {
+            return Mono.error(new BusinessException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE));
+        }
+        if (!"createdAt".equals(request.getSortBy())) {
+            return Mono.error(new BusinessException("Ordenação suportada apenas por createdAt"));
+        }
+        boolean ascending = "asc".equalsIgnoreCase(request.getSortDirection());
+        PageCursor after;
+        try {
+            after = request.getCursor() != null && !request.getCursor().isBlank() ? PageCursor.decode(request.getCursor()) : null;
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        // A chave do cursor só delimita a página na direção em que foi lida; na outra, pularia ou repetiria itens
+        if (after != null && after.ascending() != ascending) {
+            return Mono.error(new BusinessException("Cursor de paginação gerado para outra direção de ordenação"));
+        }
+        int page = after != null ? after.page() : request.getPage();
+        long offset = after != null ? 0 : request.getOffset();
+        if (offset > MAX_OFFSET) {
+            return Mono.error(new BusinessException("Página muito distante para paginação por offset; use o next_cursor da página anterior"));
+        }
+        // Um item a mais indica se existe próxima página
+        Mono<List<Agenda>> content = agendaPort.findPage(after, offset, request.getSize() + 1, ascending, fields)
+            .map(this::withLazyVotes)
+            .collectList();
+        Mono<Optional<Long>> total = request.isIncludeTotal() ? agendaPort.count().map(Optional::of) : Mono.just(Optional.empty());
+        return Mono.zip(content, total)
+            .map(result -> {
+                List<Agenda> agendas = result.getT1();
+                String nextCursor = null;
+                if (agendas.size() > request.getSize()) {
+                    agendas = agendas.subList(0, request.getSize());
+                    Agenda last = agendas.getLast();
+                    nextCursor = new PageCursor(last.getCreatedAt(), last.getId(), page + 1, ascending).encode();
+                }
+                return PagedResult.keyset(agendas, page, request.getSize(), nextCursor, result.getT2().orElse(null),
+                    request.getSortBy(), ascending ? "asc" : "desc");
+            })
+            .doOnError(e -> LOGGER.error("[findPage] Erro ao listar agendas paginadas. request={}", request, e));
+    }
+    
+    /**
+     * Busca agendas com sessões ativas lendo apenas os campos selecionados
+     */
+    public Flux<Agenda> findActiveSessions(Set<AgendaField> fields) {
+        LOGGER.debug("[findActiveSessions] Listando agendas com sessões ativas. fields={}", fields);
+        return agendaPort.findAgendasWithActiveSession(fields)
+            .map(this::withLazyVotes)
             .doOnError(e -> LOGGER.error("[findActiveSessions] Erro ao listar agendas com sessões ativas", e));
     }
     
@@ -108,6 +220,7 @@ public class AgendaService {
                     return Mono.error(new BusinessException("A duração deve ser de pelo menos 1 minuto"));
                 }
                 return agendaPort.addSession(agendaId, startTime, durationMinutes)
+                    .doOnSuccess(this::invalidateSessionWindows)
                     .doOnSuccess(a -> LOGGER.info("[addSession] Sessão criada. agendaId={}, sessionsCount={}", agendaId, a.getSessions() != null ? a.getSessions().size() : 0));
             })
             .doOnError(e -> LOGGER.error("[addSession] Erro ao criar sessão. agendaId={}", agendaId, e));
@@ -119,6 +232,8 @@ public class AgendaService {
     public Mono<Agenda> closeSession(String sessionId) {
         LOGGER.info("[closeSession] Solicitando fechamento de sessão. sessionId={}", sessionId);
         return agendaPort.closeSession(sessionId)
+            .doOnSuccess(a -> voteDuplicateFilter.evict(sessionId))
+            .doOnSuccess(a -> sessionWindowCache.invalidate(sessionId))
             .doOnSuccess(a -> LOGGER.info("[closeSession] Sessão fechada. sessionId={}", sessionId))
             .doOnError(e -> LOGGER.error("[closeSession] Erro ao fechar sessão. sessionId={}", sessionId, e));
     }
@@ -136,45 +251,56 @@ public class AgendaService {
                     return Mono.error(new BusinessException("Agenda já está fechada"));
                 }
                 return agendaPort.closeAgenda(agendaId)
+                    .doOnSuccess(a -> agenda.getSessions().forEach(session -> voteDuplicateFilter.evict(session.getSessionId())))
+                    .doOnSuccess(a -> invalidateSessionWindows(agenda))
                     .doOnSuccess(a -> LOGGER.info("[closeAgenda] Agenda fechada com sucesso. agendaId={}", agendaId));
             })
             .doOnError(e -> LOGGER.error("[closeAgenda] Erro ao fechar agenda. agendaId={}", agendaId, e));
     }
     
     /**
-     * Adiciona um voto a uma sessão
+     * Adiciona um voto a uma sessão. Um token de elegibilidade válido (opcional) dispensa a validação remota do CPF.
+     * O voto gravado é a fonte de verdade: se o $inc dos contadores falhar, o voto permanece e o
+     * SessionCounterReconciler acerta os contadores depois do fim da janela; só a rejeição pela janela é desfeita aqui.
      */
-    public Mono<Agenda> addVote(String sessionId, String userId, String cpf, String voteType) {
+    public Mono<VoteOutcome> addVote(String sessionId, String userId, String rawCpf, String voteType, String eligibilityToken) {
+        String cpf = Cpf.normalize(rawCpf);
         String maskedCpf = cpf != null && cpf.length() >= 4 ? "***********".substring(0, Math.max(0, cpf.length() - 4)) + cpf.substring(cpf.length() - 4) : "***";
         LOGGER.info("[addVote] Registrando voto. sessionId={}, userId={}, cpfMasked={}, voteType={}", sessionId, userId, maskedCpf, voteType);
-        return cpfValidationPort.check(cpf)
-            .then(agendaPort.findBySessionId(sessionId))
-            .switchIfEmpty(Mono.error(new BusinessException("Sessão não encontrada com sessionId: " + sessionId)))
-            .flatMap(agenda -> {
-                Session targetSession = agenda.getSessionById(sessionId);
-                if (targetSession == null) {
-                    LOGGER.warn("[addVote] Sessão não encontrada no agregado. sessionId={}", sessionId);
-                    return Mono.error(new BusinessException("Sessão não encontrada com sessionId: " + sessionId));
+        return voteAdmissionPipeline.admit(sessionId, userId, cpf, voteType, eligibilityToken)
+            .flatMap(vote -> votePort.save(sessionId, vote))
+            .doOnError(DuplicateCpfException.class, e -> voteDuplicateFilter.record(sessionId, cpf))
+            .flatMap(vote -> agendaPort.addVote(sessionId, vote))
+            .flatMap(outcome -> {
+                if (outcome == VoteOutcome.ACCEPTED) {
+                    voteDuplicateFilter.record(sessionId, cpf);
+                    LOGGER.info("[addVote] Voto computado. sessionId={}, userId={}", sessionId, userId);
+                    return Mono.just(outcome);
                 }
-                if (!targetSession.isInProgress()) {
-                    if (!targetSession.hasStarted()) {
-                        LOGGER.warn("[addVote] Sessão ainda não começou. sessionId={}", sessionId);
-                        return Mono.error(new BusinessException("Sessão ainda não começou. Aguarde o horário de início."));
-                    } else if (targetSession.getStatus() != SessionStatus.OPEN) {
-                        LOGGER.warn("[addVote] Sessão não está aberta. sessionId={}", sessionId);
-                        return Mono.error(new BusinessException("Sessão não está aberta para votação"));
-                    } else {
-                        LOGGER.warn("[addVote] Sessão expirada. sessionId={}", sessionId);
-                        return Mono.error(new BusinessException("Sessão já expirou"));
-                    }
-                }
-                if (targetSession.getVotes() != null && targetSession.getVotes().stream().anyMatch(v -> v.getCpf().equals(cpf))) {
-                    LOGGER.warn("[addVote] CPF já votou nesta sessão. sessionId={}, userId={}", sessionId, userId);
-                    return Mono.error(new DuplicateCpfException(cpf));
-                }
-                return agendaPort.addVote(sessionId, userId, cpf, voteType)
-                    .doOnSuccess(a -> LOGGER.info("[addVote] Voto computado. sessionId={}, userId={}", sessionId, userId));
+                // Sessão saiu da janela entre a admissão e a gravação: desfaz o voto inserido antes de rejeitar
+                return votePort.delete(sessionId, cpf)
+                    .then(voteAdmissionPipeline.resolve(sessionId, userId, cpf, outcome));
             })
             .doOnError(e -> LOGGER.warn("[addVote] Falha ao registrar voto. sessionId={}, userId={}", sessionId, userId, e));
     }
+    
+    private void invalidateSessionWindows(Agenda agenda) {
+        if (agenda != null && agenda.getSessions() != null) {
+            agenda.getSessions().forEach(session -> sessionWindowCache.invalidate(session.getSessionId()));
+        }
+    }
+    
+    /**
+     * Anexa a cada sessão os votos da coleção "votes" como fonte sob demanda: a consulta só acontece se alguém
+     * percorrer os votos (Session#streamVotes / Agenda#withLoadedVotes); totais e resultado vêm dos contadores
+     */
+    private Agenda withLazyVotes(Agenda agenda) {
+        List<Session> sessions = new ArrayList<>(agenda.getSessions().size());
+        for (Session session : agenda.getSessions()) {
+            sessions.add(session.toBuilder()
+                .addPendingVotes(Flux.defer(() -> votePort.findBySessionId(session.getSessionId())))
+                .build());
+        }
+        return agenda.toBuilder().sessions(sessions).build();
+    }
 }
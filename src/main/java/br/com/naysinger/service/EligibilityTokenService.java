@@ -0,0 +1,154 @@
+package br.com.naysinger.service;
+
+import br.com.naysinger.common.validation.Cpf;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Token de elegibilidade assinado (HMAC-SHA256) emitido após uma validação de CPF bem-sucedida.
+ * Formato: {@code kid.expiraEmEpochSegundos.assinatura}, com a assinatura calculada sobre o CPF e a expiração,
+ * então o token só vale para o CPF que o recebeu. A verificação é local (sem I/O) e compara em tempo constante.
+ * Chaves em voting-solution.cpf.eligibility-token.keys ("kid:segredo,..."): a primeira assina, as demais só
+ * verificam, permitindo rotação sem invalidar tokens já emitidos.
+ */
+@Component
+public class EligibilityTokenService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EligibilityTokenService.class);
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final boolean enabled;
+    private final long ttlSeconds;
+    private final Map<String, SecretKeySpec> keys;
+    private final String signingKid;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    public EligibilityTokenService(@Value("${voting-solution.cpf.eligibility-token.enabled:false}") boolean enabled,
+                                   @Value("${voting-solution.cpf.eligibility-token.ttl:3600000}") long ttlMillis,
+                                   @Value("${voting-solution.cpf.eligibility-token.keys:}") String keys,
+                                   MeterRegistry meterRegistry) {
+        this(enabled, ttlMillis, keys, meterRegistry, Clock.systemUTC());
+    }
+
+    EligibilityTokenService(boolean enabled, long ttlMillis, String keys, MeterRegistry meterRegistry, Clock clock) {
+        this.enabled = enabled;
+        this.ttlSeconds = Math.max(1, ttlMillis / 1000);
+        this.keys = parseKeys(keys);
+        if (enabled && this.keys.isEmpty()) {
+            LOGGER.warn("[eligibilityToken] Nenhuma chave configurada; usando chave aleatória (tokens não valem entre instâncias nem após reinício)");
+            byte[] secret = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(secret);
+            this.keys.put("local", new SecretKeySpec(secret, ALGORITHM));
+        }
+        this.signingKid = this.keys.isEmpty() ? null : this.keys.keySet().iterator().next();
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * Emite um token para o CPF com a chave ativa; nulo quando o recurso está desabilitado.
+     */
+    public String issue(String cpf) {
+        if (!enabled) {
+            return null;
+        }
+        long expiresAt = clock.instant().getEpochSecond() + ttlSeconds;
+        String signature = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(sign(keys.get(signingKid), Cpf.normalize(cpf), expiresAt));
+        meterRegistry.counter("cpf.eligibility.token", "result", "issued").increment();
+        return signingKid + "." + expiresAt + "." + signature;
+    }
+
+    /**
+     * Emite um novo token só quando o apresentado não vale mais para o CPF; assim a expiração continua
+     * forçando uma nova validação remota em vez de ser renovada a cada voto.
+     */
+    public String issueIfNeeded(String token, String cpf) {
+        if (!enabled || (token != null && !token.isBlank() && "accepted".equals(check(token, Cpf.normalize(cpf))))) {
+            return null;
+        }
+        return issue(cpf);
+    }
+
+    /**
+     * Indica se o token é válido, não expirou e foi emitido para este CPF.
+     */
+    public boolean verify(String token, String cpf) {
+        if (!enabled || token == null || token.isBlank()) {
+            return false;
+        }
+        String result = check(token, Cpf.normalize(cpf));
+        meterRegistry.counter("cpf.eligibility.token", "result", result).increment();
+        return "accepted".equals(result);
+    }
+
+    private String check(String token, String cpf) {
+        int first = token.indexOf('.');
+        int second = token.indexOf('.', first + 1);
+        if (first <= 0 || second <= first + 1 || second == token.length() - 1) {
+            return "malformed";
+        }
+        SecretKeySpec key = keys.get(token.substring(0, first));
+        if (key == null) {
+            return "unknown_key";
+        }
+        long expiresAt;
+        byte[] signature;
+        try {
+            expiresAt = Long.parseLong(token.substring(first + 1, second));
+            signature = Base64.getUrlDecoder().decode(token.substring(second + 1));
+        } catch (IllegalArgumentException e) {
+            return "malformed";
+        }
+        if (!MessageDigest.isEqual(signature, sign(key, cpf, expiresAt))) {
+            return "invalid_signature";
+        }
+        return clock.instant().getEpochSecond() < expiresAt ? "accepted" : "expired";
+    }
+
+    private static byte[] sign(SecretKeySpec key, String cpf, long expiresAt) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal((cpf + "|" + expiresAt).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC indisponível", e);
+        }
+    }
+
+    private static Map<String, SecretKeySpec> parseKeys(String keys) {
+        Map<String, SecretKeySpec> parsed = new LinkedHashMap<>();
+        if (keys == null || keys.isBlank()) {
+            return parsed;
+        }
+        for (String entry : keys.split(",")) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0 || separator == entry.length() - 1) {
+                throw new IllegalArgumentException("Chave de token de elegibilidade inválida; use kid:segredo");
+            }
+            String kid = entry.substring(0, separator).strip();
+            byte[] secret = entry.substring(separator + 1).strip().getBytes(StandardCharsets.UTF_8);
+            if (secret.length < MIN_SECRET_BYTES) {
+                LOGGER.warn("[eligibilityToken] Segredo com menos de {} bytes. kid={}", MIN_SECRET_BYTES, kid);
+            }
+            parsed.put(kid, new SecretKeySpec(secret, ALGORITHM));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.naysinger.service;
+
+import br.com.naysinger.common.exception.BusinessException;
+import br.com.naysinger.domain.model.SessionTally;
+import br.com.naysinger.domain.model.SessionWindow;
+import br.com.naysinger.domain.port.AgendaPort;
+import br.com.naysinger.domain.port.SessionChangesPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parcial da votação ao vivo. Cada sessão observada tem uma única assinatura de change stream, compartilhada por
+ * todos os clientes através de um sink multicast que guarda só a última parcial: quem chega recebe a parcial atual
+ * e cliente lento recebe apenas a mais recente (conflação), sem acumular eventos. A cada alteração a parcial é
+ * recalculada no banco (AgendaPort#findVoteResult); alterações que chegam durante o cálculo viram um único
+ * recálculo. A assinatura é encerrada quando o último cliente sai ou a sessão termina. Sem suporte a change
+ * streams (MongoDB fora de replica set) a parcial é recalculada por polling.
+ */
+@Service
+public class LiveResultService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LiveResultService.class);
+
+    private final AgendaPort agendaPort;
+    private final SessionChangesPort sessionChangesPort;
+    private final Duration pollInterval;
+    private final Map<String, LiveSession> sessions = new ConcurrentHashMap<>();
+
+    public LiveResultService(AgendaPort agendaPort, SessionChangesPort sessionChangesPort,
+                             @Value("${voting-solution.live-results.poll-interval:2000}") long pollIntervalMillis) {
+        this.agendaPort = agendaPort;
+        this.sessionChangesPort = sessionChangesPort;
+        this.pollInterval = Duration.ofMillis(pollIntervalMillis);
+    }
+
+    /**
+     * Parciais da sessão até ela ser fechada ou a janela de votação acabar; a primeira é a parcial atual.
+     */
+    public Flux<SessionTally> watch(String sessionId) {
+        return agendaPort.findSessionWindow(sessionId)
+            .switchIfEmpty(Mono.error(new BusinessException("Sessão não encontrada com sessionId: " + sessionId)))
+            .flatMapMany(window -> Flux.defer(() -> {
+                LiveSession created = new LiveSession();
+                LiveSession live = sessions.compute(sessionId, (id, current) -> {
+                    LiveSession target = current != null ? current : created;
+                    target.subscribers++;
+                    return target;
+                });
+                if (live == created) {
+                    start(window, live);
+                }
+                return live.sink.asFlux()
+                    .onBackpressureLatest()
+                    .doFinally(signal -> release(sessionId, live));
+            }));
+    }
+
+    /**
+     * Sessões com change stream aberto (para testes e diagnóstico).
+     */
+    int watchedSessions() {
+        return sessions.size();
+    }
+
+    // Assinado fora do compute do mapa: o fluxo pode terminar de forma síncrona e remover a sessão
+    private void start(SessionWindow window, LiveSession live) {
+        String sessionId = window.sessionId();
+        LOGGER.info("[live.start] Iniciando parcial ao vivo. sessionId={}", sessionId);
+        live.upstream = tallies(window).subscribe(
+            tally -> live.sink.tryEmitNext(tally),
+            err -> {
+                LOGGER.error("[live.error] Falha na parcial ao vivo. sessionId={}", sessionId, err);
+                sessions.remove(sessionId, live);
+                live.sink.tryEmitError(err);
+            },
+            () -> {
+                LOGGER.info("[live.complete] Sessão encerrada, parcial final emitida. sessionId={}", sessionId);
+                sessions.remove(sessionId, live);
+                live.sink.tryEmitComplete();
+            });
+    }
+
+    private void release(String sessionId, LiveSession live) {
+        sessions.computeIfPresent(sessionId, (id, current) -> {
+            if (current != live || --current.subscribers > 0) {
+                return current;
+            }
+            LOGGER.info("[live.stop] Sem clientes, encerrando change stream. sessionId={}", sessionId);
+            if (current.upstream != null) {
+                current.upstream.dispose();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Uma leitura quando o change stream abre, uma a cada alteração (conflacionadas enquanto um cálculo está em
+     * andamento) e uma no fim da janela, que encerra o fluxo mesmo sem alterações.
+     */
+    private Flux<SessionTally> tallies(SessionWindow window) {
+        String sessionId = window.sessionId();
+        Flux<Object> changes = sessionChangesPort.watchSession(sessionId)
+            .cast(Object.class)
+            .onErrorResume(err -> {
+                LOGGER.warn("[live.changes] Change streams indisponíveis, usando polling. sessionId={}, interval={}", sessionId, pollInterval, err);
+                return Flux.interval(Duration.ZERO, pollInterval);
+            });
+        Duration untilEnd = Duration.between(LocalDateTime.now(), window.endTime());
+        Mono<Long> windowEnd = Mono.delay(untilEnd.isNegative() ? Duration.ZERO : untilEnd.plusSeconds(1));
+        return Flux.merge(changes, windowEnd)
+            .onBackpressureLatest()
+            .concatMap(change -> tally(sessionId), 1)
+            .distinctUntilChanged()
+            .takeUntil(tally -> tally.isFinal(LocalDateTime.now()));
+    }
+
+    private Mono<SessionTally> tally(String sessionId) {
+        return Mono.zip(agendaPort.findSessionWindow(sessionId), agendaPort.findVoteResult(sessionId))
+            .map(result -> SessionTally.of(result.getT1(), result.getT2()));
+    }
+
+    /**
+     * Estado compartilhado de uma sessão observada; subscribers só é alterado dentro do compute do mapa.
+     */
+    private static final class LiveSession {
+        private final Sinks.Many<SessionTally> sink = Sinks.many().replay().latest();
+        private volatile Disposable upstream;
+        private int subscribers;
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.naysinger.service;
+
+import br.com.naysinger.domain.port.AgendaPort;
+import br.com.naysinger.domain.port.VotePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Reconciliação dos contadores com os votos gravados, chaveada em (session_id, cpf): a gravação do voto e o $inc
+ * dos contadores são escritas separadas, então uma falha entre as duas (ou uma compensação que não chegou a rodar)
+ * deixa os contadores divergentes. Os votos gravados são a fonte de verdade — o índice único garante um voto por CPF —
+ * e, passado {@code grace} ms do fim da janela ou do fechamento (quando nenhum $inc condicional é mais aceito e as
+ * compensações em andamento já terminaram), os contadores da sessão são regravados a partir deles, uma única vez.
+ * Reexecutar é inofensivo: o resultado é o mesmo e sessões já reconciliadas não são alteradas.
+ */
+@Component
+@ConditionalOnProperty(name = "voting-solution.votes.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class SessionCounterReconciler implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionCounterReconciler.class);
+
+    private final AgendaPort agendaPort;
+    private final VotePort votePort;
+    private final Duration interval;
+    private final Duration grace;
+
+    private volatile boolean running;
+    private Disposable ticker;
+
+    public SessionCounterReconciler(AgendaPort agendaPort, VotePort votePort,
+                                    @Value("${voting-solution.votes.reconcile.interval:30000}") long interval,
+                                    @Value("${voting-solution.votes.reconcile.grace:60000}") long grace) {
+        this.agendaPort = agendaPort;
+        this.votePort = votePort;
+        this.interval = Duration.ofMillis(interval);
+        this.grace = Duration.ofMillis(grace);
+    }
+
+    /**
+     * Reconcilia as sessões pendentes cuja janela terminou há mais de {@code grace}; devolve quantas foram alteradas.
+     */
+    public Mono<Long> reconcilePending() {
+        return Flux.defer(() -> agendaPort.findSessionsToReconcile(LocalDateTime.now().minus(grace)))
+            .concatMap(this::reconcile)
+            .filter(Boolean::booleanValue)
+            .count();
+    }
+
+    /**
+     * Regrava os contadores da sessão a partir dos votos gravados.
+     */
+    public Mono<Boolean> reconcile(String sessionId) {
+        return votePort.countBySessionId(sessionId)
+            .flatMap(recorded -> agendaPort.reconcileCounters(sessionId, recorded))
+            .doOnError(err -> LOGGER.error("[reconcile] Falha ao reconciliar contadores. sessionId={}", sessionId, err));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        ticker = Flux.interval(interval)
+            .onBackpressureDrop()
+            .concatMap(tick -> reconcilePending()
+                .doOnNext(reconciled -> {
+                    if (reconciled > 0) {
+                        LOGGER.info("[reconcile] Contadores reconciliados. sessions={}", reconciled);
+                    }
+                })
+                .onErrorResume(err -> Mono.empty()), 1)
+            .subscribe();
+        LOGGER.info("[reconcile] Reconciliação de contadores ativa. interval={}, grace={}", interval, grace);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (ticker != null) {
+            ticker.dispose();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
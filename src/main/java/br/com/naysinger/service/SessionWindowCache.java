@@ -0,0 +1,89 @@
+package br.com.naysinger.service;
+
+import br.com.naysinger.domain.model.SessionWindow;
+import br.com.naysinger.domain.port.AgendaPort;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cache limitado em memória de sessionId -> (agenda, status, início, fim) usado na admissão de votos.
+ * Sessões inexistentes ficam em cache negativo por um TTL menor, para que IDs inválidos não martelem o MongoDB.
+ * Invalidado ao criar sessão e ao fechar sessão ou agenda; o TTL limita a defasagem entre instâncias,
+ * e o update condicional na gravação do voto continua sendo a verificação definitiva.
+ */
+@Component
+public class SessionWindowCache {
+
+    private final AgendaPort agendaPort;
+    private final AsyncCache<String, Optional<SessionWindow>> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public SessionWindowCache(AgendaPort agendaPort,
+                              MeterRegistry meterRegistry,
+                              @Value("${voting-solution.sessions.cache.max-size:10000}") long maxSize,
+                              @Value("${voting-solution.sessions.cache.ttl:30000}") long ttlMillis,
+                              @Value("${voting-solution.sessions.cache.negative-ttl:5000}") long negativeTtlMillis) {
+        this.agendaPort = agendaPort;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new WindowExpiry(Duration.ofMillis(ttlMillis).toNanos(), Duration.ofMillis(negativeTtlMillis).toNanos()))
+            .buildAsync();
+        this.hits = Counter.builder("sessions.window.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("sessions.window.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("sessions.window.cache.size", cache, c -> c.synchronous().estimatedSize())
+            .register(meterRegistry);
+    }
+
+    /**
+     * Metadados da sessão, lidos do MongoDB só na primeira consulta (chamadas concorrentes são coalescidas).
+     */
+    public Mono<Optional<SessionWindow>> get(String sessionId) {
+        return Mono.defer(() -> {
+            AtomicBoolean loaded = new AtomicBoolean(false);
+            CompletableFuture<Optional<SessionWindow>> future = cache.get(sessionId, (key, executor) -> {
+                loaded.set(true);
+                return agendaPort.findSessionWindow(key)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .toFuture();
+            });
+            (loaded.get() ? misses : hits).increment();
+            return Mono.fromFuture(future, true);
+        });
+    }
+
+    public void invalidate(String sessionId) {
+        cache.synchronous().invalidate(sessionId);
+    }
+
+    private record WindowExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<String, Optional<SessionWindow>> {
+
+        @Override
+        public long expireAfterCreate(String key, Optional<SessionWindow> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<SessionWindow> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<SessionWindow> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
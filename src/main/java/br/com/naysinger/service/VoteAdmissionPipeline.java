@@ -0,0 +1,162 @@
+package br.com.naysinger.service;
+
+import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.common.enums.SessionStatus;
+import br.com.naysinger.common.enums.VoteOutcome;
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.common.exception.BusinessException;
+import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.common.exception.DuplicateCpfException;
+import br.com.naysinger.common.validation.Cpf;
+import br.com.naysinger.domain.model.SessionWindow;
+import br.com.naysinger.domain.model.Vote;
+import br.com.naysinger.domain.port.CpfValidationPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Admissão de votos em estágios, do mais barato ao mais caro: formato da requisição, dígitos verificadores
+ * do CPF e tipo de voto, sessão existente e dentro da janela (cache de metadados), CPF duplicado
+ * (filtro de Bloom + índice) e, por último, a elegibilidade no serviço de CPF. Um voto rejeitado nunca consome a validação remota,
+ * e um token de elegibilidade válido dispensa a validação remota até expirar.
+ * Cada estágio é medido em votes.admission.stage{stage, result}.
+ */
+@Component
+public class VoteAdmissionPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VoteAdmissionPipeline.class);
+    private static final String STAGE_TIMER = "votes.admission.stage";
+
+    private final SessionWindowCache sessionWindowCache;
+    private final CpfValidationPort cpfValidationPort;
+    private final VoteDuplicateFilter voteDuplicateFilter;
+    private final EligibilityTokenService eligibilityTokenService;
+    private final MeterRegistry meterRegistry;
+
+    public VoteAdmissionPipeline(SessionWindowCache sessionWindowCache, CpfValidationPort cpfValidationPort,
+                                 VoteDuplicateFilter voteDuplicateFilter, EligibilityTokenService eligibilityTokenService,
+                                 MeterRegistry meterRegistry) {
+        this.sessionWindowCache = sessionWindowCache;
+        this.cpfValidationPort = cpfValidationPort;
+        this.voteDuplicateFilter = voteDuplicateFilter;
+        this.eligibilityTokenService = eligibilityTokenService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Executa os estágios de admissão e devolve o voto pronto para ser gravado.
+     */
+    public Mono<Vote> admit(String sessionId, String userId, String cpf, String voteType, String eligibilityToken) {
+        return timed("shape", Mono.fromCallable(() -> parseRequest(sessionId, userId, cpf, voteType)))
+            .flatMap(vote -> timed("session", checkSessionWindow(sessionId, userId, cpf)).thenReturn(vote))
+            .flatMap(vote -> timed("duplicate", checkDuplicate(sessionId, cpf)).thenReturn(vote))
+            .flatMap(vote -> timed("eligibility", checkEligibility(cpf, eligibilityToken)).thenReturn(vote));
+    }
+
+    /**
+     * Traduz o resultado do registro atômico do voto nas exceções de negócio da API
+     */
+    public Mono<VoteOutcome> resolve(String sessionId, String userId, String cpf, VoteOutcome outcome) {
+        return switch (outcome) {
+            case ACCEPTED -> Mono.just(outcome);
+            case NOT_FOUND -> {
+                LOGGER.warn("[addVote] Sessão não encontrada. sessionId={}", sessionId);
+                yield Mono.error(new BusinessException("Sessão não encontrada com sessionId: " + sessionId));
+            }
+            case NOT_STARTED -> {
+                LOGGER.warn("[addVote] Sessão ainda não começou. sessionId={}", sessionId);
+                yield Mono.error(new BusinessException("Sessão ainda não começou. Aguarde o horário de início."));
+            }
+            case CLOSED -> {
+                LOGGER.warn("[addVote] Sessão não está aberta. sessionId={}", sessionId);
+                yield Mono.error(new BusinessException("Sessão não está aberta para votação"));
+            }
+            case EXPIRED -> {
+                LOGGER.warn("[addVote] Sessão expirada. sessionId={}", sessionId);
+                yield Mono.error(new BusinessException("Sessão já expirou"));
+            }
+            case DUPLICATE -> {
+                LOGGER.warn("[addVote] CPF já votou nesta sessão. sessionId={}, userId={}", sessionId, userId);
+                yield Mono.error(new DuplicateCpfException(cpf));
+            }
+        };
+    }
+
+    private Vote parseRequest(String sessionId, String userId, String cpf, String voteType) {
+        if (sessionId == null || sessionId.isBlank()) {
+            throw new IllegalArgumentException("O ID da sessão é obrigatório");
+        }
+        if (cpf == null || cpf.isBlank()) {
+            throw new IllegalArgumentException("O CPF é obrigatório");
+        }
+        if (!Cpf.isValid(cpf)) {
+            LOGGER.warn("[addVote] CPF com formato ou dígitos verificadores inválidos. sessionId={}, userId={}", sessionId, userId);
+            throw new CpfNotFoundException(cpf);
+        }
+        return Vote.createNew(userId, cpf, parseVoteType(voteType));
+    }
+
+    private VoteType parseVoteType(String voteType) {
+        try {
+            return VoteType.valueOf(voteType.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            LOGGER.warn("[addVote] Tipo de voto inválido. voteType={}", voteType);
+            throw new IllegalArgumentException("Tipo de voto inválido: " + voteType);
+        }
+    }
+
+    /**
+     * Janela de votação servida pelo cache de metadados da sessão (inclusive para sessões inexistentes).
+     * O update condicional na gravação continua sendo a verificação definitiva.
+     */
+    private Mono<VoteOutcome> checkSessionWindow(String sessionId, String userId, String cpf) {
+        LocalDateTime now = LocalDateTime.now();
+        return sessionWindowCache.get(sessionId)
+            .map(window -> window.map(w -> classify(w, now)).orElse(VoteOutcome.NOT_FOUND))
+            .flatMap(outcome -> resolve(sessionId, userId, cpf, outcome));
+    }
+
+    private VoteOutcome classify(SessionWindow window, LocalDateTime now) {
+        if (window.isInProgress(now)) {
+            return VoteOutcome.ACCEPTED;
+        }
+        if (window.status() != SessionStatus.OPEN) {
+            return VoteOutcome.CLOSED;
+        }
+        return window.hasStarted(now) ? VoteOutcome.EXPIRED : VoteOutcome.NOT_STARTED;
+    }
+
+    private Mono<Boolean> checkDuplicate(String sessionId, String cpf) {
+        return voteDuplicateFilter.hasVoted(sessionId, cpf)
+            .flatMap(voted -> voted ? Mono.error(new DuplicateCpfException(cpf)) : Mono.just(false));
+    }
+
+    private Mono<CpfStatus> checkEligibility(String cpf, String eligibilityToken) {
+        return Mono.defer(() -> eligibilityTokenService.verify(eligibilityToken, cpf)
+            ? Mono.just(CpfStatus.ABLE_TO_VOTE)
+            : cpfValidationPort.check(cpf));
+    }
+
+    private <T> Mono<T> timed(String stage, Mono<T> step) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return step.doFinally(signal -> sample.stop(meterRegistry.timer(STAGE_TIMER,
+                "stage", stage, "result", resultOf(signal))));
+        });
+    }
+
+    private static String resultOf(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> "rejected";
+            case CANCEL -> "cancelled";
+            default -> "passed";
+        };
+    }
+}
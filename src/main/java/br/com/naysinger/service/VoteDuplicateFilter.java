@@ -0,0 +1,191 @@
+package br.com.naysinger.service;
+
+import br.com.naysinger.domain.model.Agenda;
+import br.com.naysinger.domain.model.Session;
+import br.com.naysinger.domain.port.AgendaPort;
+import br.com.naysinger.domain.port.VotePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Pré-filtro de CPF duplicado por sessão aberta, baseado em filtro de Bloom em memória.
+ * "Com certeza não votou" é respondido sem ir ao MongoDB; "talvez votou" cai na checagem indexada
+ * (session_id, cpf). O índice único continua sendo a garantia final contra votos concorrentes.
+ * Cada filtro expira no fim da janela da sessão; acima de MAX_SESSIONS, os menos usados são descartados.
+ */
+@Component
+public class VoteDuplicateFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VoteDuplicateFilter.class);
+    private static final int MAX_SESSIONS = 1_000;
+
+    private final AgendaPort agendaPort;
+    private final VotePort votePort;
+    private final boolean enabled;
+    private final long expectedVoters;
+    private final double falsePositiveRate;
+    private final Cache<String, SessionFilter> filters;
+    private final Counter definitelyNew;
+    private final Counter maybeVoted;
+    private final Counter falsePositives;
+
+    public VoteDuplicateFilter(AgendaPort agendaPort,
+                               VotePort votePort,
+                               MeterRegistry meterRegistry,
+                               @Value("${voting-solution.votes.bloom.enabled:true}") boolean enabled,
+                               @Value("${voting-solution.votes.bloom.expected-voters:100000}") long expectedVoters,
+                               @Value("${voting-solution.votes.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.agendaPort = agendaPort;
+        this.votePort = votePort;
+        this.enabled = enabled;
+        this.expectedVoters = expectedVoters;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filters = Caffeine.newBuilder()
+            .maximumSize(MAX_SESSIONS)
+            .expireAfter(new SessionEndExpiry())
+            .build();
+        Gauge.builder("votes.bloom.fill_ratio", filters,
+                f -> f.asMap().values().stream().mapToDouble(entry -> entry.filter().fillRatio()).max().orElse(0))
+            .description("Maior taxa de preenchimento entre os filtros de Bloom das sessões abertas")
+            .register(meterRegistry);
+        Gauge.builder("votes.bloom.sessions", filters, Cache::estimatedSize)
+            .description("Sessões com filtro de Bloom em memória")
+            .register(meterRegistry);
+        this.definitelyNew = Counter.builder("votes.bloom.checks")
+            .tag("result", "definitely_new")
+            .register(meterRegistry);
+        this.maybeVoted = Counter.builder("votes.bloom.checks")
+            .tag("result", "maybe")
+            .register(meterRegistry);
+        this.falsePositives = Counter.builder("votes.bloom.false_positives")
+            .description("Respostas \"talvez votou\" desmentidas pela checagem indexada")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reconstrói os filtros das sessões abertas a partir dos votos gravados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOpenSessions() {
+        if (!enabled) {
+            return;
+        }
+        agendaPort.findAgendasWithActiveSession()
+            .flatMapIterable(Agenda::getSessions)
+            .filter(Session::isActive)
+            .subscribe(session -> rebuild(session.getSessionId(), session.getEndTime()),
+                err -> LOGGER.warn("[bloom.rebuildOpenSessions] Falha ao reconstruir filtros", err));
+    }
+
+    /**
+     * Indica se o CPF já votou na sessão. Só consulta a base quando o filtro não descarta o CPF
+     * ou ainda não está pronto.
+     */
+    public Mono<Boolean> hasVoted(String sessionId, String cpf) {
+        if (!enabled) {
+            return Mono.just(false);
+        }
+        SessionFilter entry = filters.getIfPresent(sessionId);
+        if (entry == null) {
+            rebuildIfOpen(sessionId);
+            return votePort.exists(sessionId, cpf);
+        }
+        CpfBloomFilter filter = entry.filter();
+        if (!filter.isReady()) {
+            return votePort.exists(sessionId, cpf);
+        }
+        if (!filter.mightContain(cpf)) {
+            definitelyNew.increment();
+            return Mono.just(false);
+        }
+        maybeVoted.increment();
+        return votePort.exists(sessionId, cpf)
+            .doOnNext(exists -> {
+                if (!exists) {
+                    falsePositives.increment();
+                }
+            });
+    }
+
+    /**
+     * Registra um CPF cujo voto foi aceito (ou já estava gravado).
+     */
+    public void record(String sessionId, String cpf) {
+        SessionFilter entry = filters.getIfPresent(sessionId);
+        if (entry != null) {
+            entry.filter().put(cpf);
+        }
+    }
+
+    public void evict(String sessionId) {
+        filters.invalidate(sessionId);
+    }
+
+    private void rebuildIfOpen(String sessionId) {
+        // Só metadados: a checagem fica no caminho de admissão e não precisa dos contadores nem dos shards
+        agendaPort.findSessionWindow(sessionId)
+            .filter(window -> window.isOpen(LocalDateTime.now()))
+            .subscribe(window -> rebuild(sessionId, window.endTime()),
+                err -> LOGGER.warn("[bloom.rebuild] Falha ao consultar sessão. sessionId={}", sessionId, err));
+    }
+
+    /**
+     * Instala o filtro antes de ler a base: votos aceitos durante a leitura já entram no filtro,
+     * que só passa a responder "com certeza não votou" ao terminar a carga.
+     */
+    private void rebuild(String sessionId, LocalDateTime endTime) {
+        CpfBloomFilter filter = new CpfBloomFilter(expectedVoters, falsePositiveRate);
+        SessionFilter entry = new SessionFilter(filter, endTime);
+        if (filters.asMap().putIfAbsent(sessionId, entry) != null) {
+            return;
+        }
+        votePort.findBySessionId(sessionId)
+            .doOnNext(vote -> filter.put(vote.getCpf()))
+            .count()
+            .subscribe(loaded -> {
+                filter.markReady();
+                LOGGER.info("[bloom.rebuild] Filtro pronto. sessionId={}, votes={}, fillRatio={}", sessionId, loaded, filter.fillRatio());
+            }, err -> {
+                filters.asMap().remove(sessionId, entry);
+                LOGGER.warn("[bloom.rebuild] Falha ao carregar votos da sessão. sessionId={}", sessionId, err);
+            });
+    }
+
+    private record SessionFilter(CpfBloomFilter filter, LocalDateTime endTime) {
+    }
+
+    /**
+     * O filtro vive até o fim da janela da sessão: depois disso nenhum voto é admitido e a memória é liberada.
+     */
+    private static final class SessionEndExpiry implements Expiry<String, SessionFilter> {
+
+        @Override
+        public long expireAfterCreate(String key, SessionFilter value, long currentTime) {
+            return Math.max(0, Duration.between(LocalDateTime.now(), value.endTime()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, SessionFilter value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, SessionFilter value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.naysinger.benchmark;
+
+import br.com.naysinger.common.enums.VoteOutcome;
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.domain.model.Agenda;
+import br.com.naysinger.domain.model.Session;
+import br.com.naysinger.domain.model.Vote;
+import br.com.naysinger.domain.port.AgendaPort;
+import br.com.naysinger.infrastructure.adapter.SessionTallyShards;
+import br.com.naysinger.infrastructure.entity.AgendaCycleEntity;
+import br.com.naysinger.infrastructure.entity.SessionEntity;
+import br.com.naysinger.integration.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Vazão de escrita de contadores numa única sessão disputada: K=1 (contadores no documento da agenda)
+ * contra K=16 (sharded tally). Executar com ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@DisplayName("Sharded tally write throughput")
+@TestPropertySource(properties = {
+        "logging.level.br.com.naysinger=WARN",
+        "logging.level.br.com.naysinger.benchmark=INFO",
+        "logging.level.org.springframework.data.mongodb=WARN"
+})
+public class TallyShardWriteBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TallyShardWriteBenchmarkTest.class);
+
+    private static final int VOTES = 20_000;
+    private static final int CONCURRENCY = 256;
+
+    @Autowired
+    private AgendaPort agendaPort;
+
+    @Autowired
+    private SessionTallyShards sessionTallyShards;
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Test
+    @DisplayName("Compare K=1 and K=16 write throughput")
+    void compareShardCounts() {
+        // Aquecimento do pool de conexões e do JIT
+        runVotes(createSession(1), 2_000);
+
+        double single = runVotes(createSession(1), VOTES);
+        double sharded = runVotes(createSession(16), VOTES);
+
+        LOGGER.info("[benchmark.tally] votes={} concurrency={} K=1: {} votes/s | K=16: {} votes/s ({}x)",
+                VOTES, CONCURRENCY, Math.round(single), Math.round(sharded), String.format("%.2f", sharded / single));
+    }
+
+    private double runVotes(String sessionId, int votes) {
+        long start = System.nanoTime();
+        Long accepted = Flux.range(0, votes)
+                .flatMap(i -> agendaPort.addVote(sessionId, Vote.createNew("user" + i, String.valueOf(i), i % 2 == 0 ? VoteType.YES : VoteType.NO)), CONCURRENCY)
+                .filter(outcome -> outcome == VoteOutcome.ACCEPTED)
+                .count()
+                .block(Duration.ofMinutes(5));
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Session session = agendaPort.findSessionById(sessionId).block(Duration.ofSeconds(30));
+        assertEquals(votes, accepted);
+        assertEquals(votes, session.getTotalVotes());
+        return votes / seconds;
+    }
+
+    private String createSession(int shards) {
+        String agendaId = "bench_" + UUID.randomUUID().toString().substring(0, 8);
+        agendaPort.save(Agenda.createNew(agendaId, "Benchmark", "Sharded tally", "benchmark")).block(Duration.ofSeconds(30));
+        Agenda agenda = agendaPort.addSession(agendaId, LocalDateTime.now().minusSeconds(1), 30).block(Duration.ofSeconds(30));
+        String sessionId = agenda.getSessions().getLast().getSessionId();
+        if (shards > 1) {
+            AgendaCycleEntity agendaCycle = reactiveMongoTemplate.findOne(
+                    Query.query(Criteria.where("agenda_id").is(agendaId)), AgendaCycleEntity.class).block(Duration.ofSeconds(30));
+            SessionEntity session = agendaCycle.getSessions().getLast();
+            sessionTallyShards.openShards(agendaId, session, 0, shards).block(Duration.ofSeconds(30));
+            reactiveMongoTemplate.updateFirst(Query.query(Criteria.where("sessions.session_id").is(sessionId)),
+                    new Update().set("sessions.$.tally_shards", shards), AgendaCycleEntity.class).block(Duration.ofSeconds(30));
+        }
+        return sessionId;
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.naysinger.benchmark;
+
+import br.com.naysinger.api.dto.AgendaRequestDTO;
+import br.com.naysinger.api.dto.AgendaResponseDTO;
+import br.com.naysinger.api.dto.vote.VoteCommandDTO;
+import br.com.naysinger.api.dto.vote.VoteRequestDTO;
+import br.com.naysinger.api.dto.vote.VoteSubmissionResult;
+import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.domain.port.CpfValidationPort;
+import br.com.naysinger.integration.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Vazão de ingestão de votos pelo mesmo caminho de serviço: um POST REST por voto contra um request-channel
+ * RSocket (TCP e WebSocket), com a mesma concorrência. Executar com ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@DisplayName("Vote ingestion throughput: REST vs RSocket channel")
+@TestPropertySource(properties = {
+        "logging.level.br.com.naysinger=WARN",
+        "logging.level.br.com.naysinger.benchmark=INFO",
+        "logging.level.org.springframework.data.mongodb=WARN",
+        "voting-solution.rsocket.votes.max-in-flight=" + VoteIngestionTransportBenchmarkTest.CONCURRENCY
+})
+public class VoteIngestionTransportBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VoteIngestionTransportBenchmarkTest.class);
+
+    static final int CONCURRENCY = 64;
+    private static final int VOTES = 10_000;
+
+    private int nextOffset = 1;
+
+    @Autowired
+    private RSocketRequester.Builder requesterBuilder;
+
+    @Value("${local.rsocket.server.port}")
+    private int rsocketPort;
+
+    @Value("${local.server.port}")
+    private int serverPort;
+
+    @MockitoBean
+    private CpfValidationPort cpfValidationPort;
+
+    @Test
+    @DisplayName("Compare REST, RSocket TCP and RSocket WebSocket")
+    void compareTransports() {
+        Mockito.when(cpfValidationPort.check(Mockito.anyString())).thenReturn(Mono.just(CpfStatus.ABLE_TO_VOTE));
+        WebClient webClient = WebClient.create("http://localhost:" + serverPort);
+        RSocketRequester tcp = requesterBuilder.tcp("localhost", rsocketPort);
+        RSocketRequester websocket = requesterBuilder.websocket(URI.create("ws://localhost:" + serverPort + "/rsocket"));
+
+        // Aquecimento do pool de conexões, do JIT e dos três transportes
+        runRest(webClient, createSession(), 1_000);
+        runChannel(tcp, createSession(), 1_000);
+        runChannel(websocket, createSession(), 1_000);
+
+        double rest = runRest(webClient, createSession(), VOTES);
+        double rsocketTcp = runChannel(tcp, createSession(), VOTES);
+        double rsocketWebSocket = runChannel(websocket, createSession(), VOTES);
+        tcp.dispose();
+        websocket.dispose();
+
+        LOGGER.info("[benchmark.ingestion] votes={} concurrency={} rest: {} votes/s | rsocket tcp: {} votes/s ({}x) | rsocket ws: {} votes/s ({}x)",
+                VOTES, CONCURRENCY, Math.round(rest), Math.round(rsocketTcp), String.format("%.2f", rsocketTcp / rest),
+                Math.round(rsocketWebSocket), String.format("%.2f", rsocketWebSocket / rest));
+    }
+
+    private double runRest(WebClient webClient, String sessionId, int votes) {
+        return measure(votes, offset -> Flux.range(offset, votes)
+                .flatMap(i -> webClient.post()
+                        .uri("/api/v1/agenda/session/{sessionId}/vote", sessionId)
+                        .bodyValue(new VoteRequestDTO("user" + i, cpf(i), i % 2 == 0 ? "YES" : "NO"))
+                        .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value())), CONCURRENCY));
+    }
+
+    private double runChannel(RSocketRequester requester, String sessionId, int votes) {
+        return measure(votes, offset -> requester.route("votes.channel")
+                .data(Flux.range(offset, votes)
+                        .map(i -> new VoteCommandDTO(String.valueOf(i), sessionId, "user" + i, cpf(i), i % 2 == 0 ? "YES" : "NO", null)))
+                .retrieveFlux(VoteSubmissionResult.class)
+                .map(VoteSubmissionResult::status));
+    }
+
+    /**
+     * Votos por segundo; todos os votos devem ser aceitos (201). Cada execução usa uma faixa nova de CPFs.
+     */
+    private double measure(int votes, Function<Integer, Flux<Integer>> run) {
+        int offset = nextOffset;
+        nextOffset += votes;
+        long start = System.nanoTime();
+        long accepted = run.apply(offset).filter(status -> status == 201).count().block(Duration.ofMinutes(5));
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        assertEquals(votes, accepted);
+        return votes / seconds;
+    }
+
+    private String createSession() {
+        AgendaRequestDTO request = new AgendaRequestDTO("Benchmark", "Vote ingestion", "benchmark", LocalDateTime.now(), 30);
+        AgendaResponseDTO agenda = webTestClient.post().uri("/api/v1/agenda")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(AgendaResponseDTO.class).getResponseBody()
+                .blockFirst(Duration.ofSeconds(10));
+        return agenda.getSessions().getFirst().getSessionId();
+    }
+
+    /**
+     * CPF válido derivado de n: nove dígitos base (100000000 + n) seguidos dos dois dígitos verificadores.
+     */
+    static String cpf(int n) {
+        String base = String.valueOf(100_000_000 + n);
+        int sum1 = 0;
+        int sum2 = 0;
+        for (int i = 0; i < 9; i++) {
+            int d = base.charAt(i) - '0';
+            sum1 += d * (10 - i);
+            sum2 += d * (11 - i);
+        }
+        int dv1 = sum1 % 11 < 2 ? 0 : 11 - sum1 % 11;
+        sum2 += dv1 * 2;
+        int dv2 = sum2 % 11 < 2 ? 0 : 11 - sum2 % 11;
+        return base + dv1 + dv2;
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.naysinger.benchmark;
+
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.domain.model.Agenda;
+import br.com.naysinger.domain.model.VoteResult;
+import br.com.naysinger.domain.port.AgendaPort;
+import br.com.naysinger.domain.port.VotePort;
+import br.com.naysinger.infrastructure.entity.AgendaCycleEntity;
+import br.com.naysinger.integration.AbstractIntegrationTest;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Latência e bytes alocados para obter o resultado de uma sessão com 1k, 100k e 1M votos. Os votos são inseridos
+ * crus na coleção "votes": a contagem em Java e a contagem no servidor (VotePort#countBySessionId) partem dos mesmos
+ * dados, sem nada pré-calculado. Os contadores gravados na sessão (AgendaPort#findVoteResult) entram só como
+ * referência do custo de leitura de um resultado pronto. Executar com ./gradlew benchmark.
+ */
+@Tag("benchmark")
+@DisplayName("Vote result: Java counting vs server-side counting (stored counters as reference)")
+@TestPropertySource(properties = {
+        "logging.level.br.com.naysinger=WARN",
+        "logging.level.br.com.naysinger.benchmark=INFO",
+        "logging.level.org.springframework.data.mongodb=WARN"
+})
+public class VoteResultBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VoteResultBenchmarkTest.class);
+
+    private static final int INSERT_BATCH = 10_000;
+    private static final int ITERATIONS = 5;
+
+    @Autowired
+    private AgendaPort agendaPort;
+
+    @Autowired
+    private VotePort votePort;
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @ParameterizedTest(name = "{0} votes")
+    @ValueSource(ints = {1_000, 100_000, 1_000_000})
+    void compareResultComputation(int votes) {
+        String sessionId = createSessionWithVotes(votes);
+        VoteResult expected = new VoteResult((votes + 1) / 2, votes / 2, votes);
+
+        Measurement java = measure(() -> votePort.findBySessionId(sessionId)
+                .collectList()
+                .map(loaded -> {
+                    long yes = loaded.stream().filter(vote -> vote.getVote() == VoteType.YES).count();
+                    return new VoteResult(yes, loaded.size() - yes, loaded.size());
+                }), expected);
+        Measurement serverCount = measure(() -> votePort.countBySessionId(sessionId), expected);
+
+        storeCounters(sessionId, expected);
+        Measurement storedCounters = measure(() -> agendaPort.findVoteResult(sessionId), expected);
+
+        LOGGER.info("[benchmark.result] votes={} java: {} ms, {} KB | server count: {} ms, {} KB | stored counters: {} ms, {} KB",
+                votes, String.format("%.1f", java.millis()), java.allocatedBytes() / 1024,
+                String.format("%.1f", serverCount.millis()), serverCount.allocatedBytes() / 1024,
+                String.format("%.1f", storedCounters.millis()), storedCounters.allocatedBytes() / 1024);
+    }
+
+    /**
+     * Média de latência e de bytes alocados (somando todas as threads da JVM) após uma execução de aquecimento.
+     */
+    private Measurement measure(Supplier<Mono<VoteResult>> computation, VoteResult expected) {
+        assertEquals(expected, computation.get().block(Duration.ofMinutes(5)));
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long bytesBefore = allocatedBytes();
+            long start = System.nanoTime();
+            computation.get().block(Duration.ofMinutes(5));
+            totalNanos += System.nanoTime() - start;
+            totalBytes += allocatedBytes() - bytesBefore;
+        }
+        return new Measurement(totalNanos / ITERATIONS / 1_000_000.0, totalBytes / ITERATIONS);
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            total += Math.max(0, bytes);
+        }
+        return total;
+    }
+
+    /**
+     * Sessão já encerrada com os votos inseridos direto na coleção "votes"; os contadores da sessão ficam zerados.
+     */
+    private String createSessionWithVotes(int votes) {
+        String agendaId = "bench_" + UUID.randomUUID().toString().substring(0, 8);
+        agendaPort.save(Agenda.createNew(agendaId, "Benchmark", "Vote result", "benchmark")).block(Duration.ofSeconds(30));
+        Agenda agenda = agendaPort.addSession(agendaId, LocalDateTime.now().plusMinutes(1), 30).block(Duration.ofSeconds(30));
+        String sessionId = agenda.getSessions().getLast().getSessionId();
+
+        Date now = new Date();
+        Flux.range(0, votes)
+                .map(i -> new Document("session_id", sessionId)
+                        .append("user_id", "user" + i)
+                        .append("cpf", String.format("%011d", i))
+                        .append("vote", (i % 2 == 0 ? VoteType.YES : VoteType.NO).name())
+                        .append("timestamp", now))
+                .buffer(INSERT_BATCH)
+                .concatMap(batch -> reactiveMongoTemplate.getCollection("votes")
+                        .flatMap(collection -> Mono.from(collection.insertMany(new ArrayList<>(batch)))))
+                .then()
+                .block(Duration.ofMinutes(10));
+
+        agendaPort.closeSession(sessionId).block(Duration.ofSeconds(30));
+        return sessionId;
+    }
+
+    /**
+     * Grava o resultado já medido nos contadores da sessão, como o caminho de voto faria, para a leitura de referência.
+     */
+    private void storeCounters(String sessionId, VoteResult result) {
+        reactiveMongoTemplate.updateFirst(Query.query(Criteria.where("sessions.session_id").is(sessionId)),
+                new Update()
+                        .set("sessions.$.yes_count", result.simVotes())
+                        .set("sessions.$.no_count", result.naoVotes())
+                        .set("sessions.$.total_count", result.totalVotes()),
+                AgendaCycleEntity.class).block(Duration.ofSeconds(30));
+    }
+
+    private record Measurement(double millis, long allocatedBytes) {
+    }
+}
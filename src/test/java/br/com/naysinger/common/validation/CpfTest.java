@@ -0,0 +1,38 @@
+package br.com.naysinger.common.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Cpf Unit Tests")
+public class CpfTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"52998224725", "529.982.247-25", "11144477735", "390.533.447-05", "12345678909"})
+    @DisplayName("Should accept CPFs with valid check digits, formatted or not")
+    void shouldAcceptValidCpfs(String cpf) {
+        assertTrue(Cpf.isValid(cpf));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"52998224726", "52998224735", "11111111111", "000.000.000-00", "5299822472",
+            "529982247250", "5299822472a", "529982247-25", "529.982.247.25", "529-982-247.25", ""})
+    @DisplayName("Should reject wrong check digits, repeated sequences and malformed input")
+    void shouldRejectInvalidCpfs(String cpf) {
+        assertFalse(Cpf.isValid(cpf));
+    }
+
+    @Test
+    @DisplayName("Should strip formatting only from valid formatted CPFs")
+    void shouldNormalizeFormattedCpf() {
+        assertEquals("52998224725", Cpf.normalize("529.982.247-25"));
+        assertEquals("52998224725", Cpf.normalize("52998224725"));
+        assertEquals("529.982.247-26", Cpf.normalize("529.982.247-26"));
+        assertFalse(Cpf.isValid(null));
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.domain.model.CpfEligibility;
+import br.com.naysinger.domain.port.CpfValidationPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("CachingCpfValidationClient Unit Tests")
+public class CachingCpfValidationClientTest {
+
+    private final CpfValidationFakeClient fakeClient = new CpfValidationFakeClient();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CachingCpfValidationClient client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CpfValidationPort countingFake = cpf -> {
+            upstreamCalls.incrementAndGet();
+            return fakeClient.check(cpf);
+        };
+        client = new CachingCpfValidationClient(countingFake, 1_000, Duration.ofMinutes(10), Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent checks for the same CPF into one upstream call")
+    void shouldCoalesceConcurrentChecks() {
+        List<String> results = Flux.range(0, 50)
+                .flatMap(i -> outcome(client.check("52998224725")), 50)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, results.stream().distinct().count());
+        assertEquals(1, counter("miss"));
+        assertEquals(49, counter("coalesced") + counter("hit"));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated checks from cache, including negative results")
+    void shouldServeRepeatedChecksFromCache() {
+        String first = outcome(client.check("52998224725")).block(Duration.ofSeconds(5));
+        String second = outcome(client.check("52998224725")).block(Duration.ofSeconds(5));
+
+        assertEquals(first, second);
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, counter("hit"));
+    }
+
+    @Test
+    @DisplayName("Should answer cached CPFs in a batch and send only the misses upstream, preserving order")
+    void shouldSendOnlyMissesUpstreamInBatch() {
+        String cached = outcome(client.check("52998224725")).block(Duration.ofSeconds(5));
+
+        List<CpfEligibility> results = client.checkAll(Flux.just("11144477735", "52998224725", "39053344705"))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(List.of("11144477735", "52998224725", "39053344705"), results.stream().map(CpfEligibility::cpf).toList());
+        assertEquals(cached, results.get(1).ableToVote() ? "ABLE_TO_VOTE" : "NOT_FOUND");
+        assertEquals(3, upstreamCalls.get());
+        assertEquals(1, counter("hit"));
+        assertEquals(3, counter("miss"));
+
+        client.checkAll(Flux.just("11144477735", "39053344705")).blockLast(Duration.ofSeconds(5));
+        assertEquals(3, upstreamCalls.get());
+    }
+
+    private Mono<String> outcome(Mono<CpfStatus> check) {
+        return check.map(CpfStatus::name)
+                .onErrorResume(CpfNotFoundException.class, e -> Mono.just("NOT_FOUND"));
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("cpf.validation.cache").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.common.exception.CpfValidationRejectedException;
+import br.com.naysinger.domain.model.CpfEligibility;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exercita o cliente HTTP contra um servidor stub local (Reactor Netty), sem rede externa.
+ */
+@DisplayName("CpfValidationHttpClient Unit Tests")
+public class CpfValidationHttpClientTest {
+
+    private static final Duration SLOW_RESPONSE = Duration.ofMillis(300);
+
+    private static final AtomicInteger batchCalls = new AtomicInteger();
+
+    private static final AtomicInteger acceptedConnections = new AtomicInteger();
+
+    private static DisposableServer stubServer;
+
+    @BeforeAll
+    static void startStubServer() {
+        stubServer = HttpServer.create()
+                .port(0)
+                .doOnConnection(connection -> acceptedConnections.incrementAndGet())
+                .route(routes -> routes.get("/users/{cpf}", (request, response) -> {
+                    String cpf = request.param("cpf");
+                    return switch (cpf) {
+                        case "52998224725" -> response.header("Content-Type", "application/json")
+                                .sendString(Mono.just("{\"status\":\"ABLE_TO_VOTE\"}"));
+                        case "11144477735" -> response.header("Content-Type", "application/json")
+                                .sendString(Mono.just("{\"status\":\"UNABLE_TO_VOTE\"}"));
+                        case "39053344705" -> response.header("Content-Type", "application/json")
+                                .sendString(Mono.delay(SLOW_RESPONSE).thenReturn("{\"status\":\"ABLE_TO_VOTE\"}"));
+                        case "98765432100" -> response.status(403).send();
+                        default -> response.status(404).send();
+                    };
+                }).post("/users/batch", (request, response) -> {
+                    batchCalls.incrementAndGet();
+                    return response.header("Content-Type", "application/json")
+                            .sendString(Mono.just("[{\"cpf\":\"11144477735\",\"status\":\"UNABLE_TO_VOTE\"},"
+                                    + "{\"cpf\":\"52998224725\",\"status\":\"ABLE_TO_VOTE\"}]"));
+                }))
+                .bindNow();
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.disposeNow();
+    }
+
+    @Test
+    @DisplayName("Should map ABLE_TO_VOTE, UNABLE_TO_VOTE and 404 responses")
+    void shouldMapUpstreamResponses() {
+        CpfValidationHttpClient client = client(ConnectionProvider.create("cpf-test", 10));
+
+        StepVerifier.create(client.check("52998224725"))
+                .expectNext(CpfStatus.ABLE_TO_VOTE)
+                .verifyComplete();
+        StepVerifier.create(client.check("11144477735"))
+                .expectError(CpfNotFoundException.class)
+                .verify();
+        StepVerifier.create(client.check("00000000000"))
+                .expectError(CpfNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should map other 4xx responses to CpfValidationRejectedException")
+    void shouldMapClientErrorsToRejected() {
+        CpfValidationHttpClient client = client(ConnectionProvider.create("cpf-test", 10));
+
+        StepVerifier.create(client.check("98765432100"))
+                .expectErrorSatisfies(e -> assertEquals(403, ((CpfValidationRejectedException) e).getStatus()))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reuse pooled connections across calls")
+    void shouldReusePooledConnections() {
+        CpfValidationHttpClient client = client(ConnectionProvider.create("cpf-reuse", 2));
+        int connectionsBefore = acceptedConnections.get();
+
+        Long completed = Flux.range(0, 200)
+                .flatMap(i -> client.check("52998224725"), 2)
+                .count()
+                .block(Duration.ofSeconds(30));
+
+        assertEquals(200, completed);
+        assertTrue(acceptedConnections.get() - connectionsBefore <= 2,
+                "200 chamadas deveriam usar no máximo as 2 conexões do pool");
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the pending-acquire queue is exhausted")
+    void shouldFailFastWhenPoolIsExhausted() {
+        ConnectionProvider tinyPool = ConnectionProvider.builder("cpf-exhausted")
+                .maxConnections(1)
+                .pendingAcquireMaxCount(1)
+                .pendingAcquireTimeout(Duration.ofSeconds(5))
+                .build();
+        CpfValidationHttpClient client = client(tinyPool);
+
+        List<String> outcomes = Flux.range(0, 3)
+                .flatMap(i -> client.check("39053344705")
+                        .map(CpfStatus::name)
+                        .onErrorResume(e -> Mono.just(NestedExceptionUtils.getMostSpecificCause(e).getClass().getSimpleName())), 3)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertEquals(2, outcomes.stream().filter("ABLE_TO_VOTE"::equals).count());
+        assertEquals(1, outcomes.stream().filter("PoolAcquirePendingLimitException"::equals).count());
+    }
+
+    @Test
+    @DisplayName("Should check a batch in one request, in input order, treating missing CPFs as unable")
+    void shouldCheckBatchInOneRequest() {
+        CpfValidationHttpClient client = client(ConnectionProvider.create("cpf-batch", 2),
+                "http://localhost:" + stubServer.port() + "/users/batch");
+        int callsBefore = batchCalls.get();
+
+        StepVerifier.create(client.checkAll(Flux.just("52998224725", "00000000000", "11144477735")))
+                .expectNext(new CpfEligibility("52998224725", CpfStatus.ABLE_TO_VOTE))
+                .expectNext(new CpfEligibility("00000000000", CpfStatus.UNABLE_TO_VOTE))
+                .expectNext(new CpfEligibility("11144477735", CpfStatus.UNABLE_TO_VOTE))
+                .verifyComplete();
+        assertEquals(1, batchCalls.get() - callsBefore);
+    }
+
+    private CpfValidationHttpClient client(ConnectionProvider connectionProvider) {
+        return client(connectionProvider, "");
+    }
+
+    private CpfValidationHttpClient client(ConnectionProvider connectionProvider, String batchUrl) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .responseTimeout(Duration.ofSeconds(5));
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        return new CpfValidationHttpClient(webClient, "http://localhost:" + stubServer.port() + "/users/{cpf}", batchUrl);
+    }
+}
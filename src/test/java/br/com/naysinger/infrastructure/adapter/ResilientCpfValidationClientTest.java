@@ -0,0 +1,165 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.common.exception.CpfValidationRejectedException;
+import br.com.naysinger.common.exception.CpfValidationUnavailableException;
+import br.com.naysinger.domain.port.CpfValidationPort;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("ResilientCpfValidationClient Unit Tests")
+public class ResilientCpfValidationClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should fail fast once the circuit is open")
+    void shouldFailFastWhenCircuitIsOpen() {
+        CpfValidationPort failing = cpf -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.error(new IllegalStateException("upstream down"));
+        };
+        ResilientCpfValidationClient client = client(failing, 10, false);
+
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(client.check("52998224725")).expectError(IllegalStateException.class).verify();
+        }
+        StepVerifier.create(client.check("52998224725"))
+                .expectError(CpfValidationUnavailableException.class)
+                .verify();
+
+        assertEquals(4, upstreamCalls.get());
+        assertEquals(1, meterRegistry.get("cpf.validation.rejected").tag("reason", "circuit_open").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject calls beyond the bulkhead limit")
+    void shouldRejectCallsBeyondBulkheadLimit() {
+        CpfValidationPort slow = cpf -> Mono.delay(Duration.ofMillis(200)).thenReturn(CpfStatus.ABLE_TO_VOTE);
+        ResilientCpfValidationClient client = client(slow, 1, false);
+
+        StepVerifier.create(Mono.zip(
+                        client.check("52998224725").map(CpfStatus::name),
+                        client.check("11144477735").map(CpfStatus::name).onErrorReturn(CpfValidationUnavailableException.class, "REJECTED")))
+                .expectNextMatches(results -> "ABLE_TO_VOTE".equals(results.getT1()) && "REJECTED".equals(results.getT2()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not retry nor trip the circuit on CPF not found")
+    void shouldNotRetryOnCpfNotFound() {
+        CpfValidationPort notFound = cpf -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.error(new CpfNotFoundException(cpf));
+        };
+        ResilientCpfValidationClient client = client(notFound, 10, true);
+
+        for (int i = 0; i < 6; i++) {
+            StepVerifier.create(client.check("52998224725")).expectError(CpfNotFoundException.class).verify();
+        }
+
+        assertEquals(6, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("Should not retry nor trip the circuit when the service rejects the request")
+    void shouldNotRetryOnRejectedRequest() {
+        CpfValidationPort rejecting = cpf -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.error(new CpfValidationRejectedException(403));
+        };
+        ResilientCpfValidationClient client = client(rejecting, 10, true);
+
+        for (int i = 0; i < 6; i++) {
+            StepVerifier.create(client.check("52998224725")).expectError(CpfValidationRejectedException.class).verify();
+        }
+
+        assertEquals(6, upstreamCalls.get());
+    }
+
+    @Test
+    @DisplayName("Should answer with the hedge when the primary call is slow")
+    void shouldAnswerWithHedgeWhenPrimaryIsSlow() {
+        CpfValidationPort slowThenFast = cpf -> upstreamCalls.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofMillis(800)).thenReturn(CpfStatus.UNABLE_TO_VOTE)
+                : Mono.just(CpfStatus.ABLE_TO_VOTE);
+        ResilientCpfValidationClient client = client(slowThenFast, 10, true);
+
+        StepVerifier.create(client.check("52998224725"))
+                .expectNext(CpfStatus.ABLE_TO_VOTE)
+                .expectComplete()
+                .verify(Duration.ofMillis(500));
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(1, meterRegistry.get("cpf.validation.hedged").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep waiting for the slow primary call when the hedge is rejected by the bulkhead")
+    void shouldIgnoreHedgeRejectedByBulkhead() {
+        CpfValidationPort slow = cpf -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(300)).thenReturn(CpfStatus.ABLE_TO_VOTE);
+        };
+        ResilientCpfValidationClient client = client(slow, 1, true);
+
+        StepVerifier.create(client.check("52998224725"))
+                .expectNext(CpfStatus.ABLE_TO_VOTE)
+                .verifyComplete();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, meterRegistry.get("cpf.validation.hedged").counter().count());
+        assertEquals(1, meterRegistry.get("cpf.validation.rejected").tag("reason", "bulkhead_full").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should scale the batch timeout with the rounds of individual delegate calls")
+    void shouldScaleBatchTimeoutWithBatchSize() {
+        // 16 CPFs, 8 por rodada: duas rodadas de 700ms passam do timeout de uma chamada (1s), mas não de duas
+        CpfValidationPort slow = cpf -> Mono.delay(Duration.ofMillis(700)).thenReturn(CpfStatus.ABLE_TO_VOTE);
+        ResilientCpfValidationClient client = client(slow, 10, false);
+        List<String> cpfs = IntStream.range(0, 16).mapToObj(i -> "52998224725").toList();
+
+        StepVerifier.create(client.checkAll(Flux.fromIterable(cpfs)).count())
+                .expectNext(16L)
+                .verifyComplete();
+    }
+
+    private ResilientCpfValidationClient client(CpfValidationPort delegate, int maxConcurrentCalls, boolean hedge) {
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("cpfValidation", CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .ignoreExceptions(CpfNotFoundException.class, CpfValidationRejectedException.class)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        Bulkhead bulkhead = Bulkhead.of("cpfValidation", BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        Retry retry = Retry.of("cpfValidation", RetryConfig.custom()
+                .maxAttempts(1)
+                .build());
+        return new ResilientCpfValidationClient(delegate, circuitBreaker, bulkhead, retry, Duration.ofSeconds(1),
+                hedge, Duration.ofMillis(50), Duration.ofMillis(10), meterRegistry);
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.infrastructure.entity.AgendaCycleEntity;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SessionCounterBatcher Unit Tests")
+public class SessionCounterBatcherTest {
+
+    private static final int NO_TICK = 60_000;
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate = mock(ReactiveMongoTemplate.class);
+    private SessionCounterBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null && batcher.isRunning()) {
+            batcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply one $inc per session carrying the summed deltas of the batch")
+    void shouldApplyOneIncrementPerSession() {
+        when(reactiveMongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(AgendaCycleEntity.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+        batcher = start(4);
+
+        List<Boolean> applied = Flux.merge(
+                        batcher.increment("session_1", VoteType.YES),
+                        batcher.increment("session_1", VoteType.YES),
+                        batcher.increment("session_1", VoteType.NO),
+                        batcher.increment("session_2", VoteType.NO))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(List.of(true, true, true, true), applied);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(reactiveMongoTemplate, times(2)).updateFirst(any(Query.class), updates.capture(), eq(AgendaCycleEntity.class));
+        List<Document> increments = updates.getAllValues().stream()
+                .map(update -> update.getUpdateObject().get("$inc", Document.class))
+                .toList();
+        assertEquals(1, increments.stream()
+                .filter(inc -> inc.get("sessions.$.total_count").equals(3L)
+                        && inc.get("sessions.$.yes_count").equals(2L)
+                        && inc.get("sessions.$.no_count").equals(1L))
+                .count());
+        assertEquals(1, increments.stream()
+                .filter(inc -> inc.get("sessions.$.total_count").equals(1L) && inc.get("sessions.$.no_count").equals(1L))
+                .count());
+    }
+
+    @Test
+    @DisplayName("Should report every vote of the batch as not applied when the session is outside its window")
+    void shouldReportNotAppliedWhenSessionIsClosed() {
+        when(reactiveMongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(AgendaCycleEntity.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(0, 0L, null)));
+        batcher = start(2);
+
+        List<Boolean> applied = Flux.merge(
+                        batcher.increment("session_1", VoteType.YES),
+                        batcher.increment("session_1", VoteType.NO))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(List.of(false, false), applied);
+        verify(reactiveMongoTemplate, times(1)).updateFirst(any(Query.class), any(Update.class), eq(AgendaCycleEntity.class));
+    }
+
+    @Test
+    @DisplayName("Should flush pending increments on stop and apply later ones immediately")
+    void shouldFlushPendingIncrementsOnStop() throws Exception {
+        when(reactiveMongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(AgendaCycleEntity.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+        batcher = start(100);
+        CompletableFuture<Boolean> pending = batcher.increment("session_1", VoteType.YES).toFuture();
+        assertFalse(pending.isDone());
+
+        batcher.stop();
+
+        assertEquals(true, pending.get(5, TimeUnit.SECONDS));
+        assertEquals(true, batcher.increment("session_1", VoteType.NO).block(Duration.ofSeconds(5)));
+        verify(reactiveMongoTemplate, times(2)).updateFirst(any(Query.class), any(Update.class), eq(AgendaCycleEntity.class));
+    }
+
+    private SessionCounterBatcher start(int maxBatchSize) {
+        SessionCounterBatcher started = new SessionCounterBatcher(reactiveMongoTemplate, new SimpleMeterRegistry(),
+                maxBatchSize, NO_TICK, 5_000);
+        started.start();
+        return started;
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.common.exception.DuplicateCpfException;
+import br.com.naysinger.domain.model.Vote;
+import br.com.naysinger.infrastructure.entity.VoteBucketEntity;
+import br.com.naysinger.infrastructure.entity.VoteEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VoteBucketAdapter Unit Tests")
+public class VoteBucketAdapterTest {
+
+    private static final String SESSION_ID = "session_1";
+    private static final String CPF = "52998224725";
+
+    @Mock
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    private VoteBucketAdapter adapter;
+    private Vote vote;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new VoteBucketAdapter(reactiveMongoTemplate, 2);
+        vote = Vote.createNew("user1", CPF, VoteType.YES);
+    }
+
+    @Test
+    @DisplayName("Should append the vote to the current bucket without opening a new one")
+    void shouldAppendToCurrentBucket() {
+        when(reactiveMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(VoteBucketEntity.class)))
+                .thenReturn(Mono.just(bucket(0)));
+
+        StepVerifier.create(adapter.save(SESSION_ID, vote))
+                .expectNext(vote)
+                .verifyComplete();
+
+        verify(reactiveMongoTemplate, never()).insert(any(VoteBucketEntity.class));
+    }
+
+    @Test
+    @DisplayName("Should open the next bucket in sequence when the current one is full")
+    void shouldRollOverToNextBucket() {
+        when(reactiveMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(VoteBucketEntity.class)))
+                .thenReturn(Mono.empty());
+        when(reactiveMongoTemplate.findOne(any(Query.class), eq(VoteBucketEntity.class))).thenReturn(Mono.just(bucket(3)));
+        when(reactiveMongoTemplate.insert(any(VoteBucketEntity.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(adapter.save(SESSION_ID, vote))
+                .expectNext(vote)
+                .verifyComplete();
+
+        ArgumentCaptor<VoteBucketEntity> opened = ArgumentCaptor.forClass(VoteBucketEntity.class);
+        verify(reactiveMongoTemplate).insert(opened.capture());
+        assertEquals(4, opened.getValue().getBucketSeq());
+        assertEquals(1, opened.getValue().getCount());
+        assertEquals(CPF, opened.getValue().getVotes().getFirst().getCpf());
+    }
+
+    @Test
+    @DisplayName("Should retry from the append when another vote opened the same bucket concurrently")
+    void shouldRetryOnBucketSequenceConflict() {
+        AtomicInteger appendAttempts = new AtomicInteger();
+        when(reactiveMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(VoteBucketEntity.class)))
+                .thenReturn(Mono.defer(() -> appendAttempts.getAndIncrement() == 0 ? Mono.empty() : Mono.just(bucket(1))));
+        when(reactiveMongoTemplate.findOne(any(Query.class), eq(VoteBucketEntity.class))).thenReturn(Mono.just(bucket(0)));
+        when(reactiveMongoTemplate.insert(any(VoteBucketEntity.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key error")));
+        when(reactiveMongoTemplate.exists(any(Query.class), eq(VoteBucketEntity.class))).thenReturn(Mono.just(false));
+
+        StepVerifier.create(adapter.save(SESSION_ID, vote))
+                .expectNext(vote)
+                .verifyComplete();
+
+        assertEquals(2, appendAttempts.get());
+    }
+
+    @Test
+    @DisplayName("Should reject with DuplicateCpfException when the CPF is already in a bucket of the session")
+    void shouldRejectDuplicateCpfWhenOpeningBucket() {
+        when(reactiveMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(VoteBucketEntity.class)))
+                .thenReturn(Mono.empty());
+        when(reactiveMongoTemplate.findOne(any(Query.class), eq(VoteBucketEntity.class))).thenReturn(Mono.just(bucket(0)));
+        when(reactiveMongoTemplate.insert(any(VoteBucketEntity.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key error")));
+        when(reactiveMongoTemplate.exists(any(Query.class), eq(VoteBucketEntity.class))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(adapter.save(SESSION_ID, vote))
+                .expectError(DuplicateCpfException.class)
+                .verify();
+
+        verify(reactiveMongoTemplate, times(1)).insert(any(VoteBucketEntity.class));
+    }
+
+    @Test
+    @DisplayName("Should reject with DuplicateCpfException when the append hits the unique CPF index")
+    void shouldRejectDuplicateCpfOnAppend() {
+        when(reactiveMongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(VoteBucketEntity.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key error")));
+
+        StepVerifier.create(adapter.save(SESSION_ID, vote))
+                .expectError(DuplicateCpfException.class)
+                .verify();
+
+        verify(reactiveMongoTemplate, never()).insert(any(VoteBucketEntity.class));
+    }
+
+    private VoteBucketEntity bucket(long bucketSeq) {
+        return VoteBucketEntity.open(SESSION_ID, bucketSeq, new VoteEntity("user0", "11144477735", VoteType.NO, LocalDateTime.now()));
+    }
+}
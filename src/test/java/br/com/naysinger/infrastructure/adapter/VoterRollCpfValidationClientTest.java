@@ -0,0 +1,56 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.domain.model.VoterRollImport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("VoterRollCpfValidationClient Unit Tests")
+public class VoterRollCpfValidationClientTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should import a CSV, skipping header, invalid and duplicate CPFs")
+    void shouldImportCsv() {
+        VoterRollCpfValidationClient client = new VoterRollCpfValidationClient(tempDir.resolve("roll.bin"));
+
+        VoterRollImport result = client.importCsv(Flux.just("cpf;nome", "529.982.247-25;Ana", "11144477735;Bruno",
+                        "52998224725;Ana", "11111111111;Inválido"))
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(2, result.voters());
+        assertEquals(2, result.rejectedLines());
+        assertEquals(1, result.duplicates());
+        StepVerifier.create(client.check("52998224725")).expectNext(CpfStatus.ABLE_TO_VOTE).verifyComplete();
+        StepVerifier.create(client.check("39053344705")).expectError(CpfNotFoundException.class).verify();
+    }
+
+    @Test
+    @DisplayName("Should keep the roll across restarts and swap it on re-import")
+    void shouldSurviveRestartAndSwapOnReimport() {
+        Path rollPath = tempDir.resolve("roll.bin");
+        new VoterRollCpfValidationClient(rollPath).importCsv(Flux.just("52998224725", "11144477735")).block(Duration.ofSeconds(5));
+
+        VoterRollCpfValidationClient restarted = new VoterRollCpfValidationClient(rollPath);
+        assertEquals(2, restarted.size());
+        assertTrue(restarted.contains("111.444.777-35"));
+
+        restarted.importCsv(Flux.just("39053344705")).block(Duration.ofSeconds(5));
+        assertEquals(1, restarted.size());
+        assertTrue(restarted.contains("39053344705"));
+        assertFalse(restarted.contains("52998224725"));
+    }
+}
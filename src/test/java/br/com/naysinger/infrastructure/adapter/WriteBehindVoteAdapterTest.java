@@ -0,0 +1,163 @@
+package br.com.naysinger.infrastructure.adapter;
+
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.common.exception.DuplicateCpfException;
+import br.com.naysinger.common.exception.VoteIngestionOverloadedException;
+import br.com.naysinger.domain.model.Vote;
+import br.com.naysinger.infrastructure.entity.SessionVoteEntity;
+import br.com.naysinger.infrastructure.mapper.SessionVoteMapper;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WriteBehindVoteAdapter Unit Tests")
+public class WriteBehindVoteAdapterTest {
+
+    private static final int NO_TICK = 60_000;
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate = mock(ReactiveMongoTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final MongoCollection<Document> collection = mock(MongoCollection.class);
+    private WriteBehindVoteAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        when(reactiveMongoTemplate.getConverter()).thenReturn(mock(MappingMongoConverter.class));
+        when(reactiveMongoTemplate.getCollectionName(SessionVoteEntity.class)).thenReturn("votes");
+        when(reactiveMongoTemplate.getCollection("votes")).thenReturn(Mono.just(collection));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (adapter != null && adapter.isRunning()) {
+            adapter.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write a full batch with one unordered bulkWrite and complete every caller")
+    void shouldWriteFullBatchWithOneBulkWrite() {
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenReturn(Mono.just(mock(BulkWriteResult.class)));
+        adapter = start(10, 3, NO_TICK);
+
+        List<Vote> saved = Flux.merge(save("52998224725"), save("11144477735"), save("39053344705"))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(3, saved.size());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WriteModel<Document>>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(collection, times(1)).bulkWrite(inserts.capture(), any(BulkWriteOptions.class));
+        assertEquals(3, inserts.getValue().size());
+    }
+
+    @Test
+    @DisplayName("Should fail only the vote hit by a duplicate key, completing the rest of the batch")
+    void shouldMapDuplicateKeyToTheAffectedVoteOnly() throws Exception {
+        MongoBulkWriteException duplicate = new MongoBulkWriteException(mock(BulkWriteResult.class),
+                List.of(new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1)), null, new ServerAddress(), Set.of());
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenReturn(Mono.error(duplicate));
+        adapter = start(10, 2, NO_TICK);
+
+        CompletableFuture<Vote> first = save("52998224725").toFuture();
+        CompletableFuture<Vote> second = save("11144477735").toFuture();
+
+        assertEquals("52998224725", first.get(5, TimeUnit.SECONDS).getCpf());
+        ExecutionException error = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DuplicateCpfException.class, error.getCause());
+    }
+
+    @Test
+    @DisplayName("Should reject with VoteIngestionOverloadedException (429) when the queue is full")
+    void shouldRejectWhenQueueIsFull() {
+        adapter = start(2, 10, NO_TICK);
+        save("52998224725").toFuture();
+        save("11144477735").toFuture();
+
+        assertThrows(VoteIngestionOverloadedException.class, () -> save("39053344705").block(Duration.ofSeconds(5)));
+        verify(collection, never()).bulkWrite(anyList(), any(BulkWriteOptions.class));
+    }
+
+    @Test
+    @DisplayName("Should flush queued votes on stop and reject votes offered afterwards")
+    void shouldDrainQueueOnStop() throws Exception {
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenReturn(Mono.just(mock(BulkWriteResult.class)));
+        adapter = start(10, 10, NO_TICK);
+        CompletableFuture<Vote> first = save("52998224725").toFuture();
+        CompletableFuture<Vote> second = save("11144477735").toFuture();
+
+        adapter.stop();
+
+        assertEquals("52998224725", first.get(5, TimeUnit.SECONDS).getCpf());
+        assertEquals("11144477735", second.get(5, TimeUnit.SECONDS).getCpf());
+        verify(collection, times(1)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+        assertThrows(VoteIngestionOverloadedException.class, () -> save("39053344705").block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    @DisplayName("Should fail votes still pending when the drain timeout expires instead of leaving them hanging")
+    void shouldFailPendingVotesWhenDrainTimesOut() {
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenReturn(Mono.never());
+        adapter = new WriteBehindVoteAdapter(null, new SessionVoteMapper(), reactiveMongoTemplate, new SimpleMeterRegistry(),
+                10, 10, NO_TICK, 100);
+        adapter.start();
+        CompletableFuture<Vote> first = save("52998224725").toFuture();
+        CompletableFuture<Vote> second = save("11144477735").toFuture();
+
+        adapter.stop();
+
+        for (CompletableFuture<Vote> pending : List.of(first, second)) {
+            ExecutionException error = assertThrows(ExecutionException.class, () -> pending.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(VoteIngestionOverloadedException.class, error.getCause());
+        }
+        assertTrue(first.isDone() && second.isDone());
+    }
+
+    private WriteBehindVoteAdapter start(int capacity, int maxBatchSize, int flushInterval) {
+        WriteBehindVoteAdapter started = new WriteBehindVoteAdapter(null, new SessionVoteMapper(), reactiveMongoTemplate,
+                new SimpleMeterRegistry(), capacity, maxBatchSize, flushInterval, 5_000);
+        started.start();
+        return started;
+    }
+
+    private Mono<Vote> save(String cpf) {
+        Vote vote = Vote.createNew("user_" + cpf, cpf, VoteType.YES);
+        return adapter.save("session_1", vote).doOnNext(saved -> assertSame(vote, saved));
+    }
+}
@@ -1,16 +1,18 @@
 package br.com.naysinger.integration;
 
+import br.com.naysinger.infrastructure.migration.MongoIndexBootstrap;
+import org.junit.jupiter.api.BeforeEach;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.reactive.server.WebTestClient;
-import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,15 +26,15 @@ public abstract class AbstractIntegrationTest {
     @Autowired
     protected WebTestClient webTestClient;
 
+    @Autowired
+    private MongoIndexBootstrap mongoIndexBootstrap;
+
+    /**
+     * Replica set de um nó (MongoDBContainer), necessário para os change streams da parcial ao vivo.
+     */
     @Container
-    static GenericContainer<?> mongoDBContainer = new GenericContainer<>(DockerImageName.parse("mongo:6.0"))
-            .withEnv("MONGO_INITDB_ROOT_USERNAME", "admin")
-            .withEnv("MONGO_INITDB_ROOT_PASSWORD", "voting123")
-            .withExposedPorts(27017)
-            .waitingFor(
-                    Wait.forLogMessage(".*Waiting for connections.*\\n", 1)
-                            .withStartupTimeout(Duration.ofSeconds(120))
-            )
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo:6.0"))
+            .withStartupTimeout(Duration.ofSeconds(120))
             .withReuse(false); // false para evitar conflitos
 
     @DynamicPropertySource
@@ -40,12 +42,16 @@ public abstract class AbstractIntegrationTest {
         registry.add("spring.data.mongodb.host", mongoDBContainer::getHost);
         registry.add("spring.data.mongodb.port", mongoDBContainer::getFirstMappedPort);
         registry.add("spring.data.mongodb.database", () -> "voting-solution-test-" + System.currentTimeMillis());
-        registry.add("spring.data.mongodb.username", () -> "admin");
-        registry.add("spring.data.mongodb.password", () -> "voting123");
-        registry.add("spring.data.mongodb.authentication-database", () -> "admin");
-        // Configurações de timeout mais agressivas
-        registry.add("spring.data.mongodb.options.serverSelectionTimeoutMS", () -> 10000);
-        registry.add("spring.data.mongodb.options.connectTimeoutMS", () -> 10000);
-        registry.add("spring.data.mongodb.options.socketTimeoutMS", () -> 10000);
+    }
+
+    /**
+     * Os índices são criados em segundo plano na subida: espera a primeira verificação para que os índices
+     * únicos já existam quando o teste começar.
+     */
+    @BeforeEach
+    void awaitRequiredIndexes() {
+        Mono.fromSupplier(() -> mongoIndexBootstrap.lastCheck().orElse(null))
+                .repeatWhenEmpty(300, attempts -> attempts.delayElements(Duration.ofMillis(100)))
+                .block(Duration.ofSeconds(60));
     }
 }
\ No newline at end of file
@@ -3,9 +3,12 @@ package br.com.naysinger.integration;
 import br.com.naysinger.api.dto.AgendaRequestDTO;
 import br.com.naysinger.api.dto.AgendaResponseDTO;
 import br.com.naysinger.api.dto.vote.VoteRequestDTO;
+import br.com.naysinger.api.dto.vote.LiveResultResponse;
 import br.com.naysinger.api.dto.vote.VoteResultResponse;
+import br.com.naysinger.api.dto.vote.VoteSubmissionResult;
 import br.com.naysinger.common.enums.CpfStatus;
 import br.com.naysinger.common.enums.SessionResult;
+import br.com.naysinger.common.enums.SessionStatus;
 import br.com.naysinger.common.exception.CpfNotFoundException;
 import br.com.naysinger.domain.port.CpfValidationPort;
 import br.com.naysinger.infrastructure.repository.AgendaCycleRepository;
@@ -14,12 +17,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -98,6 +108,131 @@ public class AgendaControllerIntegrationTest extends AbstractIntegrationTest {
                 .verifyComplete();
     }
 
+    @Test
+    void shouldStreamAgendasAsNdjsonAndJsonArray() {
+        // Given
+        createAgendaWithSession("Streamed Agenda 1", 0).block();
+        createAgendaWithSession("Streamed Agenda 2", 0).block();
+
+        // When & Then: uma pauta por linha
+        webTestClient.get()
+                .uri("/api/v1/agenda")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(AgendaResponseDTO.class).getResponseBody()
+                .as(StepVerifier::create)
+                .expectNextCount(2)
+                .verifyComplete();
+
+        // When & Then: array JSON
+        webTestClient.get()
+                .uri("/api/v1/agenda")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(AgendaResponseDTO.class).hasSize(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWalkAgendaPagesWithContinuationCursor() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            createAgendaWithSession("Paged Agenda " + i, 0).block();
+        }
+
+        // When: percorre as páginas seguindo next_cursor
+        Set<String> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String uri = cursor == null ? "/api/v1/agenda/page?size=2&includeTotal=true" : "/api/v1/agenda/page?size=2&cursor=" + cursor;
+            Map<String, Object> page = webTestClient.get().uri(uri)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(Map.class)
+                    .returnResult().getResponseBody();
+            if (pages == 0) {
+                assertThat(((Number) page.get("total_elements")).longValue()).isEqualTo(5L);
+            }
+            ((List<Map<String, Object>>) page.get("content")).forEach(agenda -> seen.add((String) agenda.get("agendaId")));
+            cursor = (String) page.get("next_cursor");
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(5);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldListSummaryByDefaultAndSelectedFields() {
+        // Given
+        String sessionId = createAgendaWithSession("Summary Agenda", 1).block().getSessions().getFirst().getSessionId();
+        webTestClient.post().uri("/api/v1/agenda/session/{sessionId}/vote", sessionId)
+                .bodyValue(new VoteRequestDTO("user1", "52998224725", "YES")).exchange().expectStatus().isCreated();
+
+        // When & Then: listagem resumida por padrão, sem votos
+        List<Map<String, Object>> summary = webTestClient.get().uri("/api/v1/agenda/active")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(Map.class)
+                .returnResult().getResponseBody().stream().map(agenda -> (Map<String, Object>) agenda).toList();
+        Map<String, Object> session = ((List<Map<String, Object>>) summary.getFirst().get("sessions")).getFirst();
+        assertThat(session).containsEntry("totalVotes", 1).containsKeys("status", "startTime", "endTime").doesNotContainKey("votes");
+
+        // When & Then: apenas os campos pedidos, com votos na visão completa
+        Map<String, Object> full = webTestClient.get().uri("/api/v1/agenda/session/{sessionId}?view=full&fields=agendaId,sessions", sessionId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Map.class)
+                .returnResult().getResponseBody();
+        assertThat(full).containsOnlyKeys("agendaId", "sessions");
+        assertThat((List<Object>) ((List<Map<String, Object>>) full.get("sessions")).getFirst().get("votes")).hasSize(1);
+
+        // When & Then: campo desconhecido
+        webTestClient.get().uri("/api/v1/agenda?fields=agendaId,votes")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldKeepNullAndEmptyFieldsUnlessDeselected() {
+        // Given: pauta sem descrição, sem autor e sem sessões
+        String agendaId = webTestClient.post().uri("/api/v1/agenda")
+                .bodyValue(new AgendaRequestDTO("Bare Agenda", null, null, null, null))
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(AgendaResponseDTO.class).getResponseBody()
+                .next()
+                .block()
+                .getAgendaId();
+
+        // When & Then: sem fields, todos os campos saem, inclusive os nulos e a lista vazia de sessões
+        Map<String, Object> full = webTestClient.get().uri("/api/v1/agenda/{agendaId}?view=full", agendaId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Map.class)
+                .returnResult().getResponseBody();
+        assertThat(full).containsKeys("id", "agendaId", "title", "description", "status", "createdAt", "createdBy", "sessions");
+        assertThat(full.get("description")).isNull();
+        assertThat(full.get("createdBy")).isNull();
+        assertThat((List<Object>) full.get("sessions")).isEmpty();
+
+        // When & Then: só os campos pedidos, mesmo nulos
+        Map<String, Object> selected = webTestClient.get().uri("/api/v1/agenda/{agendaId}?fields=title,description", agendaId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Map.class)
+                .returnResult().getResponseBody();
+        assertThat(selected).containsOnlyKeys("title", "description");
+    }
+
     @Test
     void shouldAddVoteToSession() {
         // Given
@@ -107,7 +242,7 @@ public class AgendaControllerIntegrationTest extends AbstractIntegrationTest {
                 .as(StepVerifier::create)
                 .assertNext(createdAgenda -> {
                     String sessionId = createdAgenda.getSessions().getFirst().getSessionId();
-                    VoteRequestDTO voteRequest = new VoteRequestDTO("user1", "11122233344", "YES");
+                    VoteRequestDTO voteRequest = new VoteRequestDTO("user1", "11122233396", "YES");
 
                     // When & Then
                     webTestClient.post()
@@ -120,6 +255,35 @@ public class AgendaControllerIntegrationTest extends AbstractIntegrationTest {
                 .verifyComplete();
     }
 
+    @Test
+    void shouldStreamLiveTallyAsVotesArrive() {
+        // Given
+        String sessionId = createAgendaWithSession("Live Agenda", 1).block().getSessions().getFirst().getSessionId();
+
+        // When & Then: parcial inicial e uma nova a cada voto
+        webTestClient.get()
+                .uri("/api/v1/agenda/session/{sessionId}/live", sessionId)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<LiveResultResponse>>() {})
+                .getResponseBody()
+                .map(ServerSentEvent::data)
+                .as(StepVerifier::create)
+                .assertNext(tally -> assertThat(tally.totalVotes()).isZero())
+                .then(() -> webTestClient.post().uri("/api/v1/agenda/session/{sessionId}/vote", sessionId)
+                        .bodyValue(new VoteRequestDTO("user1", "52998224725", "YES")).exchange().expectStatus().isCreated())
+                .assertNext(tally -> {
+                    assertThat(tally.simVotes()).isEqualTo(1);
+                    assertThat(tally.totalVotes()).isEqualTo(1);
+                })
+                .then(() -> webTestClient.post().uri("/api/v1/agenda/session/{sessionId}/close", sessionId)
+                        .exchange().expectStatus().isOk())
+                .assertNext(tally -> assertThat(tally.status()).isEqualTo(SessionStatus.CLOSED))
+                .expectComplete()
+                .verify(Duration.ofSeconds(30));
+    }
+
     @Test
     void shouldReturnConflictWhenVotingTwiceWithSameCpf() {
         // Given
@@ -129,7 +293,7 @@ public class AgendaControllerIntegrationTest extends AbstractIntegrationTest {
                 .as(StepVerifier::create)
                 .assertNext(createdAgenda -> {
                     String sessionId = createdAgenda.getSessions().getFirst().getSessionId();
-                    VoteRequestDTO voteRequest = new VoteRequestDTO("user2", "55566677788", "NO");
+                    VoteRequestDTO voteRequest = new VoteRequestDTO("user2", "55566677720", "NO");
 
                     webTestClient.post().uri("/api/v1/agenda/session/{sessionId}/vote", sessionId)
                             .bodyValue(voteRequest).exchange().expectStatus().isCreated();
@@ -147,6 +311,53 @@ public class AgendaControllerIntegrationTest extends AbstractIntegrationTest {
                 .verifyComplete();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldProcessNdjsonVoteBatchWithoutAbortingOnRejectedLines() {
+        // Given: corpo acima do maxInMemorySize de 1 MB, com linhas válidas, duplicada, malformada, inválida e em branco
+        String sessionId = createAgendaWithSession("Bulk Agenda", 10).block().getSessions().getFirst().getSessionId();
+        String padding = "x".repeat(300_000);
+        String body = String.join("\n",
+                "{\"userId\":\"user1\",\"cpf\":\"52998224725\",\"voteType\":\"YES\"}",
+                "{\"userId\":\"user2\",\"cpf\":\"52998224725\",\"voteType\":\"NO\"}",
+                "{\"userId\":\"user3\",",
+                "{\"userId\":\"user4\",\"cpf\":\"12345678900\",\"voteType\":\"YES\"}",
+                "",
+                "{\"userId\":\"user6\",\"cpf\":\"11144477735\",\"voteType\":\"NO\",\"note\":\"" + padding + "\"}",
+                "{\"userId\":\"user7\",\"cpf\":\"39053344705\",\"voteType\":\"YES\",\"note\":\"" + padding + "\"}",
+                "{\"userId\":\"user8\",\"cpf\":\"12345678909\",\"voteType\":\"NO\",\"note\":\"" + padding + "\"}",
+                "{\"userId\":\"user9\",\"cpf\":\"11122233396\",\"voteType\":\"YES\",\"note\":\"" + padding + "\"}") + "\n";
+
+        // When
+        List<VoteSubmissionResult> results = webTestClient.post()
+                .uri("/api/v1/agenda/session/{sessionId}/votes", sessionId)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(VoteSubmissionResult.class).getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(30));
+
+        // Then: um resultado por linha não vazia, na ordem das linhas
+        assertThat(results).extracting(VoteSubmissionResult::requestId).containsExactly("1", "2", "3", "4", "6", "7", "8", "9");
+        assertThat(results.subList(0, 2)).extracting(VoteSubmissionResult::status).containsExactlyInAnyOrder(201, 409);
+        assertThat(results.get(2).status()).isEqualTo(400);
+        assertThat(results.get(3).status()).isEqualTo(400);
+        assertThat(results.get(3).error()).isEqualTo("Erro de validação");
+        assertThat(results.subList(4, 8)).extracting(VoteSubmissionResult::status).containsOnly(201);
+        // O lote não assina token de elegibilidade por linha
+        assertThat(results).extracting(VoteSubmissionResult::eligibilityToken).containsOnlyNulls();
+
+        Map<String, Object> agenda = webTestClient.get().uri("/api/v1/agenda/session/{sessionId}?view=summary&fields=sessions", sessionId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Map.class)
+                .returnResult().getResponseBody();
+        assertThat(((List<Map<String, Object>>) agenda.get("sessions")).getFirst()).containsEntry("totalVotes", 5);
+    }
+
     @Test
     void shouldGetVoteResultsForClosedSession() {
         // Given
@@ -159,11 +370,11 @@ public class AgendaControllerIntegrationTest extends AbstractIntegrationTest {
 
                     // Cast votes
                     webTestClient.post().uri("/api/v1/agenda/session/{sessionId}/vote", sessionId)
-                            .bodyValue(new VoteRequestDTO("user1", "11111111111", "YES")).exchange().expectStatus().isCreated();
+                            .bodyValue(new VoteRequestDTO("user1", "11111111200", "YES")).exchange().expectStatus().isCreated();
                     webTestClient.post().uri("/api/v1/agenda/session/{sessionId}/vote", sessionId)
-                            .bodyValue(new VoteRequestDTO("user2", "22222222222", "YES")).exchange().expectStatus().isCreated();
+                            .bodyValue(new VoteRequestDTO("user2", "22222222303", "YES")).exchange().expectStatus().isCreated();
                     webTestClient.post().uri("/api/v1/agenda/session/{sessionId}/vote", sessionId)
-                            .bodyValue(new VoteRequestDTO("user3", "33333333333", "NO")).exchange().expectStatus().isCreated();
+                            .bodyValue(new VoteRequestDTO("user3", "33333333414", "NO")).exchange().expectStatus().isCreated();
 
                     // When: Close the session
                     webTestClient.post()
@@ -0,0 +1,94 @@
+package br.com.naysinger.integration;
+
+import br.com.naysinger.infrastructure.migration.MongoIndexBootstrap;
+import br.com.naysinger.infrastructure.migration.RequiredIndexesHealthIndicator;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante que as consultas do repositório e do adapter usam índice (IXSCAN) em vez de varrer a coleção.
+ */
+public class MongoIndexUsageIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Autowired
+    private MongoIndexBootstrap mongoIndexBootstrap;
+
+    @Autowired
+    private RequiredIndexesHealthIndicator requiredIndexesHealthIndicator;
+
+    @Test
+    void shouldCreateAllRequiredIndexesAtStartup() {
+        assertThat(mongoIndexBootstrap.missingIndexes().collectList().block(Duration.ofSeconds(10))).isEmpty();
+        assertThat(mongoIndexBootstrap.lastCheck()).hasValueSatisfying(check -> assertThat(check.missing()).isEmpty());
+        assertThat(requiredIndexesHealthIndicator.health().block(Duration.ofSeconds(10)).getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void agendaCycleQueriesShouldUseIndexes() {
+        Map<String, Document> queries = Map.of(
+            "findByAgendaId", new Document("agenda_id", "agenda_1"),
+            "findBySessionId", new Document("sessions.session_id", "session_1"),
+            "findByAgendaIdAndSessionId", new Document("agenda_id", "agenda_1").append("sessions.session_id", "session_1"),
+            "findAgendasWithActiveSession", new Document("sessions.status", "OPEN"),
+            "addVote", new Document("sessions", new Document("$elemMatch", new Document("session_id", "session_1")
+                .append("status", "OPEN")
+                .append("start_time", new Document("$lt", new Date()))
+                .append("end_time", new Document("$gt", new Date())))));
+
+        queries.forEach((query, filter) ->
+            assertThat(winningStages("agenda_cycle", filter)).as(query).contains("IXSCAN").doesNotContain("COLLSCAN"));
+    }
+
+    @Test
+    void voteQueriesShouldUseIndexes() {
+        Map<String, Document> queries = Map.of(
+            "findBySessionId", new Document("session_id", "session_1"),
+            "existsBySessionIdAndCpf", new Document("session_id", "session_1").append("cpf", "52998224725"),
+            "countBySessionIdAndVote", new Document("session_id", "session_1").append("vote", "YES"));
+
+        queries.forEach((query, filter) ->
+            assertThat(winningStages("votes", filter)).as(query).contains("IXSCAN").doesNotContain("COLLSCAN"));
+    }
+
+    private List<String> winningStages(String collection, Document filter) {
+        Document explain = reactiveMongoTemplate.getCollection(collection)
+            .flatMap(c -> Mono.from(c.find(filter).explain()))
+            .block(Duration.ofSeconds(10));
+        Document queryPlanner = explain.get("queryPlanner", Document.class);
+        return stages(queryPlanner.get("winningPlan"));
+    }
+
+    /**
+     * Estágios do plano vencedor, percorrendo inputStage/inputStages (e queryPlan, no formato do SBE).
+     */
+    private static List<String> stages(Object node) {
+        if (!(node instanceof Document plan)) {
+            return List.of();
+        }
+        List<String> found = new ArrayList<>();
+        if (plan.getString("stage") != null) {
+            found.add(plan.getString("stage"));
+        }
+        found.addAll(stages(plan.get("queryPlan")));
+        found.addAll(stages(plan.get("inputStage")));
+        if (plan.get("inputStages") instanceof List<?> inputs) {
+            inputs.forEach(input -> found.addAll(stages(input)));
+        }
+        return found;
+    }
+}
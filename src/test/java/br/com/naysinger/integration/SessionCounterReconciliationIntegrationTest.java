@@ -0,0 +1,103 @@
+package br.com.naysinger.integration;
+
+import br.com.naysinger.api.dto.AgendaRequestDTO;
+import br.com.naysinger.api.dto.AgendaResponseDTO;
+import br.com.naysinger.api.dto.vote.VoteRequestDTO;
+import br.com.naysinger.api.dto.vote.VoteResultResponse;
+import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.domain.port.AgendaPort;
+import br.com.naysinger.domain.port.CpfValidationPort;
+import br.com.naysinger.infrastructure.entity.SessionVoteEntity;
+import br.com.naysinger.infrastructure.repository.AgendaCycleRepository;
+import br.com.naysinger.service.SessionCounterReconciler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Voto gravado cujo $inc dos contadores não foi aplicado: depois do fechamento, a reconciliação faz o resultado
+ * refletir exatamente os votos gravados.
+ */
+public class SessionCounterReconciliationIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private AgendaCycleRepository repository;
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Autowired
+    private AgendaPort agendaPort;
+
+    @Autowired
+    private SessionCounterReconciler reconciler;
+
+    @MockitoBean
+    private CpfValidationPort cpfValidationPort;
+
+    @BeforeEach
+    void setUp() {
+        StepVerifier.create(repository.deleteAll()).verifyComplete();
+        Mockito.when(cpfValidationPort.check(Mockito.anyString())).thenReturn(Mono.just(CpfStatus.ABLE_TO_VOTE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        StepVerifier.create(repository.deleteAll()).verifyComplete();
+    }
+
+    @Test
+    void shouldCountVotesWhoseCounterIncrementWasLost() {
+        // Given: um voto contabilizado pela API e outro gravado sem o $inc (falha entre as duas escritas)
+        AgendaRequestDTO request = new AgendaRequestDTO("Reconcile", "Test session", "integration-test", LocalDateTime.now(), 10);
+        AgendaResponseDTO agenda = webTestClient.post().uri("/api/v1/agenda")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(AgendaResponseDTO.class).getResponseBody()
+                .blockFirst(Duration.ofSeconds(10));
+        String sessionId = agenda.getSessions().getFirst().getSessionId();
+        webTestClient.post().uri("/api/v1/agenda/session/{sessionId}/vote", sessionId)
+                .bodyValue(new VoteRequestDTO("user1", "52998224725", "YES"))
+                .exchange()
+                .expectStatus().isCreated();
+        reactiveMongoTemplate.insert(new SessionVoteEntity(null, sessionId, "user2", "11144477735", VoteType.NO, LocalDateTime.now()))
+                .block(Duration.ofSeconds(10));
+        webTestClient.post().uri("/api/v1/agenda/session/{sessionId}/close", sessionId)
+                .exchange()
+                .expectStatus().isOk();
+
+        // When
+        StepVerifier.create(agendaPort.findSessionsToReconcile(LocalDateTime.now().plusSeconds(1)).collectList())
+                .assertNext(pending -> assertThat(pending).containsExactly(sessionId))
+                .verifyComplete();
+        StepVerifier.create(reconciler.reconcile(sessionId)).expectNext(true).verifyComplete();
+        StepVerifier.create(reconciler.reconcile(sessionId)).expectNext(false).verifyComplete();
+
+        // Then
+        webTestClient.get().uri("/api/v1/agenda/session/{sessionId}/result", sessionId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(VoteResultResponse.class)
+                .value(result -> {
+                    assertThat(result.simVotes()).isEqualTo(1);
+                    assertThat(result.naoVotes()).isEqualTo(1);
+                    assertThat(result.totalVotes()).isEqualTo(2);
+                });
+        StepVerifier.create(agendaPort.findSessionsToReconcile(LocalDateTime.now().plusSeconds(1)).collectList())
+                .assertNext(pending -> assertThat(pending).isEmpty())
+                .verifyComplete();
+    }
+}
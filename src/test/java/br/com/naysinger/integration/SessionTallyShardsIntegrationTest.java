@@ -0,0 +1,180 @@
+package br.com.naysinger.integration;
+
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.domain.model.Agenda;
+import br.com.naysinger.domain.model.VoteResult;
+import br.com.naysinger.domain.port.AgendaPort;
+import br.com.naysinger.infrastructure.adapter.SessionTallyShards;
+import br.com.naysinger.infrastructure.entity.AgendaCycleEntity;
+import br.com.naysinger.infrastructure.entity.SessionEntity;
+import br.com.naysinger.infrastructure.entity.TallyShardEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contadores fragmentados contra o MongoDB: incremento condicional, soma dos shards e ampliação de K
+ * (inclusive quando outra instância ampliou antes).
+ */
+public class SessionTallyShardsIntegrationTest extends AbstractIntegrationTest {
+
+    private static final long NO_REFRESH = 60_000;
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Autowired
+    private AgendaPort agendaPort;
+
+    @Autowired
+    private SessionTallyShards sessionTallyShards;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    void shouldIncrementOpenShardsAndSumThemInTotals() {
+        String first = createSession(4);
+        String second = createSession(2);
+        LocalDateTime now = LocalDateTime.now();
+
+        Long applied = Flux.range(0, 15)
+                .flatMap(i -> sessionTallyShards.increment(first, 4, i < 10 ? VoteType.YES : VoteType.NO, now))
+                .concatWith(sessionTallyShards.increment(second, 2, VoteType.NO, now))
+                .filter(Boolean::booleanValue)
+                .count()
+                .block(Duration.ofSeconds(30));
+
+        Map<String, VoteResult> totals = sessionTallyShards.totals(List.of(first, second)).block(Duration.ofSeconds(30));
+        assertThat(applied).isEqualTo(16);
+        assertThat(totals.get(first)).isEqualTo(new VoteResult(10, 5, 15));
+        assertThat(totals.get(second)).isEqualTo(new VoteResult(0, 1, 1));
+    }
+
+    @Test
+    void shouldRejectIncrementAfterShardsAreClosed() {
+        String sessionId = createSession(2);
+        sessionTallyShards.closeSession(sessionId).block(Duration.ofSeconds(30));
+
+        StepVerifier.create(sessionTallyShards.increment(sessionId, 2, VoteType.YES, LocalDateTime.now()))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(sessionTallyShards.totals(List.of(sessionId)))
+                .expectNext(Map.of(sessionId, new VoteResult(0, 0, 0)))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldDoubleShardsWhenWriteLatencyExceedsThreshold() {
+        String sessionId = createSession(2);
+        SessionTallyShards tally = new SessionTallyShards(reactiveMongoTemplate, 1, 64, 1, NO_REFRESH);
+        assertThat(tally.shardsFor(sessionId).block(Duration.ofSeconds(30))).isEqualTo(2);
+
+        recordSlowWrites(tally, sessionId);
+
+        assertThat(awaitShards(tally, sessionId, 4)).isEqualTo(4);
+        assertThat(storedShards(sessionId)).isEqualTo(4);
+        assertThat(reactiveMongoTemplate.count(Query.query(Criteria.where("session_id").is(sessionId)), TallyShardEntity.class)
+                .block(Duration.ofSeconds(30))).isEqualTo(4);
+    }
+
+    @Test
+    void shouldAdoptStoredShardsWhenAnotherInstanceRaisedFirst() {
+        String sessionId = createSession(2);
+        SessionTallyShards tally = new SessionTallyShards(reactiveMongoTemplate, 1, 64, 1, NO_REFRESH);
+        assertThat(tally.shardsFor(sessionId).block(Duration.ofSeconds(30))).isEqualTo(2);
+        // Outra instância amplia para 8 enquanto esta ainda acha que são 2
+        setStoredShards(sessionId, 8);
+
+        recordSlowWrites(tally, sessionId);
+
+        assertThat(awaitShards(tally, sessionId, 8)).isEqualTo(8);
+        assertThat(storedShards(sessionId)).isEqualTo(8);
+    }
+
+    @Test
+    void shouldPickUpShardsRaisedByAnotherInstanceAfterRefreshInterval() {
+        String sessionId = createSession(2);
+        SessionTallyShards cached = new SessionTallyShards(reactiveMongoTemplate, 1, 64, 0, NO_REFRESH);
+        SessionTallyShards refreshing = new SessionTallyShards(reactiveMongoTemplate, 1, 64, 0, 0);
+        assertThat(cached.shardsFor(sessionId).block(Duration.ofSeconds(30))).isEqualTo(2);
+        assertThat(refreshing.shardsFor(sessionId).block(Duration.ofSeconds(30))).isEqualTo(2);
+
+        setStoredShards(sessionId, 8);
+
+        assertThat(cached.shardsFor(sessionId).block(Duration.ofSeconds(30))).isEqualTo(2);
+        assertThat(refreshing.shardsFor(sessionId).block(Duration.ofSeconds(30))).isEqualTo(8);
+    }
+
+    private void recordSlowWrites(SessionTallyShards tally, String sessionId) {
+        for (int i = 0; i < 100; i++) {
+            tally.recordLatency(sessionId, Duration.ofMillis(10).toNanos());
+        }
+    }
+
+    /**
+     * A ampliação roda em segundo plano: consulta o K em memória até chegar ao esperado.
+     */
+    private Integer awaitShards(SessionTallyShards tally, String sessionId, int expected) {
+        return Mono.defer(() -> tally.shardsFor(sessionId))
+                .filter(shards -> shards == expected)
+                .repeatWhenEmpty(50, attempts -> attempts.delayElements(Duration.ofMillis(100)))
+                .block(Duration.ofSeconds(30));
+    }
+
+    private String createSession(int shards) {
+        String agendaId = "tally_" + UUID.randomUUID().toString().substring(0, 8);
+        agendaPort.save(Agenda.createNew(agendaId, "Tally", "Sharded tally", "integration-test")).block(Duration.ofSeconds(30));
+        Agenda agenda = agendaPort.addSession(agendaId, LocalDateTime.now().minusSeconds(1), 10).block(Duration.ofSeconds(30));
+        String sessionId = agenda.getSessions().getLast().getSessionId();
+        AgendaCycleEntity agendaCycle = reactiveMongoTemplate.findOne(
+                Query.query(Criteria.where("agenda_id").is(agendaId)), AgendaCycleEntity.class).block(Duration.ofSeconds(30));
+        SessionEntity session = agendaCycle.getSessions().getLast();
+        sessionTallyShards.openShards(agendaId, session, 0, shards).block(Duration.ofSeconds(30));
+        setStoredShards(sessionId, shards);
+        return sessionId;
+    }
+
+    private void setStoredShards(String sessionId, int shards) {
+        reactiveMongoTemplate.updateFirst(Query.query(Criteria.where("sessions.session_id").is(sessionId)),
+                new Update().set("sessions.$.tally_shards", shards), AgendaCycleEntity.class).block(Duration.ofSeconds(30));
+    }
+
+    private Integer storedShards(String sessionId) {
+        return reactiveMongoTemplate.findOne(Query.query(Criteria.where("sessions.session_id").is(sessionId)), AgendaCycleEntity.class)
+                .map(agendaCycle -> agendaCycle.getSessions().stream()
+                        .filter(session -> sessionId.equals(session.getSessionId()))
+                        .findFirst()
+                        .orElseThrow()
+                        .getTallyShards())
+                .block(Duration.ofSeconds(30));
+    }
+
+    private void cleanUp() {
+        reactiveMongoTemplate.remove(new Query(), TallyShardEntity.class).block(Duration.ofSeconds(30));
+        reactiveMongoTemplate.remove(new Query(), AgendaCycleEntity.class).block(Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.naysinger.integration;
+
+import br.com.naysinger.api.dto.AgendaRequestDTO;
+import br.com.naysinger.api.dto.AgendaResponseDTO;
+import br.com.naysinger.api.dto.vote.VoteCommandDTO;
+import br.com.naysinger.api.dto.vote.VoteSubmissionResult;
+import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.domain.port.CpfValidationPort;
+import br.com.naysinger.infrastructure.repository.AgendaCycleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Canal de votos "votes.channel" pelos dois transportes: TCP (porta própria) e WebSocket (/rsocket no servidor HTTP).
+ */
+public class VoteRSocketIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private AgendaCycleRepository repository;
+
+    @Autowired
+    private RSocketRequester.Builder requesterBuilder;
+
+    @Value("${local.rsocket.server.port}")
+    private int rsocketPort;
+
+    @Value("${local.server.port}")
+    private int serverPort;
+
+    @MockitoBean
+    private CpfValidationPort cpfValidationPort;
+
+    @BeforeEach
+    void setUp() {
+        StepVerifier.create(repository.deleteAll()).verifyComplete();
+        Mockito.when(cpfValidationPort.check(Mockito.anyString())).thenReturn(Mono.just(CpfStatus.ABLE_TO_VOTE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        StepVerifier.create(repository.deleteAll()).verifyComplete();
+    }
+
+    @Test
+    void shouldAnswerEachVoteOfTheChannelWithoutAbortingOnRejections() {
+        String sessionId = createSession();
+        RSocketRequester requester = requesterBuilder.tcp("localhost", rsocketPort);
+
+        Flux<VoteCommandDTO> commands = Flux.just(
+                new VoteCommandDTO("1", sessionId, "user1", "52998224725", "YES", null),
+                new VoteCommandDTO("2", sessionId, "user2", "11144477735", "NO", null),
+                new VoteCommandDTO("3", sessionId, "user3", "12345678900", "YES", null),
+                new VoteCommandDTO("4", sessionId, "user4", "39053344705", "MAYBE", null),
+                new VoteCommandDTO("5", "non-existent-session", "user5", "12345678909", "YES", null));
+
+        Map<String, VoteSubmissionResult> results = requester.route("votes.channel")
+                .data(commands)
+                .retrieveFlux(VoteSubmissionResult.class)
+                .collectList()
+                .block(Duration.ofSeconds(30))
+                .stream()
+                .collect(Collectors.toMap(VoteSubmissionResult::requestId, result -> result));
+        requester.dispose();
+
+        assertThat(results).hasSize(5);
+        assertThat(results.get("1").status()).isEqualTo(201);
+        assertThat(results.get("1").eligibilityToken()).isNotBlank();
+        assertThat(results.get("2").status()).isEqualTo(201);
+        assertThat(results.get("3").status()).isEqualTo(400);
+        assertThat(results.get("3").error()).isEqualTo("Erro de validação");
+        assertThat(results.get("4").status()).isEqualTo(400);
+        assertThat(results.get("5").status()).isEqualTo(400);
+        assertThat(results.get("5").error()).isEqualTo("Erro de negócio");
+    }
+
+    @Test
+    void shouldRejectDuplicateVoteOverWebSocket() {
+        String sessionId = createSession();
+        RSocketRequester requester = requesterBuilder.websocket(URI.create("ws://localhost:" + serverPort + "/rsocket"));
+
+        List<VoteSubmissionResult> results = requester.route("votes.channel")
+                .data(Flux.just(new VoteCommandDTO("1", sessionId, "user1", "52998224725", "YES", null))
+                        .concatWith(Flux.just(new VoteCommandDTO("2", sessionId, "user1", "52998224725", "NO", null))
+                                .delaySubscription(Duration.ofMillis(500))))
+                .retrieveFlux(VoteSubmissionResult.class)
+                .collectList()
+                .block(Duration.ofSeconds(30));
+        requester.dispose();
+
+        assertThat(results).extracting(VoteSubmissionResult::status).containsExactly(201, 409);
+        assertThat(results.get(1).error()).isEqualTo("CPF duplicado");
+    }
+
+    private String createSession() {
+        AgendaRequestDTO request = new AgendaRequestDTO("RSocket", "Test session", "integration-test", LocalDateTime.now(), 10);
+        AgendaResponseDTO agenda = webTestClient.post().uri("/api/v1/agenda")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(AgendaResponseDTO.class).getResponseBody()
+                .blockFirst(Duration.ofSeconds(10));
+        return agenda.getSessions().getFirst().getSessionId();
+    }
+}
@@ -1,9 +1,21 @@
 package br.com.naysinger.service;
 
+import br.com.naysinger.common.enums.AgendaField;
 import br.com.naysinger.common.enums.AgendaStatus;
+import br.com.naysinger.common.enums.SessionStatus;
+import br.com.naysinger.common.enums.VoteOutcome;
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.common.exception.BusinessException;
+import br.com.naysinger.common.exception.DuplicateCpfException;
+import br.com.naysinger.common.pagination.PageCursor;
+import br.com.naysinger.common.pagination.PaginationRequest;
 import br.com.naysinger.domain.model.Agenda;
 import br.com.naysinger.domain.model.Session;
+import br.com.naysinger.domain.model.SessionWindow;
+import br.com.naysinger.domain.model.Vote;
+import br.com.naysinger.domain.model.VoteResult;
 import br.com.naysinger.domain.port.AgendaPort;
+import br.com.naysinger.domain.port.VotePort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,14 +23,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,6 +49,18 @@ public class AgendaServiceTest {
     @Mock
     private AgendaPort agendaPort;
 
+    @Mock
+    private VotePort votePort;
+
+    @Mock
+    private VoteAdmissionPipeline voteAdmissionPipeline;
+
+    @Mock
+    private VoteDuplicateFilter voteDuplicateFilter;
+
+    @Mock
+    private SessionWindowCache sessionWindowCache;
+
     @InjectMocks
     private AgendaService agendaService;
 
@@ -83,4 +115,196 @@ public class AgendaServiceTest {
         verify(agendaPort).findByAgendaId(anyString());
         verify(agendaPort).addSession(anyString(), any(LocalDateTime.class), any(Integer.class));
     }
+
+    @Test
+    @DisplayName("Should store vote and count it on the session")
+    void shouldStoreVoteAndCountItOnTheSession() {
+        when(voteAdmissionPipeline.admit("session_1", "user1", "52998224725", "YES", null))
+                .thenReturn(Mono.just(Vote.createNew("user1", "52998224725", VoteType.YES)));
+        when(votePort.save(eq("session_1"), any(Vote.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(1)));
+        when(agendaPort.addVote(eq("session_1"), any(Vote.class))).thenReturn(Mono.just(VoteOutcome.ACCEPTED));
+
+        StepVerifier.create(agendaService.addVote("session_1", "user1", "52998224725", "YES", null))
+                .expectNext(VoteOutcome.ACCEPTED)
+                .verifyComplete();
+
+        verify(votePort).save(eq("session_1"), any(Vote.class));
+        verify(agendaPort).addVote(eq("session_1"), any(Vote.class));
+        verify(voteDuplicateFilter).record("session_1", "52998224725");
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate CPF from the unique vote insert")
+    void shouldRejectDuplicateCpfFromUniqueVoteInsert() {
+        when(voteAdmissionPipeline.admit("session_1", "user1", "52998224725", "NO", null))
+                .thenReturn(Mono.just(Vote.createNew("user1", "52998224725", VoteType.NO)));
+        when(votePort.save(eq("session_1"), any(Vote.class))).thenReturn(Mono.error(new DuplicateCpfException("52998224725")));
+
+        StepVerifier.create(agendaService.addVote("session_1", "user1", "52998224725", "NO", null))
+                .expectError(DuplicateCpfException.class)
+                .verify();
+
+        verify(agendaPort, never()).addVote(anyString(), any(Vote.class));
+        verify(voteDuplicateFilter).record("session_1", "52998224725");
+    }
+
+    @Test
+    @DisplayName("Should undo stored vote when session is closed")
+    void shouldUndoStoredVoteWhenSessionIsClosed() {
+        when(voteAdmissionPipeline.admit("session_1", "user1", "52998224725", "YES", null))
+                .thenReturn(Mono.just(Vote.createNew("user1", "52998224725", VoteType.YES)));
+        when(votePort.save(eq("session_1"), any(Vote.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(1)));
+        when(agendaPort.addVote(eq("session_1"), any(Vote.class))).thenReturn(Mono.just(VoteOutcome.CLOSED));
+        when(votePort.delete("session_1", "52998224725")).thenReturn(Mono.empty());
+        when(voteAdmissionPipeline.resolve("session_1", "user1", "52998224725", VoteOutcome.CLOSED))
+                .thenReturn(Mono.error(new BusinessException("Sessão não está aberta para votação")));
+
+        StepVerifier.create(agendaService.addVote("session_1", "user1", "52998224725", "YES", null))
+                .expectError(BusinessException.class)
+                .verify();
+
+        verify(votePort).delete("session_1", "52998224725");
+    }
+
+    @Test
+    @DisplayName("Should serve session result from persisted counters")
+    void shouldServeSessionResultFromPersistedCounters() {
+        Session session = Session.builder()
+                .sessionId("session_1")
+                .startTime(LocalDateTime.now().minusMinutes(10))
+                .endTime(LocalDateTime.now().minusMinutes(1))
+                .status(SessionStatus.CLOSED)
+                .yesVotes(3L)
+                .noVotes(1L)
+                .totalVotes(4L)
+                .build();
+        when(agendaPort.findSessionById("session_1")).thenReturn(Mono.just(session));
+
+        StepVerifier.create(agendaService.findSessionById("session_1"))
+                .expectNextMatches(s -> s.getVoteResult().equals(new VoteResult(3, 1, 4)) && s.getTotalVotes() == 4)
+                .verifyComplete();
+
+        verify(votePort, never()).findBySessionId(anyString());
+    }
+
+    @Test
+    @DisplayName("Should load persisted votes only when they are iterated")
+    void shouldLoadPersistedVotesOnlyWhenIterated() {
+        String sessionId = agenda.getSessions().getFirst().getSessionId();
+        Vote vote = Vote.builder().userId("user1").cpf("52998224725").vote(VoteType.YES).build();
+        when(agendaPort.findAll(AgendaField.ALL)).thenReturn(Flux.just(agenda));
+        when(votePort.findBySessionId(sessionId)).thenReturn(Flux.just(vote));
+
+        Agenda found = agendaService.findAll(AgendaField.ALL).blockFirst();
+
+        verify(votePort, never()).findBySessionId(anyString());
+        StepVerifier.create(found.withLoadedVotes())
+                .expectNextMatches(loaded -> loaded.getSessions().getFirst().getVotes().size() == 1)
+                .verifyComplete();
+        verify(votePort).findBySessionId(sessionId);
+    }
+
+    @Test
+    @DisplayName("Should re-read a cached session window that is not closed yet without invalidating the cache")
+    void shouldRereadCachedSessionWindowThatIsNotClosed() {
+        SessionWindow open = new SessionWindow("agendaId1", "session_1", SessionStatus.OPEN,
+                LocalDateTime.now().minusMinutes(10), LocalDateTime.now().minusMinutes(1));
+        SessionWindow closed = new SessionWindow("agendaId1", "session_1", SessionStatus.CLOSED,
+                open.startTime(), open.endTime());
+        when(sessionWindowCache.get("session_1")).thenReturn(Mono.just(Optional.of(open)));
+        when(agendaPort.findSessionWindow("session_1")).thenReturn(Mono.just(closed));
+
+        StepVerifier.create(agendaService.findSessionWindow("session_1"))
+                .expectNext(closed)
+                .verifyComplete();
+
+        verify(sessionWindowCache, never()).invalidate(anyString());
+    }
+
+    @Test
+    @DisplayName("Should serve a closed session window from the cache")
+    void shouldServeClosedSessionWindowFromCache() {
+        SessionWindow closed = new SessionWindow("agendaId1", "session_1", SessionStatus.CLOSED,
+                LocalDateTime.now().minusMinutes(10), LocalDateTime.now().minusMinutes(1));
+        when(sessionWindowCache.get("session_1")).thenReturn(Mono.just(Optional.of(closed)));
+
+        StepVerifier.create(agendaService.findSessionWindow("session_1"))
+                .expectNext(closed)
+                .verifyComplete();
+
+        verify(agendaPort, never()).findSessionWindow(anyString());
+    }
+
+    @Test
+    @DisplayName("Should serve vote result aggregated by the port")
+    void shouldServeVoteResultAggregatedByThePort() {
+        when(agendaPort.findVoteResult("session_1")).thenReturn(Mono.just(new VoteResult(2, 1, 3)));
+
+        StepVerifier.create(agendaService.findVoteResult("session_1"))
+                .expectNext(new VoteResult(2, 1, 3))
+                .verifyComplete();
+
+        verify(votePort, never()).findBySessionId(anyString());
+    }
+
+    @Test
+    @DisplayName("Should return a continuation cursor when there are more agendas than the page size")
+    void shouldReturnContinuationCursorWhenThereIsANextPage() {
+        Agenda first = agenda.toBuilder().id("64b000000000000000000002").build();
+        Agenda second = agenda.toBuilder().id("64b000000000000000000001").build();
+        when(agendaPort.findPage(null, 0, 2, false, AgendaField.ALL)).thenReturn(Flux.just(first, second));
+
+        StepVerifier.create(agendaService.findPage(new PaginationRequest(0, 1, "createdAt", "desc"), AgendaField.ALL))
+                .assertNext(page -> {
+                    assertThat(page.getContent()).hasSize(1);
+                    assertThat(page.isHasNext()).isTrue();
+                    assertThat(page.getTotalElements()).isNull();
+                    assertThat(PageCursor.decode(page.getNextCursor()))
+                            .isEqualTo(new PageCursor(first.getCreatedAt(), first.getId(), 1, false));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should continue from the cursor key instead of skipping documents")
+    void shouldContinueFromCursorKey() {
+        PageCursor cursor = new PageCursor(LocalDateTime.now(), "64b000000000000000000002", 7, false);
+        PaginationRequest request = new PaginationRequest(0, 10, "createdAt", "desc");
+        request.setCursor(cursor.encode());
+        request.setIncludeTotal(true);
+        when(agendaPort.findPage(cursor, 0, 11, false, AgendaField.ALL)).thenReturn(Flux.just(agenda));
+        when(agendaPort.count()).thenReturn(Mono.just(71L));
+
+        StepVerifier.create(agendaService.findPage(request, AgendaField.ALL))
+                .assertNext(page -> {
+                    assertThat(page.getCurrentPage()).isEqualTo(7);
+                    assertThat(page.isHasNext()).isFalse();
+                    assertThat(page.getNextCursor()).isNull();
+                    assertThat(page.getTotalElements()).isEqualTo(71L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor issued for the opposite sort direction")
+    void shouldRejectCursorWithMismatchedSortDirection() {
+        PaginationRequest request = new PaginationRequest(0, 10, "createdAt", "asc");
+        request.setCursor(new PageCursor(LocalDateTime.now(), "64b000000000000000000002", 3, false).encode());
+
+        StepVerifier.create(agendaService.findPage(request, AgendaField.ALL))
+                .expectError(BusinessException.class)
+                .verify();
+
+        verify(agendaPort, never()).findPage(any(), anyLong(), anyInt(), anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject offset paging beyond the first pages")
+    void shouldRejectDeepOffsetPaging() {
+        StepVerifier.create(agendaService.findPage(new PaginationRequest(500, 10, "createdAt", "desc"), AgendaField.ALL))
+                .expectError(BusinessException.class)
+                .verify();
+
+        verify(agendaPort, never()).findPage(any(), anyLong(), anyInt(), anyBoolean(), any());
+    }
 }
@@ -0,0 +1,42 @@
+package br.com.naysinger.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CpfBloomFilter Unit Tests")
+public class CpfBloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report a recorded CPF as new")
+    void shouldNeverReportRecordedCpfAsNew() {
+        CpfBloomFilter filter = new CpfBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(String.format("%011d", i));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(String.format("%011d", i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep false positive rate near the configured target")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        CpfBloomFilter filter = new CpfBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(String.format("%011d", i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            if (filter.mightContain(String.format("%011d", i))) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "falsePositives=" + falsePositives);
+        assertTrue(filter.fillRatio() > 0.3 && filter.fillRatio() < 0.7, "fillRatio=" + filter.fillRatio());
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.naysinger.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("EligibilityTokenService Unit Tests")
+public class EligibilityTokenServiceTest {
+
+    private static final String KEY_1 = "k1:0123456789abcdef0123456789abcdef";
+    private static final String KEY_2 = "k2:fedcba9876543210fedcba9876543210";
+    private static final Instant NOW = Instant.parse("2025-03-01T12:00:00Z");
+    private static final long TTL_MILLIS = 60_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should accept a token only for the CPF it was issued to")
+    void shouldBindTokenToCpf() {
+        EligibilityTokenService service = service(KEY_1, NOW);
+        String token = service.issue("529.982.247-25");
+
+        assertTrue(service.verify(token, "52998224725"));
+        assertFalse(service.verify(token, "11144477735"));
+        assertEquals(1, meterRegistry.get("cpf.eligibility.token").tag("result", "invalid_signature").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject expired and tampered tokens")
+    void shouldRejectExpiredAndTamperedTokens() {
+        String token = service(KEY_1, NOW).issue("52998224725");
+
+        assertFalse(service(KEY_1, NOW.plusMillis(TTL_MILLIS)).verify(token, "52998224725"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        assertFalse(service(KEY_1, NOW).verify(tampered, "52998224725"));
+        assertFalse(service(KEY_1, NOW).verify("k1.not-a-number.abc", "52998224725"));
+        assertFalse(service(KEY_1, NOW).verify("garbage", "52998224725"));
+    }
+
+    @Test
+    @DisplayName("Should keep verifying tokens signed with a rotated-out key")
+    void shouldVerifyTokensAfterKeyRotation() {
+        String oldToken = service(KEY_1, NOW).issue("52998224725");
+        EligibilityTokenService rotated = service(KEY_2 + "," + KEY_1, NOW);
+
+        assertTrue(rotated.verify(oldToken, "52998224725"));
+        assertTrue(rotated.issue("52998224725").startsWith("k2."));
+        assertFalse(service(KEY_2, NOW).verify(oldToken, "52998224725"));
+    }
+
+    @Test
+    @DisplayName("Should only issue a new token when the presented one is no longer valid")
+    void shouldIssueOnlyWhenNeeded() {
+        EligibilityTokenService service = service(KEY_1, NOW);
+        String token = service.issue("52998224725");
+
+        assertNull(service.issueIfNeeded(token, "52998224725"));
+        assertNotNull(service.issueIfNeeded(null, "52998224725"));
+        assertNotNull(service(KEY_1, NOW.plusMillis(TTL_MILLIS)).issueIfNeeded(token, "52998224725"));
+        assertNull(new EligibilityTokenService(false, TTL_MILLIS, KEY_1, meterRegistry).issueIfNeeded(null, "52998224725"));
+    }
+
+    private EligibilityTokenService service(String keys, Instant now) {
+        return new EligibilityTokenService(true, TTL_MILLIS, keys, meterRegistry, Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
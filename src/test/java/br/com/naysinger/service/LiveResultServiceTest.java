@@ -0,0 +1,124 @@
+package br.com.naysinger.service;
+
+import br.com.naysinger.common.enums.SessionStatus;
+import br.com.naysinger.domain.model.SessionTally;
+import br.com.naysinger.domain.model.SessionWindow;
+import br.com.naysinger.domain.model.VoteResult;
+import br.com.naysinger.domain.port.AgendaPort;
+import br.com.naysinger.domain.port.SessionChangesPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveResultService Unit Tests")
+public class LiveResultServiceTest {
+
+    @Mock
+    private AgendaPort agendaPort;
+
+    @Mock
+    private SessionChangesPort sessionChangesPort;
+
+    private LiveResultService liveResultService;
+
+    @BeforeEach
+    void setUp() {
+        liveResultService = new LiveResultService(agendaPort, sessionChangesPort, 1_000);
+    }
+
+    @Test
+    @DisplayName("Should share one change stream per session among all subscribers")
+    void shouldShareOneChangeStreamPerSession() {
+        SessionWindow window = new SessionWindow("agenda_1", "session_1", SessionStatus.OPEN,
+                LocalDateTime.now().minusMinutes(1), LocalDateTime.now().plusMinutes(5));
+        Sinks.Many<String> changes = Sinks.many().multicast().onBackpressureBuffer();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        when(agendaPort.findSessionWindow("session_1")).thenReturn(Mono.just(window));
+        when(agendaPort.findVoteResult("session_1"))
+                .thenReturn(Mono.just(new VoteResult(0, 0, 0)))
+                .thenReturn(Mono.just(new VoteResult(1, 0, 1)));
+        when(sessionChangesPort.watchSession("session_1")).thenReturn(changes.asFlux().doOnCancel(() -> cancelled.set(true)));
+
+        List<SessionTally> first = new CopyOnWriteArrayList<>();
+        List<SessionTally> second = new CopyOnWriteArrayList<>();
+        Disposable firstClient = liveResultService.watch("session_1").subscribe(first::add);
+        changes.tryEmitNext("open");
+        Disposable secondClient = liveResultService.watch("session_1").subscribe(second::add);
+        changes.tryEmitNext("agenda_cycle");
+
+        assertEquals(List.of(0L, 1L), first.stream().map(tally -> tally.result().totalVotes()).toList());
+        assertEquals(List.of(0L, 1L), second.stream().map(tally -> tally.result().totalVotes()).toList());
+        verify(sessionChangesPort, times(1)).watchSession("session_1");
+
+        firstClient.dispose();
+        assertEquals(1, liveResultService.watchedSessions());
+        assertFalse(cancelled.get());
+        secondClient.dispose();
+        assertEquals(0, liveResultService.watchedSessions());
+        assertTrue(cancelled.get());
+    }
+
+    @Test
+    @DisplayName("Should emit the final tally and complete when the session is closed")
+    void shouldCompleteWhenSessionIsClosed() {
+        SessionWindow open = new SessionWindow("agenda_1", "session_1", SessionStatus.OPEN,
+                LocalDateTime.now().minusMinutes(1), LocalDateTime.now().plusMinutes(5));
+        SessionWindow closed = new SessionWindow("agenda_1", "session_1", SessionStatus.CLOSED, open.startTime(), open.endTime());
+        Sinks.Many<String> changes = Sinks.many().multicast().onBackpressureBuffer();
+        when(agendaPort.findSessionWindow("session_1"))
+                .thenReturn(Mono.just(open))
+                .thenReturn(Mono.just(open))
+                .thenReturn(Mono.just(closed));
+        when(agendaPort.findVoteResult("session_1")).thenReturn(Mono.just(new VoteResult(2, 1, 3)));
+        when(sessionChangesPort.watchSession("session_1")).thenReturn(changes.asFlux());
+
+        StepVerifier.create(liveResultService.watch("session_1"))
+                .then(() -> changes.tryEmitNext("open"))
+                .expectNextMatches(tally -> tally.status() == SessionStatus.OPEN && tally.result().totalVotes() == 3)
+                .then(() -> changes.tryEmitNext("agenda_cycle"))
+                .expectNextMatches(tally -> tally.status() == SessionStatus.CLOSED)
+                .verifyComplete();
+
+        assertEquals(0, liveResultService.watchedSessions());
+    }
+
+    @Test
+    @DisplayName("Should fall back to polling when change streams are unavailable")
+    void shouldFallBackToPollingWithoutChangeStreams() {
+        SessionWindow window = new SessionWindow("agenda_1", "session_1", SessionStatus.OPEN,
+                LocalDateTime.now().minusMinutes(1), LocalDateTime.now().plusMinutes(5));
+        when(agendaPort.findSessionWindow("session_1")).thenReturn(Mono.just(window));
+        when(agendaPort.findVoteResult("session_1"))
+                .thenReturn(Mono.just(new VoteResult(0, 0, 0)))
+                .thenReturn(Mono.just(new VoteResult(0, 1, 1)));
+        when(sessionChangesPort.watchSession("session_1"))
+                .thenReturn(Flux.error(new IllegalStateException("standalone")));
+
+        StepVerifier.create(liveResultService.watch("session_1"))
+                .expectNextMatches(tally -> tally.result().totalVotes() == 0)
+                .expectNextMatches(tally -> tally.result().naoVotes() == 1)
+                .thenCancel()
+                .verify();
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.naysinger.service;
+
+import br.com.naysinger.domain.model.VoteResult;
+import br.com.naysinger.domain.port.AgendaPort;
+import br.com.naysinger.domain.port.VotePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionCounterReconciler Unit Tests")
+public class SessionCounterReconcilerTest {
+
+    @Mock
+    private AgendaPort agendaPort;
+
+    @Mock
+    private VotePort votePort;
+
+    private SessionCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new SessionCounterReconciler(agendaPort, votePort, 30_000, 60_000);
+    }
+
+    @Test
+    @DisplayName("Should rewrite counters from recorded votes of sessions past the grace period")
+    void shouldReconcileSessionsPastGracePeriod() {
+        when(agendaPort.findSessionsToReconcile(any(LocalDateTime.class))).thenReturn(Flux.just("session_1", "session_2"));
+        when(votePort.countBySessionId("session_1")).thenReturn(Mono.just(new VoteResult(3, 2, 5)));
+        when(votePort.countBySessionId("session_2")).thenReturn(Mono.just(new VoteResult(0, 1, 1)));
+        when(agendaPort.reconcileCounters("session_1", new VoteResult(3, 2, 5))).thenReturn(Mono.just(true));
+        when(agendaPort.reconcileCounters("session_2", new VoteResult(0, 1, 1))).thenReturn(Mono.just(false));
+
+        StepVerifier.create(reconciler.reconcilePending())
+                .expectNext(1L)
+                .verifyComplete();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(agendaPort).findSessionsToReconcile(cutoff.capture());
+        LocalDateTime latest = LocalDateTime.now().minusSeconds(60);
+        assertTrue(!cutoff.getValue().isAfter(latest) && cutoff.getValue().isAfter(latest.minusSeconds(5)));
+    }
+
+    @Test
+    @DisplayName("Should propagate storage failures so the session stays pending for the next run")
+    void shouldPropagateFailures() {
+        when(votePort.countBySessionId("session_1")).thenReturn(Mono.error(new RuntimeException("mongo down")));
+
+        StepVerifier.create(reconciler.reconcile("session_1"))
+                .expectErrorMessage("mongo down")
+                .verify();
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.naysinger.service;
+
+import br.com.naysinger.common.enums.SessionStatus;
+import br.com.naysinger.domain.model.SessionWindow;
+import br.com.naysinger.domain.port.AgendaPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionWindowCache Unit Tests")
+public class SessionWindowCacheTest {
+
+    @Mock
+    private AgendaPort agendaPort;
+
+    private SessionWindowCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SessionWindowCache(agendaPort, new SimpleMeterRegistry(), 100, 60_000, 60_000);
+    }
+
+    @Test
+    @DisplayName("Should load session metadata once and serve repeated lookups from memory")
+    void shouldServeRepeatedLookupsFromCache() {
+        SessionWindow window = new SessionWindow("agenda_1", "session_1", SessionStatus.OPEN,
+                LocalDateTime.now().minusMinutes(1), LocalDateTime.now().plusMinutes(5));
+        when(agendaPort.findSessionWindow("session_1")).thenReturn(Mono.just(window));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Optional.of(window), cache.get("session_1").block(Duration.ofSeconds(5)));
+        }
+
+        verify(agendaPort, times(1)).findSessionWindow("session_1");
+    }
+
+    @Test
+    @DisplayName("Should cache unknown session IDs as negative entries until invalidated")
+    void shouldCacheNegativeEntriesUntilInvalidated() {
+        when(agendaPort.findSessionWindow("garbage")).thenReturn(Mono.empty());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(cache.get("garbage").block(Duration.ofSeconds(5)).isEmpty());
+        }
+        verify(agendaPort, times(1)).findSessionWindow("garbage");
+
+        cache.invalidate("garbage");
+        cache.get("garbage").block(Duration.ofSeconds(5));
+        verify(agendaPort, times(2)).findSessionWindow("garbage");
+    }
+}
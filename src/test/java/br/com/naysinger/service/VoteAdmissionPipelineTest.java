@@ -0,0 +1,150 @@
+package br.com.naysinger.service;
+
+import br.com.naysinger.common.enums.CpfStatus;
+import br.com.naysinger.common.enums.SessionStatus;
+import br.com.naysinger.common.enums.VoteType;
+import br.com.naysinger.common.exception.BusinessException;
+import br.com.naysinger.common.exception.CpfNotFoundException;
+import br.com.naysinger.common.exception.DuplicateCpfException;
+import br.com.naysinger.domain.model.SessionWindow;
+import br.com.naysinger.domain.port.CpfValidationPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VoteAdmissionPipeline Unit Tests")
+public class VoteAdmissionPipelineTest {
+
+    @Mock
+    private SessionWindowCache sessionWindowCache;
+
+    @Mock
+    private CpfValidationPort cpfValidationPort;
+
+    @Mock
+    private VoteDuplicateFilter voteDuplicateFilter;
+
+    @Mock
+    private EligibilityTokenService eligibilityTokenService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private VoteAdmissionPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new VoteAdmissionPipeline(sessionWindowCache, cpfValidationPort, voteDuplicateFilter, eligibilityTokenService, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should admit vote after all stages pass")
+    void shouldAdmitVoteAfterAllStagesPass() {
+        when(sessionWindowCache.get("session_1")).thenReturn(Mono.just(Optional.of(window(SessionStatus.OPEN))));
+        when(voteDuplicateFilter.hasVoted("session_1", "52998224725")).thenReturn(Mono.just(false));
+        when(cpfValidationPort.check("52998224725")).thenReturn(Mono.just(CpfStatus.ABLE_TO_VOTE));
+
+        StepVerifier.create(pipeline.admit("session_1", "user1", "52998224725", "yes", null))
+                .expectNextMatches(vote -> vote.getVote() == VoteType.YES && "52998224725".equals(vote.getCpf()))
+                .verifyComplete();
+
+        assertEquals(1, meterRegistry.get("votes.admission.stage").tags("stage", "eligibility", "result", "passed").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should skip remote CPF validation when the eligibility token is valid")
+    void shouldSkipCpfValidationWithValidEligibilityToken() {
+        when(sessionWindowCache.get("session_1")).thenReturn(Mono.just(Optional.of(window(SessionStatus.OPEN))));
+        when(voteDuplicateFilter.hasVoted("session_1", "52998224725")).thenReturn(Mono.just(false));
+        when(eligibilityTokenService.verify("token", "52998224725")).thenReturn(true);
+
+        StepVerifier.create(pipeline.admit("session_1", "user1", "52998224725", "YES", "token"))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(cpfValidationPort, never()).check(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid vote type before any lookup")
+    void shouldRejectInvalidVoteTypeBeforeAnyLookup() {
+        StepVerifier.create(pipeline.admit("session_1", "user1", "52998224725", "MAYBE", null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(sessionWindowCache, never()).get(anyString());
+        verify(cpfValidationPort, never()).check(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject CPF with wrong check digits before any lookup")
+    void shouldRejectInvalidCheckDigitsBeforeAnyLookup() {
+        StepVerifier.create(pipeline.admit("session_1", "user1", "52998224726", "YES", null))
+                .expectError(CpfNotFoundException.class)
+                .verify();
+
+        verify(sessionWindowCache, never()).get(anyString());
+        verify(cpfValidationPort, never()).check(anyString());
+        assertEquals(1, meterRegistry.get("votes.admission.stage").tags("stage", "shape", "result", "rejected").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should reject closed session without calling CPF validation")
+    void shouldRejectClosedSessionWithoutCpfValidation() {
+        when(sessionWindowCache.get("session_1")).thenReturn(Mono.just(Optional.of(window(SessionStatus.CLOSED))));
+
+        StepVerifier.create(pipeline.admit("session_1", "user1", "52998224725", "YES", null))
+                .expectError(BusinessException.class)
+                .verify();
+
+        verify(voteDuplicateFilter, never()).hasVoted(anyString(), anyString());
+        verify(cpfValidationPort, never()).check(anyString());
+        assertEquals(1, meterRegistry.get("votes.admission.stage").tags("stage", "session", "result", "rejected").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown session from the negative cache entry")
+    void shouldRejectUnknownSession() {
+        when(sessionWindowCache.get("session_1")).thenReturn(Mono.just(Optional.empty()));
+
+        StepVerifier.create(pipeline.admit("session_1", "user1", "52998224725", "YES", null))
+                .expectErrorMessage("Sessão não encontrada com sessionId: session_1")
+                .verify();
+
+        verify(voteDuplicateFilter, never()).hasVoted(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject known duplicate without calling CPF validation")
+    void shouldRejectKnownDuplicateWithoutCpfValidation() {
+        when(sessionWindowCache.get("session_1")).thenReturn(Mono.just(Optional.of(window(SessionStatus.OPEN))));
+        when(voteDuplicateFilter.hasVoted("session_1", "52998224725")).thenReturn(Mono.just(true));
+
+        StepVerifier.create(pipeline.admit("session_1", "user1", "52998224725", "NO", null))
+                .expectError(DuplicateCpfException.class)
+                .verify();
+
+        verify(cpfValidationPort, never()).check(anyString());
+    }
+
+    private SessionWindow window(SessionStatus status) {
+        return new SessionWindow("agenda_1", "session_1", status,
+                LocalDateTime.now().minusMinutes(5), LocalDateTime.now().plusMinutes(5));
+    }
+}
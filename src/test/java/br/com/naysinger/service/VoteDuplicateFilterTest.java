@@ -0,0 +1,89 @@
+package br.com.naysinger.service;
+
+import br.com.naysinger.common.enums.SessionStatus;
+import br.com.naysinger.domain.model.SessionWindow;
+import br.com.naysinger.domain.port.AgendaPort;
+import br.com.naysinger.domain.port.VotePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VoteDuplicateFilter Unit Tests")
+public class VoteDuplicateFilterTest {
+
+    private static final String CPF = "52998224725";
+
+    @Mock
+    private AgendaPort agendaPort;
+
+    @Mock
+    private VotePort votePort;
+
+    private VoteDuplicateFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new VoteDuplicateFilter(agendaPort, votePort, new SimpleMeterRegistry(), true, 100, 0.01);
+        when(votePort.findBySessionId(anyString())).thenReturn(Flux.empty());
+        when(votePort.exists(anyString(), anyString())).thenReturn(Mono.just(false));
+    }
+
+    @Test
+    @DisplayName("Should answer from the filter once it is built for an open session")
+    void shouldAnswerFromFilterOnceBuilt() {
+        when(agendaPort.findSessionWindow("session_1")).thenReturn(Mono.just(window("session_1", LocalDateTime.now().plusMinutes(5))));
+
+        StepVerifier.create(filter.hasVoted("session_1", CPF)).expectNext(false).verifyComplete();
+        StepVerifier.create(filter.hasVoted("session_1", CPF)).expectNext(false).verifyComplete();
+
+        verify(votePort, times(1)).exists("session_1", CPF);
+    }
+
+    @Test
+    @DisplayName("Should drop the filter when the session window ends without an explicit close")
+    void shouldExpireFilterAtSessionEnd() throws InterruptedException {
+        when(agendaPort.findSessionWindow("session_1")).thenReturn(Mono.just(window("session_1", LocalDateTime.now().plusNanos(300_000_000))));
+
+        StepVerifier.create(filter.hasVoted("session_1", CPF)).expectNext(false).verifyComplete();
+        StepVerifier.create(filter.hasVoted("session_1", CPF)).expectNext(false).verifyComplete();
+        Thread.sleep(500);
+        StepVerifier.create(filter.hasVoted("session_1", CPF)).expectNext(false).verifyComplete();
+
+        verify(votePort, times(2)).exists("session_1", CPF);
+        verify(votePort, times(1)).findBySessionId("session_1");
+    }
+
+    @Test
+    @DisplayName("Should keep building filters for new sessions after the in-memory limit is reached")
+    void shouldKeepPrefilteringAfterLimitIsReached() {
+        LocalDateTime endTime = LocalDateTime.now().plusMinutes(5);
+        when(agendaPort.findSessionWindow(anyString())).thenAnswer(invocation -> Mono.just(window(invocation.getArgument(0), endTime)));
+        for (int i = 0; i < 1_100; i++) {
+            filter.hasVoted("session_" + i, CPF).block();
+        }
+
+        StepVerifier.create(filter.hasVoted("session_new", CPF)).expectNext(false).verifyComplete();
+        StepVerifier.create(filter.hasVoted("session_new", CPF)).expectNext(false).verifyComplete();
+
+        verify(votePort, times(1)).exists("session_new", CPF);
+    }
+
+    private SessionWindow window(String sessionId, LocalDateTime endTime) {
+        return new SessionWindow("agenda_1", sessionId, SessionStatus.OPEN, LocalDateTime.now().minusMinutes(1), endTime);
+    }
+}